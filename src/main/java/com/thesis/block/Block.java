@@ -19,11 +19,12 @@ public abstract class Block extends CodeElement {
 	protected static final String CLOSING_BRACKET = "}";
 	protected static final String BLOCK_START = " " + OPENING_BRACKET + NL;
 	protected static final String BLOCK_END = CLOSING_BRACKET + NL;
+	protected static final String STATEMENT_END = ";" + NL;
 
 	/**
 	 * Buffer used for building of Java representation
 	 */
-	protected StringBuffer buf;
+	protected StringBuilder buf;
 
 	protected final AnnotationParser mAnnotationParser;
 
@@ -37,7 +38,7 @@ public abstract class Block extends CodeElement {
 	 */
 	protected Block(Block parent) {
 		super(parent);
-		buf = new StringBuffer();
+		buf = new StringBuilder();
 		mAnnotationParser = new AnnotationParser();
 		children = new ArrayList<>();
 	}
@@ -104,13 +105,6 @@ public abstract class Block extends CodeElement {
 		return " /* " + comment + " */ ";
 	}
 
-	/**
-	 * Appends semicolon and new line to the buffer
-	 */
-	protected void addStatementEnd() {
-		buf.append(";" + NL);
-	}
-
 	/**
 	 * Removes the first occurrence of the string from the buffer
 	 * @param str text that is to be removed from buffer
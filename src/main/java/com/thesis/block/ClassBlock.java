@@ -2,11 +2,13 @@ package com.thesis.block;
 
 import com.thesis.common.*;
 import com.thesis.exception.DecompilerException;
+import com.thesis.expression.LeafInterner;
 import com.thesis.expression.PrimaryExpression;
 import com.thesis.file.Disassembler;
 import com.thesis.statement.Statement;
+import com.thesis.translator.EnhancerPassManager;
+import com.thesis.translator.MethodCache;
 import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.signature.SignatureReader;
 import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.FieldNode;
 import org.objectweb.asm.tree.InnerClassNode;
@@ -15,7 +17,11 @@ import org.objectweb.asm.tree.MethodNode;
 import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 
 /**
  * Representation of a class
@@ -58,6 +64,42 @@ public class ClassBlock extends Block {
 
 	private String mPackage;
 
+	/**
+	 * Number of methods from which the methods and inner classes are translated as separate parallel tasks
+	 */
+	private int mParallelThreshold = Integer.MAX_VALUE;
+
+	/**
+	 * Manager of the passes that enhance the translated methods, the default one is created
+	 * when the methods are translated if none was set
+	 */
+	private EnhancerPassManager mPassManager;
+
+	/**
+	 * Scope in which the leaf expressions of the translated methods are shared
+	 */
+	private LeafInterner.Scope mLeafInterning = LeafInterner.Scope.NONE;
+
+	/**
+	 * Cache of the statements of identical methods, null if the methods are always translated
+	 */
+	private MethodCache mMethodCache;
+
+	/**
+	 * Disassembler that decompiles the inner classes, null if the inner classes are not decompiled
+	 */
+	private Disassembler mDisassembler;
+
+	/**
+	 * Run before each method is translated, null if there is none
+	 */
+	private Runnable mCheckpoint;
+
+	/**
+	 * Whether the inner classes are decompiled concurrently with the members of this class
+	 */
+	private boolean mPrefetchInnerClasses;
+
 	/**
 	 * Constructor
 	 * @param classNode instance of ASM ClassNode that represents a class
@@ -66,11 +108,47 @@ public class ClassBlock extends Block {
 	public ClassBlock(ClassNode classNode, Block parent) {
 		super(parent);
 		mClassNode = classNode;
-		mParent = parent;
 	}
 
 	@Override
 	public Block disassemble() {
+		disassembleHeader();
+		if (!mPrefetchInnerClasses) {
+			appendMembers();
+			appendInnerClasses(getInnerClassNames());
+			return this;
+		}
+
+		List<ForkJoinTask<CodeElement>> innerClasses = new ArrayList<>();
+		for (String innerClassName : getInnerClassNames()) {
+			innerClasses.add(ForkJoinTask.adapt(() -> decompileInnerClass(innerClassName)).fork());
+		}
+		try {
+			appendMembers();
+			for (ForkJoinTask<CodeElement> innerClass : innerClasses) {
+				children.add(innerClass.join());
+			}
+		} catch (RuntimeException | Error e) {
+			for (ForkJoinTask<CodeElement> innerClass : innerClasses) {
+				innerClass.cancel(false);
+			}
+			throw e;
+		}
+		return this;
+	}
+
+	/**
+	 * Decompiles the class without its inner classes, they can be decompiled separately
+	 * and added by {@link #addInnerClasses(List)}
+	 * @return this class
+	 */
+	public ClassBlock disassembleMembers() {
+		disassembleHeader();
+		appendMembers();
+		return this;
+	}
+
+	private void disassembleHeader() {
 		storeInnerClassesNames(mClassNode.innerClasses);
 
 		mAnnotations = getSingleLineAnnotations(mClassNode.visibleAnnotations, mClassNode.invisibleAnnotations);
@@ -85,10 +163,7 @@ public class ClassBlock extends Block {
 
 		String genericDeclaration = null;
 		if (mClassNode.signature != null) {
-			SignatureVisitor sv = new SignatureVisitor(0);
-			SignatureReader r = new SignatureReader(mClassNode.signature);
-			r.accept(sv);
-			genericDeclaration = sv.getDeclaration();
+			genericDeclaration = SignatureCache.getClassSignature(mClassNode.signature);
 		}
 		if (genericDeclaration != null){
 			mExtends = genericDeclaration;
@@ -98,12 +173,102 @@ public class ClassBlock extends Block {
 				mImplements = getInterfaces(mClassNode.interfaces);
 			}
 		}
+	}
 
+	private void appendMembers() {
 		appendFields(mClassNode.fields);
 		appendMethods(mClassNode.methods);
-		appendInnerClasses(mClassNode.innerClasses);
+	}
 
-		return this;
+	/**
+	 * @return internal names of the inner classes written in this class, in the order they are written
+	 */
+	public List<String> getInnerClassNames() {
+		List<String> names = new ArrayList<>();
+		for (Object object : mClassNode.innerClasses) {
+			InnerClassNode innerClass = (InnerClassNode) object;
+			if (shouldAddInnerClass(innerClass)) {
+				names.add(innerClass.name);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * @param innerClassName internal name of the inner class
+	 * @return name of the file of the inner class relative to the directory of the decompiled classes
+	 */
+	public String getInnerClassFile(String innerClassName) {
+		return mPackage.isEmpty() ? innerClassName : innerClassName.replace(mPackage, "");
+	}
+
+	/**
+	 * Adds the inner classes decompiled separately after {@link #disassembleMembers()}
+	 * @param innerClasses decompiled classes in the order of {@link #getInnerClassNames()},
+	 *                     null for a class whose file was not found
+	 */
+	public void addInnerClasses(List<ClassBlock> innerClasses) {
+		List<String> names = getInnerClassNames();
+		for (int i = 0; i < innerClasses.size(); i++) {
+			ClassBlock innerClass = innerClasses.get(i);
+			children.add(innerClass != null ? innerClass : createMissingInnerClass(names.get(i)));
+		}
+	}
+
+	/**
+	 * Inner classes can be read and decompiled as tasks in the {@link ForkJoinPool} started before the members
+	 * of this class, they are added in their original order when the members are done
+	 * @param prefetchInnerClasses whether the inner classes are decompiled concurrently with the members
+	 */
+	public void setPrefetchInnerClasses(boolean prefetchInnerClasses) {
+		mPrefetchInnerClasses = prefetchInnerClasses;
+	}
+
+	/**
+	 * @param disassembler disassembler that decompiled this class, it decompiles the inner classes
+	 *                     with the same settings, null if the inner classes should not be decompiled
+	 */
+	public void setDisassembler(Disassembler disassembler) {
+		mDisassembler = disassembler;
+	}
+
+	/**
+	 * @param checkpoint run before each method is translated, it can end the translation by throwing
+	 *                   the {@link java.util.concurrent.CancellationException} or run more urgent work
+	 *                   on the translating thread
+	 */
+	public void setCheckpoint(Runnable checkpoint) {
+		mCheckpoint = checkpoint;
+	}
+
+	/**
+	 * Classes with at least the given number of methods translate their methods and inner classes as separate
+	 * tasks in the {@link ForkJoinPool}, the order of the children stays the same as in sequential translation
+	 * @param parallelThreshold number of methods, {@link Integer#MAX_VALUE} disables the parallel translation
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		mParallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * @param passManager manager of the passes that enhance the translated methods, null for the default passes
+	 */
+	public void setPassManager(EnhancerPassManager passManager) {
+		mPassManager = passManager;
+	}
+
+	/**
+	 * @param leafInterning scope in which the leaf expressions of the translated methods are shared
+	 */
+	public void setLeafInterning(LeafInterner.Scope leafInterning) {
+		mLeafInterning = leafInterning;
+	}
+
+	/**
+	 * @param methodCache cache of the statements of identical methods, null if the methods should always be translated
+	 */
+	public void setMethodCache(MethodCache methodCache) {
+		mMethodCache = methodCache;
 	}
 
 	/**
@@ -114,6 +279,13 @@ public class ClassBlock extends Block {
 		mBytecode = bytecode;
 	}
 
+	/**
+	 * @return type of the class
+	 */
+	public DataType getClassType() {
+		return mClassType;
+	}
+
 	/**
 	 *
 	 * @return bytecode of this class and all its inner classes
@@ -170,11 +342,54 @@ public class ClassBlock extends Block {
 	 * @param methods list of {@link MethodNode}s
 	 */
 	private void appendMethods(List methods) {
+		List<Supplier<CodeElement>> tasks = new ArrayList<>(methods.size());
+		LeafInterner classInterner = mLeafInterning == LeafInterner.Scope.CLASS ? new LeafInterner() : null;
+		if (mPassManager == null && !methods.isEmpty()) {
+			mPassManager = EnhancerPassManager.createDefault();
+		}
 		for (Object method : methods) {
 			MethodBlock methodBlock = new MethodBlock((MethodNode)method, this);
 			methodBlock.setClassType(mClassType);
+			methodBlock.setClassName(mClassNode.name);
 			methodBlock.setClassAccess(mClassNode.access);
-			children.add(methodBlock.disassemble());
+			methodBlock.setPassManager(mPassManager);
+			methodBlock.setMethodCache(mMethodCache);
+			if (mLeafInterning == LeafInterner.Scope.METHOD) {
+				methodBlock.setLeafInterner(new LeafInterner());
+			} else if (classInterner != null) {
+				methodBlock.setLeafInterner(classInterner.share());
+			}
+			tasks.add(() -> {
+				if (mCheckpoint != null) {
+					mCheckpoint.run();
+				}
+				return methodBlock.disassemble();
+			});
+		}
+		appendChildren(tasks);
+	}
+
+	/**
+	 * Runs the tasks and adds their results to the children in the order of the tasks
+	 * <p>
+	 * The tasks run in parallel if the class has enough methods to reach the threshold,
+	 * otherwise they run one after another in the current thread
+	 * @param tasks tasks that create the children
+	 */
+	private void appendChildren(List<Supplier<CodeElement>> tasks) {
+		if (mClassNode.methods.size() < mParallelThreshold || tasks.size() < 2) {
+			for (Supplier<CodeElement> task : tasks) {
+				children.add(task.get());
+			}
+			return;
+		}
+		List<ForkJoinTask<CodeElement>> forkJoinTasks = new ArrayList<>(tasks.size());
+		for (Supplier<CodeElement> task : tasks) {
+			forkJoinTasks.add(ForkJoinTask.adapt(task::get));
+		}
+		ForkJoinTask.invokeAll(forkJoinTasks);
+		for (ForkJoinTask<CodeElement> task : forkJoinTasks) {
+			children.add(task.join());
 		}
 	}
 
@@ -192,20 +407,29 @@ public class ClassBlock extends Block {
 
 	/**
 	 * Decompiles inner classes
-	 * @param innerClasses list of {@link InnerClassNode}
+	 * @param innerClassNames internal names of the inner classes
 	 */
-	private void appendInnerClasses(List innerClasses) {
-		for (Object object : innerClasses) {
-			InnerClassNode innerClass = (InnerClassNode) object;
-			if (shouldAddInnerClass(innerClass)) {
-				try {
-					String innerClassName = mPackage.isEmpty() ? innerClass.name : innerClass.name.replace(mPackage, "");
-					children.add(Disassembler.getInstance().decompileInnerClass(innerClassName, this));
-				} catch (DecompilerException e) {
-					children.add(new Statement(new PrimaryExpression(wrapInComment("Classfile of inner class " + innerClass.name + " was not found"),DataType.UNKNOWN), 0, this));
-				}
-			}
+	private void appendInnerClasses(List<String> innerClassNames) {
+		List<Supplier<CodeElement>> tasks = new ArrayList<>();
+		for (String innerClassName : innerClassNames) {
+			tasks.add(() -> decompileInnerClass(innerClassName));
 		}
+		appendChildren(tasks);
+	}
+
+	private CodeElement decompileInnerClass(String innerClassName) {
+		if (mDisassembler == null) {
+			return createMissingInnerClass(innerClassName);
+		}
+		try {
+			return mDisassembler.decompileInnerClass(getInnerClassFile(innerClassName), this);
+		} catch (DecompilerException e) {
+			return createMissingInnerClass(innerClassName);
+		}
+	}
+
+	private CodeElement createMissingInnerClass(String innerClassName) {
+		return new Statement(new PrimaryExpression(wrapInComment("Classfile of inner class " + innerClassName + " was not found"),DataType.UNKNOWN), 0, this);
 	}
 
 	private void storeInnerClassesNames(List innerClasses) {
@@ -253,9 +477,38 @@ public class ClassBlock extends Block {
 				.append(mExtends).append(mImplements)
 				.write(BLOCK_START);
 
-		for (Writable child : children) {
-			child.write(writer);
-		}
+		writeChildren(writer);
 		writer.append(tabs).write(BLOCK_END);
 	}
+
+	/**
+	 * Writes the members and inner classes
+	 * <p>
+	 * If the class has enough methods to reach the parallel threshold, the children are written in parallel
+	 * into separate sinks that are then joined in their order. The writing does not change the children, so it
+	 * can run concurrently. The children are written in the current thread if the writer has to be notified
+	 * about the written elements.
+	 * @param writer destination writer
+	 * @throws IOException in case of an error
+	 */
+	private void writeChildren(Writer writer) throws IOException {
+		if (mClassNode.methods.size() < mParallelThreshold || children.size() < 2 || writer instanceof ElementListener) {
+			for (CodeElement child : children) {
+				writeChild(child, writer);
+			}
+			return;
+		}
+		List<ForkJoinTask<CharSink>> tasks = new ArrayList<>(children.size());
+		for (CodeElement child : children) {
+			tasks.add(ForkJoinTask.adapt(() -> {
+				CharSink sink = new CharSink();
+				child.write(sink);
+				return sink;
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+		for (ForkJoinTask<CharSink> task : tasks) {
+			task.join().writeTo(writer);
+		}
+	}
 }
@@ -2,11 +2,10 @@ package com.thesis.block;
 
 import com.thesis.expression.variable.LocalVariable;
 import com.thesis.common.DataType;
-import com.thesis.common.SignatureVisitor;
+import com.thesis.common.SignatureCache;
 import com.thesis.expression.*;
 import com.thesis.expression.AssignmentExpression.LeftHandSide;
 import com.thesis.statement.Statement;
-import org.objectweb.asm.signature.SignatureReader;
 import org.objectweb.asm.tree.FieldNode;
 
 import java.io.IOException;
@@ -32,6 +31,13 @@ public class FieldBlock extends Block {
 		mFieldNode = fieldNode;
 	}
 
+	/**
+	 * @return name of the field
+	 */
+	public String getName() {
+		return mFieldNode.name;
+	}
+
 	@Override
 	public Block disassemble() {
 		mAnnotations = getSingleLineAnnotations(mFieldNode.visibleAnnotations, mFieldNode.invisibleAnnotations);
@@ -59,10 +65,7 @@ public class FieldBlock extends Block {
 
 	private DataType getType(String desc, String signature) {
 		if (signature != null) {
-			SignatureVisitor sv = new SignatureVisitor(0);
-			SignatureReader r = new SignatureReader(signature);
-			r.acceptType(sv);
-			return DataType.getTypeFromObject(sv.getDeclaration());
+			return SignatureCache.getTypeSignature(signature);
 		} else {
 			return DataType.getTypeFromDesc(desc);
 		}
@@ -73,6 +76,6 @@ public class FieldBlock extends Block {
 		printList(writer, mAnnotations);
 		writer.write(getTabs());
 		writer.write(mAccessFlags);
-		children.get(0).write(writer);
+		writeChild(children.get(0), writer);
 	}
 }
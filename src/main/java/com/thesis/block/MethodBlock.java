@@ -1,11 +1,16 @@
 package com.thesis.block;
 
-import com.thesis.common.Writable;
+import com.thesis.common.CodeElement;
+import com.thesis.translator.EnhancerPassManager;
 import com.thesis.translator.InstructionTranslator;
+import com.thesis.translator.MethodCache;
+import com.thesis.expression.LeafInterner;
 import com.thesis.expression.variable.LocalVariable;
+import com.thesis.expression.variable.Variable;
 import com.thesis.common.DataType;
 import com.thesis.common.SignatureVisitor;
 import com.thesis.common.Util;
+import com.thesis.statement.Statement;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.signature.SignatureReader;
@@ -23,6 +28,11 @@ public class MethodBlock extends Block {
 	 */
 	private DataType mClassType;
 
+	/**
+	 * Internal name of the enclosing class
+	 */
+	private String mClassName;
+
 	/**
 	 * Acces flags of the enclosing class
 	 */
@@ -65,6 +75,20 @@ public class MethodBlock extends Block {
 	 */
 	private String mName;
 
+	/**
+	 * Manager of the passes that enhance the translated code
+	 */
+	private EnhancerPassManager mPassManager;
+
+	/**
+	 * Interner of the leaf expressions of the translated code, null if the leaves are not shared
+	 */
+	private LeafInterner mLeafInterner;
+
+	/**
+	 * Cache of the statements of identical methods, null if the method is always translated
+	 */
+	private MethodCache mMethodCache;
 
 	public MethodBlock(MethodNode methodNode, Block parent) {
 		super(parent);
@@ -94,6 +118,49 @@ public class MethodBlock extends Block {
 		return mClassType;
 	}
 
+	/**
+	 * @param className internal name of the enclosing class
+	 */
+	public void setClassName(String className) {
+		mClassName = className;
+	}
+
+	/**
+	 * @param passManager manager of the passes that enhance the translated code
+	 */
+	public void setPassManager(EnhancerPassManager passManager) {
+		mPassManager = passManager;
+	}
+
+	public EnhancerPassManager getPassManager() {
+		return mPassManager;
+	}
+
+	/**
+	 * @param leafInterner interner of the leaf expressions of the translated code, null if they should not be shared
+	 */
+	public void setLeafInterner(LeafInterner leafInterner) {
+		mLeafInterner = leafInterner;
+	}
+
+	public LeafInterner getLeafInterner() {
+		return mLeafInterner;
+	}
+
+	/**
+	 * @param methodCache cache of the statements of identical methods, null if the method should always be translated
+	 */
+	public void setMethodCache(MethodCache methodCache) {
+		mMethodCache = methodCache;
+	}
+
+	/**
+	 * @return name of the method as it is written, the constructors have the name of the class
+	 */
+	public String getName() {
+		return mName;
+	}
+
 	/**
 	 * @return method arguments (variables mapped to their postions)
 	 */
@@ -114,9 +181,23 @@ public class MethodBlock extends Block {
 	private void disassembleCodeBlock() {
 		clearBuffer();
 		if (!Util.containsFlag(mMethodNode.access, Opcodes.ACC_ABSTRACT)){
-			InstructionTranslator translator = new InstructionTranslator(this);
+			if (mMethodCache != null && mClassName != null) {
+				children.addAll(mMethodCache.getStatements(mMethodNode, mClassName, mClassAccess, getDepth(), mPassManager,
+						this::translate));
+				mLeafInterner = null;
+			} else {
+				children.addAll(translate());
+			}
+		}
+	}
+
+	private List<Statement> translate() {
+		InstructionTranslator translator = InstructionTranslator.obtain(this);
+		try {
 			translator.translate();
-			children.addAll(translator.getStatements());
+			return translator.getStatements();
+		} finally {
+			translator.release();
 		}
 	}
 
@@ -188,12 +269,12 @@ public class MethodBlock extends Block {
 		}
 	}
 
-	private String getMethodArgs(MethodNode method, String genericDecl) {
+	private void writeMethodArgs(Writer writer, MethodNode method, String genericDecl) throws IOException {
 		boolean isStatic = Util.containsFlag(method.access, Opcodes.ACC_STATIC);
-		clearBuffer();
-		buf.append("(");
+		boolean isVarArgs = Util.containsFlag(method.access, Opcodes.ACC_VARARGS);
+		writer.write("(");
 		if (genericDecl != null && !genericDecl.isEmpty()) {
-			buf.append(genericDecl);
+			writer.write(isVarArgs ? toVarArgs(genericDecl) : genericDecl);
 		} else {
 			int maxArgumentCount;
 			if (isStatic){
@@ -202,24 +283,31 @@ public class MethodBlock extends Block {
 				maxArgumentCount = mArguments.size()-1;
 			}
 			for (int i = 0; i < maxArgumentCount; i++) {
-				buf.append(Util.getCommaIfNeeded(i));
-				addAnnotations(method, i);
+				writer.write(Util.getCommaIfNeeded(i));
+				writeAnnotations(writer, method, i);
 				LocalVariable variable = mArguments.get(isStatic ? i : i+1);
-				buf.append(variable.getType().print()).append(" ").append(variable.toString());
+				String type = variable.getType().print();
+				writer.append(isVarArgs && i == maxArgumentCount - 1 ? toVarArgs(type) : type).append(" ");
+				variable.writeName(writer);
 			}
 		}
-		if (Util.containsFlag(method.access, Opcodes.ACC_VARARGS)) {
-			int lastBrackets = buf.lastIndexOf("[]");
-			buf.replace(lastBrackets, lastBrackets+2, "...");
-		}
-		buf.append(")");
-		return buf.toString();
+		writer.write(")");
+	}
+
+	/**
+	 * @param declaration declaration of the arguments or of the last argument type
+	 * @return declaration with the last array brackets replaced by the variable arity ellipsis
+	 */
+	private static String toVarArgs(String declaration) {
+		int lastBrackets = declaration.lastIndexOf("[]");
+		if (lastBrackets < 0) return declaration;
+		return declaration.substring(0, lastBrackets) + "..." + declaration.substring(lastBrackets + 2);
 	}
 
 	private void generateArguments(MethodNode method) {
 		boolean isStatic = Util.containsFlag(mMethodNode.access, Opcodes.ACC_STATIC);
 		if (!isStatic) {
-			LocalVariable thisArgument = new LocalVariable("this", mClassType, 0);
+			LocalVariable thisArgument = new LocalVariable(Variable.THIS, mClassType, 0);
 			thisArgument.setIsArgument(true);
 			mArguments.put(0, thisArgument);
 		}
@@ -244,53 +332,38 @@ public class MethodBlock extends Block {
 		mArguments.put(variable.getIndex(), variable);
 	}
 
-	private void addAnnotations(MethodNode method, int i) {
-		addParameterAnnotations(method.invisibleParameterAnnotations, i);
-		addParameterAnnotations(method.visibleParameterAnnotations, i);
+	private void writeAnnotations(Writer writer, MethodNode method, int i) throws IOException {
+		writeParameterAnnotations(writer, method.invisibleParameterAnnotations, i);
+		writeParameterAnnotations(writer, method.visibleParameterAnnotations, i);
 	}
 
-	private void addParameterAnnotations(List[] parameterAnnotationsList, int currentParameter) {
+	private void writeParameterAnnotations(Writer writer, List[] parameterAnnotationsList, int currentParameter) throws IOException {
 		if (parameterAnnotationsList == null) return;
 		if (parameterAnnotationsList[currentParameter] != null)
-			addAllTypeAnnotations(parameterAnnotationsList[currentParameter]);
-	}
-
-	private void addAllTypeAnnotations(List... annotationLists){
-		for (List annotationNodeList : annotationLists){
-			buf.append(mAnnotationParser.getAnnotations(annotationNodeList, " "));
-		}
+			writer.write(mAnnotationParser.getAnnotations(parameterAnnotationsList[currentParameter], " "));
 	}
 
-	private String getExceptions(List exceptions, String genericExceptions) {
-		clearBuffer();
+	private void writeExceptions(Writer writer, List exceptions, String genericExceptions) throws IOException {
 		if (genericExceptions != null && !genericExceptions.isEmpty()) {
-			buf.append(genericExceptions);
+			writer.write(genericExceptions);
 		} else {
 			if (exceptions != null && exceptions.size() > 0) {
-				buf.append(" throws ");
+				writer.write(" throws ");
 				for (int i = 0; i < exceptions.size(); ++i) {
-					buf.append(Util.getCommaIfNeeded(i));
-					buf.append(Type.getObjectType((String)exceptions.get(i)).getClassName());
+					writer.write(Util.getCommaIfNeeded(i));
+					writer.write(Type.getObjectType((String)exceptions.get(i)).getClassName());
 				}
 			}
 		}
-		return buf.toString();
 	}
 
-	private String getAbstractMethodDeclarationEnding(MethodNode method) {
-		clearBuffer();
+	private void writeAbstractMethodDeclarationEnding(Writer writer, MethodNode method) throws IOException {
 		if (Util.containsFlag(method.access, Opcodes.ACC_ABSTRACT)) {
 			if (method.annotationDefault != null) {
-				buf.append(" default ");
-				addAnnotationValue(method.annotationDefault);
+				writer.append(" default ").append(mAnnotationParser.getAnnotationValue(method.annotationDefault));
 			}
-			addStatementEnd();
+			writer.write(STATEMENT_END);
 		}
-		return buf.toString();
-	}
-
-	private void addAnnotationValue(Object value) {
-		buf.append(mAnnotationParser.getAnnotationValue(value));
 	}
 
 	@Override
@@ -302,14 +375,19 @@ public class MethodBlock extends Block {
 		writer.write(mAccessFlags);
 		writer.write(Util.isConstructor(mMethodNode.name) ? "" : (getReturnType(mMethodNode.desc, mGenericReturnType).print() + " "));
 		writer.write(mName);
-		writer.write(getMethodArgs(mMethodNode, mGenericArgs));
-		writer.write(getExceptions(mMethodNode.exceptions, mGenericExceptions));
-		writer.write(getAbstractMethodDeclarationEnding(mMethodNode));
+		writeMethodArgs(writer, mMethodNode, mGenericArgs);
+		writeExceptions(writer, mMethodNode.exceptions, mGenericExceptions);
+		writeAbstractMethodDeclarationEnding(writer, mMethodNode);
 
 		if (!Util.containsFlag(mMethodNode.access, Opcodes.ACC_ABSTRACT)){
 			writer.write(BLOCK_START);
-			for(Writable child : children) {
-				child.write(writer);
+			Set<LocalVariable> outerScope = LocalVariable.openDeclarationScope();
+			try {
+				for(CodeElement child : children) {
+					writeChild(child, writer);
+				}
+			} finally {
+				LocalVariable.closeDeclarationScope(outerScope);
 			}
 			writer.append(tabs).write(BLOCK_END);
 		}
@@ -3,18 +3,26 @@ package com.thesis.common;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AnnotationNode;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A class that provides parsing of annotations and returns them in a single String
+ * <p>
+ * The same annotations repeat on many members and classes, so the rendered annotations are shared by all parsers
+ * in a cache keyed by the content of the annotation node, see {@link AnnotationKey}. The cache holds at most
+ * {@code thesis.annotation.cache.capacity} entries.
  */
 public class AnnotationParser {
 
-	private StringBuffer buf;
+	private static final BoundedCache<AnnotationKey, String> mRenderedAnnotations =
+			new BoundedCache<>(Integer.getInteger("thesis.annotation.cache.capacity", 1024));
 
-	public AnnotationParser() {
-		buf = new StringBuffer();
-	}
+	/**
+	 * Created when the parser renders its first value
+	 */
+	private StringBuilder buf;
 
 	/**
 	 * Converts the annotation list to Java source string
@@ -36,13 +44,25 @@ public class AnnotationParser {
 	public String getAnnotations(List annotations, String prefix, String suffix) {
 		if (annotations == null) return "";
 
-		buf.setLength(0);
+		StringBuilder result = new StringBuilder();
 		for (Object annotation : annotations) {
-			if (prefix != null) buf.append(prefix);
-			addAnnotationNode(((AnnotationNode)annotation).desc, ((AnnotationNode)annotation).values);
-			if (suffix != null) buf.append(suffix);
+			if (prefix != null) result.append(prefix);
+			result.append(getAnnotation((AnnotationNode) annotation));
+			if (suffix != null) result.append(suffix);
 		}
-		return buf.toString();
+		return result.toString();
+	}
+
+	/**
+	 * @param annotation annotation node
+	 * @return textual representation of the annotation
+	 */
+	public String getAnnotation(AnnotationNode annotation) {
+		return mRenderedAnnotations.get(new AnnotationKey(annotation), key -> {
+			clearBuffer();
+			addAnnotationNode(annotation.desc, annotation.values);
+			return buf.toString();
+		});
 	}
 
 	/**
@@ -51,7 +71,7 @@ public class AnnotationParser {
 	 * @return textual representation of the value
 	 */
 	public String getAnnotationValue(Object value) {
-		buf.setLength(0);
+		clearBuffer();
 		addAnnotationValue(null, value);
 		return buf.toString();
 	}
@@ -96,8 +116,82 @@ public class AnnotationParser {
 		}
 	}
 
+	private void clearBuffer() {
+		if (buf == null) {
+			buf = new StringBuilder();
+		} else {
+			buf.setLength(0);
+		}
+	}
+
 	private void addComma(int currentPosition) {
 		if (currentPosition > 0)
 			buf.append(", ");
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Key that compares the annotation nodes by their type and values, nested lists and annotations included
+	 * <p>
+	 * Arrays other than the enum values are compared by identity, the values of other arrays are not rendered.
+	 */
+	static class AnnotationKey {
+		private final String mDesc;
+		private final List mValues;
+		private final int mHash;
+
+		AnnotationKey(AnnotationNode annotation) {
+			mDesc = annotation.desc;
+			mValues = annotation.values;
+			mHash = 31 * Objects.hashCode(mDesc) + valueHash(mValues);
+		}
+
+		private static int valueHash(Object value) {
+			if (value instanceof List) {
+				int hash = 1;
+				for (Object item : (List) value) {
+					hash = 31 * hash + valueHash(item);
+				}
+				return hash;
+			} else if (value instanceof AnnotationNode) {
+				return 31 * Objects.hashCode(((AnnotationNode) value).desc) + valueHash(((AnnotationNode) value).values);
+			} else if (value instanceof String[]) {
+				return Arrays.hashCode((String[]) value);
+			}
+			return Objects.hashCode(value);
+		}
+
+		private static boolean valueEquals(Object value, Object other) {
+			if (value == other) return true;
+			if (value == null || other == null) return false;
+			if (value instanceof List && other instanceof List) {
+				List values = (List) value;
+				List others = (List) other;
+				if (values.size() != others.size()) return false;
+				for (int i = 0; i < values.size(); i++) {
+					if (!valueEquals(values.get(i), others.get(i))) return false;
+				}
+				return true;
+			} else if (value instanceof AnnotationNode && other instanceof AnnotationNode) {
+				return Objects.equals(((AnnotationNode) value).desc, ((AnnotationNode) other).desc)
+						&& valueEquals(((AnnotationNode) value).values, ((AnnotationNode) other).values);
+			} else if (value instanceof String[] && other instanceof String[]) {
+				return Arrays.equals((String[]) value, (String[]) other);
+			}
+			return value.equals(other);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			AnnotationKey other = (AnnotationKey) o;
+			return mHash == other.mHash && Objects.equals(mDesc, other.mDesc) && valueEquals(mValues, other.mValues);
+		}
+
+		@Override
+		public int hashCode() {
+			return mHash;
+		}
+	}
+}
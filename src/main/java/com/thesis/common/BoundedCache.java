@@ -0,0 +1,49 @@
+package com.thesis.common;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Concurrent map that evicts an arbitrary entry when it grows over its capacity
+ * <p>
+ * Used for the caches shared by all classes that are decompiled, possibly from several threads at once
+ */
+class BoundedCache<K, V> {
+	private final Map<K, V> mEntries = new ConcurrentHashMap<>();
+	private final int mCapacity;
+
+	BoundedCache(int capacity) {
+		mCapacity = capacity;
+	}
+
+	/**
+	 * @param key key of the entry
+	 * @param creator creates the value if the key is not cached, must not use this cache
+	 * @return cached or created value
+	 */
+	V get(K key, Function<? super K, ? extends V> creator) {
+		V value = mEntries.get(key);
+		if (value != null) return value;
+
+		value = mEntries.computeIfAbsent(key, creator);
+		if (mEntries.size() > mCapacity) {
+			evictOtherThan(key);
+		}
+		return value;
+	}
+
+	private void evictOtherThan(K key) {
+		Iterator<K> keys = mEntries.keySet().iterator();
+		while (keys.hasNext() && mEntries.size() > mCapacity) {
+			if (!keys.next().equals(key)) {
+				keys.remove();
+			}
+		}
+	}
+
+	void clear() {
+		mEntries.clear();
+	}
+}
@@ -0,0 +1,124 @@
+package com.thesis.common;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Unsynchronized writer that collects the characters in a growable array
+ * <p>
+ * Used as the destination of the rendering of the decompiled code, unlike {@link java.io.StringWriter}
+ * it does not lock and copy the written strings, and it can be reused by calling {@link #reset()}.
+ * An instance must be used by a single thread at a time.
+ */
+public final class CharSink extends Writer {
+	private static final int DEFAULT_CAPACITY = 1024;
+
+	private char[] mChars;
+	private int mLength;
+
+	public CharSink() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity initial number of characters that fit in the sink
+	 */
+	public CharSink(int capacity) {
+		mChars = new char[Math.max(capacity, 16)];
+	}
+
+	@Override
+	public void write(int c) {
+		ensureCapacity(mLength + 1);
+		mChars[mLength++] = (char) c;
+	}
+
+	@Override
+	public void write(char[] chars, int offset, int length) {
+		ensureCapacity(mLength + length);
+		System.arraycopy(chars, offset, mChars, mLength, length);
+		mLength += length;
+	}
+
+	@Override
+	public void write(String str) {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public void write(String str, int offset, int length) {
+		ensureCapacity(mLength + length);
+		str.getChars(offset, offset + length, mChars, mLength);
+		mLength += length;
+	}
+
+	@Override
+	public CharSink append(CharSequence csq) {
+		String str = String.valueOf(csq);
+		write(str, 0, str.length());
+		return this;
+	}
+
+	@Override
+	public CharSink append(CharSequence csq, int start, int end) {
+		String str = String.valueOf(csq);
+		write(str, start, end - start);
+		return this;
+	}
+
+	@Override
+	public CharSink append(char c) {
+		write(c);
+		return this;
+	}
+
+	/**
+	 * @return number of written characters
+	 */
+	public int length() {
+		return mLength;
+	}
+
+	/**
+	 * @return number of characters that fit in the sink without growing it
+	 */
+	public int capacity() {
+		return mChars.length;
+	}
+
+	/**
+	 * Writes the collected characters to another writer
+	 * @param writer destination writer
+	 * @throws IOException in case of an error of the destination
+	 */
+	public void writeTo(Writer writer) throws IOException {
+		writer.write(mChars, 0, mLength);
+	}
+
+	/**
+	 * Discards the written characters, the allocated array is kept for the next use
+	 */
+	public void reset() {
+		mLength = 0;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > mChars.length) {
+			mChars = Arrays.copyOf(mChars, Math.max(capacity, mChars.length * 2));
+		}
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public String toString() {
+		return new String(mChars, 0, mLength);
+	}
+}
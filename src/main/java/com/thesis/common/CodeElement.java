@@ -1,47 +1,273 @@
 package com.thesis.common;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
 /**
  * General representation of a Java source element
  */
 public abstract class CodeElement implements Writable {
 	protected static final String TAB = "\t";
 
+	/**
+	 * Depth from which the elements are written iteratively, see {@link #writeChild(CodeElement, Writer)}
+	 */
+	private static final int ITERATIVE_WRITE_DEPTH = 48;
+
+	/**
+	 * Indents for the nesting depths that are common, deeper indents are built on demand
+	 */
+	private static final String[] mIndents = new String[32];
+
+	static {
+		mIndents[0] = "";
+		for (int i = 1; i < mIndents.length; i++) {
+			mIndents[i] = mIndents[i - 1] + TAB;
+		}
+	}
+
 	/**
 	 * Enclosing CodeElement
 	 */
 	protected CodeElement mParent;
 
+	/**
+	 * Number of parents, set when the element is attached to its parent
+	 */
+	private int mDepth;
+
 	public CodeElement(CodeElement parent) {
-		mParent = parent;
+		setParent(parent);
 	}
 
+	/**
+	 * Attaches the element to the parent, the depth of the elements already attached to this element is not changed,
+	 * so the element should be attached before its own children are created
+	 * @param parent enclosing element, null if there is none
+	 */
 	public void setParent(CodeElement parent) {
 		mParent = parent;
+		mDepth = parent == null ? 0 : parent.mDepth + 1;
 	}
 
 	/**
-	 * Counts the number of parents
-	 * @return 0 if the element has no parents
+	 * Detaches the element from its parent so it does not hold the enclosing elements, the depth is kept
 	 */
-	private int countParents() {
-		int parent = 0;
-		if (mParent != null) {
-			parent = mParent.countParents();
-			parent += 1;
-		}
-		return parent;
+	public void detach() {
+		mParent = null;
 	}
 
 	/**
-	 * Counts the number of tabs depending on the number of parents
-	 * @return string of tabs
+	 * @return number of parents, 0 if the element has no parents
+	 */
+	protected int getDepth() {
+		return mDepth;
+	}
+
+	/**
+	 * @return string of tabs depending on the number of parents
 	 */
 	protected String getTabs() {
-		StringBuilder buf = new StringBuilder();
-		int parents = countParents();
-		for(int i = 0; i < parents; i++) {
+		return getIndent(mDepth);
+	}
+
+	/**
+	 * Writes the child element, a writer that is an {@link ElementListener} is notified where the child starts and ends
+	 * <p>
+	 * An element nested deeper than {@link #ITERATIVE_WRITE_DEPTH} is written without recursion: each element writes
+	 * its own text into a buffer where its children are only marked, the marked children are then written in place
+	 * from an explicit stack. A part of the element that follows a child and that depends on the state of the writing,
+	 * e.g. an expression that declares a variable, has to be written by {@link #writePart(Writable, Writer)}
+	 * so that it is written after the child.
+	 * @param child element to write
+	 * @param writer destination writer
+	 * @throws IOException in case of an error
+	 */
+	protected static void writeChild(CodeElement child, Writer writer) throws IOException {
+		if (writer instanceof DeferringWriter) {
+			((DeferringWriter) writer).addPart(new ChildPart(child));
+		} else if (child.mDepth >= ITERATIVE_WRITE_DEPTH) {
+			writeIteratively(child, writer);
+		} else if (writer instanceof ElementListener) {
+			ElementListener listener = (ElementListener) writer;
+			listener.startElement(child);
+			child.write(writer);
+			listener.endElement(child);
+		} else {
+			child.write(writer);
+		}
+	}
+
+	/**
+	 * Writes the part of an element that follows a child, see {@link #writeChild(CodeElement, Writer)}
+	 * @param part part to write
+	 * @param writer destination writer
+	 * @throws IOException in case of an error
+	 */
+	protected static void writePart(Writable part, Writer writer) throws IOException {
+		if (writer instanceof DeferringWriter) {
+			((DeferringWriter) writer).addPart(new DeferredPart(part));
+		} else {
+			part.write(writer);
+		}
+	}
+
+	private static void writeIteratively(CodeElement element, Writer writer) throws IOException {
+		ElementListener listener = writer instanceof ElementListener ? (ElementListener) writer : null;
+		Deque<Part> pending = new ArrayDeque<>();
+		pending.push(new ChildPart(element));
+		Part part;
+		while ((part = pending.poll()) != null) {
+			part.write(writer, listener, pending);
+		}
+	}
+
+	/**
+	 * @param depth number of tabs
+	 * @return string of tabs, empty if the depth is not positive
+	 */
+	protected static String getIndent(int depth) {
+		if (depth <= 0) return mIndents[0];
+		if (depth < mIndents.length) return mIndents[depth];
+
+		StringBuilder buf = new StringBuilder(depth);
+		for (int i = 0; i < depth; i++) {
 			buf.append(TAB);
 		}
 		return buf.toString();
 	}
+
+	/**
+	 * Collects the text of an element that is written iteratively, the children and the deferred parts are kept
+	 * in their order between the text so that they can be written in place later
+	 */
+	private static class DeferringWriter extends Writer {
+		private final List<Part> mParts = new ArrayList<>();
+		private final StringBuilder mText = new StringBuilder();
+
+		void addPart(Part part) {
+			flushText();
+			mParts.add(part);
+		}
+
+		/**
+		 * Pushes the collected parts so that the first one is on the top
+		 * @param pending parts waiting to be written
+		 */
+		void pushParts(Deque<Part> pending) {
+			flushText();
+			for (int i = mParts.size() - 1; i >= 0; i--) {
+				pending.push(mParts.get(i));
+			}
+		}
+
+		private void flushText() {
+			if (mText.length() > 0) {
+				mParts.add(new TextPart(mText.toString()));
+				mText.setLength(0);
+			}
+		}
+
+		@Override
+		public void write(char[] chars, int offset, int length) {
+			mText.append(chars, offset, length);
+		}
+
+		@Override
+		public void write(String str, int offset, int length) {
+			mText.append(str, offset, offset + length);
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	/**
+	 * Part of the code that is written iteratively
+	 */
+	private interface Part {
+
+		/**
+		 * Writes the part, the parts it consists of are pushed to the pending parts to be written next
+		 * @param writer destination writer
+		 * @param listener destination writer if it is notified about the written elements, otherwise null
+		 * @param pending parts waiting to be written
+		 * @throws IOException in case of an error
+		 */
+		void write(Writer writer, ElementListener listener, Deque<Part> pending) throws IOException;
+	}
+
+	private static class TextPart implements Part {
+		private final String mText;
+
+		TextPart(String text) {
+			mText = text;
+		}
+
+		@Override
+		public void write(Writer writer, ElementListener listener, Deque<Part> pending) throws IOException {
+			writer.write(mText);
+		}
+	}
+
+	/**
+	 * Part written after the children that precede it, see {@link #writePart(Writable, Writer)}
+	 */
+	private static class DeferredPart implements Part {
+		private final Writable mWritable;
+
+		DeferredPart(Writable writable) {
+			mWritable = writable;
+		}
+
+		@Override
+		public void write(Writer writer, ElementListener listener, Deque<Part> pending) throws IOException {
+			DeferringWriter partWriter = new DeferringWriter();
+			mWritable.write(partWriter);
+			partWriter.pushParts(pending);
+		}
+	}
+
+	private static class ChildPart extends DeferredPart {
+		private final CodeElement mElement;
+
+		ChildPart(CodeElement element) {
+			super(element);
+			mElement = element;
+		}
+
+		@Override
+		public void write(Writer writer, ElementListener listener, Deque<Part> pending) throws IOException {
+			if (listener != null) {
+				listener.startElement(mElement);
+				pending.push(new ElementEnd(mElement));
+			}
+			super.write(writer, listener, pending);
+		}
+	}
+
+	/**
+	 * Marks where the element written iteratively ends, to notify the {@link ElementListener}
+	 */
+	private static class ElementEnd implements Part {
+		private final CodeElement mElement;
+
+		ElementEnd(CodeElement element) {
+			mElement = element;
+		}
+
+		@Override
+		public void write(Writer writer, ElementListener listener, Deque<Part> pending) throws IOException {
+			listener.endElement(mElement);
+		}
+	}
 }
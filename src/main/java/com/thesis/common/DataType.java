@@ -3,12 +3,19 @@ package com.thesis.common;
 import org.objectweb.asm.Type;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Representation of a Java type
  *
  * handles the translation from bytecode type to Java type
+ * <p>
+ * The instances are immutable and interned in bounded caches, so the types in use mostly share a single instance
+ * for each type name and array dimension. The caches hold at most {@link #CAPACITY} entries each, when one is full
+ * an arbitrary entry is evicted and the type is created again when it is needed, the types must be compared
+ * by {@link #equals(Object)}. The capacity is set by the {@code thesis.datatype.cache.capacity} system property.
  */
 public class DataType {
 
@@ -28,7 +35,7 @@ public class DataType {
 		BOOLEAN(new DataType("boolean")),
 		VOID(new DataType("void"));
 
-		private DataType mType;
+		private final DataType mType;
 
 		SimpleType(DataType type) {
 			mType = type;
@@ -41,20 +48,6 @@ public class DataType {
 			return mType;
 		}
 
-		/**
-		 * Method to check if the string is one of the simple types
-		 * @param string type string
-		 * @return true if the string is a simple type, false otherwise
-		 */
-		public static boolean contains(String string) {
-			for(SimpleType type : SimpleType.values()) {
-				if (type.toString().equals(string)) {
-					return true;
-				}
-			}
-			return false;
-		}
-
 		@Override
 		public String toString() {
 			return mType.toString();
@@ -77,24 +70,65 @@ public class DataType {
 	 */
 	public static final List<DataType> INT_SUBTYPES = Arrays.asList(BOOLEAN, BYTE, CHAR, SHORT, INT);
 
-	private String mTypeString;
 	/**
-	 * Array dimension, non-array types have dimension 0
+	 * Maximal number of entries of each cache of the interned types
+	 */
+	public static final int CAPACITY = Integer.getInteger("thesis.datatype.cache.capacity", 4096);
+
+	/**
+	 * Simple types and {@link #UNKNOWN}, they are never evicted
+	 */
+	private static final Map<String, DataType> mConstantTypes = new HashMap<>();
+
+	/**
+	 * Interned types by their Java name including the array brackets
 	 */
-	private int mDimension;
+	private static final BoundedCache<String, DataType> mTypes = new BoundedCache<>(CAPACITY);
 
-	private DataType(String typeString) {
-		mTypeString = typeString;
-		mDimension = 0;
+	/**
+	 * Interned types by the object names and descriptors they were created from
+	 */
+	private static final BoundedCache<String, DataType> mObjectTypes = new BoundedCache<>(CAPACITY);
+	private static final BoundedCache<String, DataType> mDescTypes = new BoundedCache<>(CAPACITY);
+
+	static {
+		for (SimpleType type : SimpleType.values()) {
+			mConstantTypes.put(type.getType().mName, type.getType());
+		}
+		mConstantTypes.put(UNKNOWN.mName, UNKNOWN);
 	}
 
-	private DataType(Type type) {
-		mTypeString = type.getClassName();
-		mDimension = 0;
-		while (mTypeString.endsWith("[]")) {
-			mTypeString = mTypeString.substring(0, mTypeString.length() - 2);
-			mDimension++;
+	private final String mTypeString;
+	/**
+	 * Array dimension, non-array types have dimension 0
+	 */
+	private final int mDimension;
+	private final String mName;
+	private final String mBrackets;
+	private final String mStaticPrint;
+	private final boolean mReferenceType;
+
+	/**
+	 * Last printed form with the display name it was created from, see {@link #print()}
+	 */
+	private volatile PrintedForm mPrintedForm;
+
+	/**
+	 * @param name Java type name, array types end with brackets
+	 */
+	private DataType(String name) {
+		int dimension = 0;
+		int baseLength = name.length();
+		while (name.startsWith("[]", baseLength - 2)) {
+			baseLength -= 2;
+			dimension++;
 		}
+		mName = name;
+		mTypeString = name.substring(0, baseLength);
+		mDimension = dimension;
+		mBrackets = name.substring(baseLength);
+		mStaticPrint = mTypeString.replace('$','.') + mBrackets;
+		mReferenceType = !isSimpleTypeName(mTypeString);
 	}
 
 	/**
@@ -104,7 +138,7 @@ public class DataType {
 	 */
 	public static DataType getTypeFromDesc(String desc) {
 		if (desc == null || desc.isEmpty()) return UNKNOWN;
-		return new DataType(Type.getType(desc));
+		return mDescTypes.get(desc, key -> intern(Type.getType(key).getClassName()));
 	}
 
 	/**
@@ -114,7 +148,7 @@ public class DataType {
 	 */
 	public static DataType getTypeFromObject(String objectType) {
 		if (objectType == null || objectType.isEmpty()) return UNKNOWN;
-		return new DataType(Type.getObjectType(objectType));
+		return mObjectTypes.get(objectType, key -> intern(Type.getObjectType(key).getClassName()));
 	}
 
 	/**
@@ -123,14 +157,45 @@ public class DataType {
 	 * @return data type instance
 	 */
 	public static DataType getType(Type type) {
-		return new DataType(type);
+		return intern(type.getClassName());
+	}
+
+	private static DataType intern(String name) {
+		DataType type = mConstantTypes.get(name);
+		return type != null ? type : mTypes.get(name, DataType::new);
+	}
+
+	/**
+	 * Removes all interned types except the simple types and {@link #UNKNOWN}
+	 */
+	public static void clear() {
+		mTypes.clear();
+		mObjectTypes.clear();
+		mDescTypes.clear();
+	}
+
+	private static boolean isSimpleTypeName(String name) {
+		switch (name) {
+			case "int":
+			case "long":
+			case "float":
+			case "double":
+			case "byte":
+			case "char":
+			case "short":
+			case "boolean":
+			case "void":
+				return true;
+			default:
+				return false;
+		}
 	}
 
 	/**
 	 * @return returns true if the type is not a SimpleType {@link com.thesis.common.DataType.SimpleType}
 	 */
 	public boolean isReferenceType() {
-		return !SimpleType.contains(this.mTypeString);
+		return mReferenceType;
 	}
 
 	/**
@@ -147,31 +212,28 @@ public class DataType {
 		return mDimension;
 	}
 
-	public void setDimension(int dimension) {
-		mDimension = dimension;
-	}
-
 	/**
 	 * Prints the text representation of the type
+	 * <p>
+	 * The display name of the type may change when an inner class of that name is found, so the printed form
+	 * is cached together with the display name it was created from
 	 * @return Java representation of the type
 	 */
 	public String print(){
-		return Util.javaObjectName(mTypeString) + printBrackets();
-	}
+		String displayName = Util.javaObjectName(mTypeString);
+		if (mBrackets.isEmpty()) return displayName;
 
-	private String printBrackets() {
-		String brackets = "";
-		if (isArrayType()) {
-			for (int i = 0; i < mDimension; i++) {
-				brackets += "[]";
-			}
+		PrintedForm printedForm = mPrintedForm;
+		if (printedForm == null || printedForm.mDisplayName != displayName) {
+			printedForm = new PrintedForm(displayName, displayName + mBrackets);
+			mPrintedForm = printedForm;
 		}
-		return brackets;
+		return printedForm.mPrinted;
 	}
 
 	public String print(boolean isStatic) {
 		if(isStatic) {
-			return mTypeString.replace('$','.') + printBrackets();
+			return mStaticPrint;
 		}
 		return print();
 	}
@@ -200,6 +262,13 @@ public class DataType {
 		return typeString;
 	}
 
+	/**
+	 * @return true if the type has no name
+	 */
+	public boolean isEmpty() {
+		return mTypeString.isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return mTypeString;
@@ -221,4 +290,14 @@ public class DataType {
 	public int hashCode() {
 		return mTypeString.hashCode();
 	}
+
+	private static class PrintedForm {
+		private final String mDisplayName;
+		private final String mPrinted;
+
+		PrintedForm(String displayName, String printed) {
+			mDisplayName = displayName;
+			mPrinted = printed;
+		}
+	}
 }
@@ -0,0 +1,25 @@
+package com.thesis.common;
+
+import java.io.IOException;
+
+/**
+ * Writer that is notified where the written code elements start and end, see {@link CodeElement#writeChild}
+ * <p>
+ * All text written between the two notifications belongs to the element or to its children.
+ */
+public interface ElementListener {
+
+	/**
+	 * Called before the element is written
+	 * @param element written element
+	 * @throws IOException in case of an error
+	 */
+	void startElement(CodeElement element) throws IOException;
+
+	/**
+	 * Called after the element was written
+	 * @param element written element
+	 * @throws IOException in case of an error
+	 */
+	void endElement(CodeElement element) throws IOException;
+}
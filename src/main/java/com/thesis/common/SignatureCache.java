@@ -0,0 +1,119 @@
+package com.thesis.common;
+
+import org.objectweb.asm.Type;
+import org.objectweb.asm.signature.SignatureReader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cache of parsed method descriptors and generic signatures
+ * <p>
+ * The same descriptors and signatures repeat across the classes, so they are parsed only once and the immutable
+ * results are shared by all classes that are decompiled, possibly from several threads at once. Every kind of the
+ * parsed strings has its own cache that holds at most {@link #CAPACITY} entries, when it is full an arbitrary entry
+ * is evicted. The capacity is set by the {@code thesis.signature.cache.capacity} system property.
+ * <p>
+ * Method signatures of the declared methods are not cached, their declaration contains the parameter names
+ * and annotations of the particular method.
+ */
+public final class SignatureCache {
+
+	/**
+	 * Maximal number of entries of each cache
+	 */
+	public static final int CAPACITY = Integer.getInteger("thesis.signature.cache.capacity", 4096);
+
+	private static final BoundedCache<String, MethodDescriptor> mMethodDescriptors = new BoundedCache<>(CAPACITY);
+	private static final BoundedCache<String, DataType> mTypeSignatures = new BoundedCache<>(CAPACITY);
+	private static final BoundedCache<String, String> mClassSignatures = new BoundedCache<>(CAPACITY);
+
+	private SignatureCache() {
+	}
+
+	/**
+	 * @param desc method descriptor, e.g. {@code (Ljava/lang/String;)V}
+	 * @return parsed descriptor
+	 */
+	public static MethodDescriptor getMethodDescriptor(String desc) {
+		return mMethodDescriptors.get(desc, MethodDescriptor::new);
+	}
+
+	/**
+	 * @param signature generic signature of a field or a local variable
+	 * @return type declared by the signature
+	 */
+	public static DataType getTypeSignature(String signature) {
+		return mTypeSignatures.get(signature, SignatureCache::parseTypeSignature);
+	}
+
+	/**
+	 * @param signature generic signature of a class
+	 * @return declaration of the type parameters, the superclass and the interfaces
+	 */
+	public static String getClassSignature(String signature) {
+		return mClassSignatures.get(signature, SignatureCache::parseClassSignature);
+	}
+
+	/**
+	 * Removes all cached entries
+	 */
+	public static void clear() {
+		mMethodDescriptors.clear();
+		mTypeSignatures.clear();
+		mClassSignatures.clear();
+	}
+
+	private static DataType parseTypeSignature(String signature) {
+		SignatureVisitor visitor = new SignatureVisitor(0);
+		new SignatureReader(signature).acceptType(visitor);
+		return DataType.getTypeFromObject(visitor.getDeclaration());
+	}
+
+	private static String parseClassSignature(String signature) {
+		SignatureVisitor visitor = new SignatureVisitor(0);
+		new SignatureReader(signature).accept(visitor);
+		return visitor.getDeclaration();
+	}
+
+	/**
+	 * Immutable parsed method descriptor
+	 */
+	public static final class MethodDescriptor {
+		private final DataType mReturnType;
+		private final List<DataType> mArgumentTypes;
+		private final int mArgumentCount;
+
+		private MethodDescriptor(String desc) {
+			SignatureVisitor visitor = new SignatureVisitor(0, null, null);
+			new SignatureReader(desc).accept(visitor);
+			mReturnType = DataType.getTypeFromObject(visitor.getReturnType());
+			mArgumentCount = visitor.getArguments().size();
+
+			List<DataType> argumentTypes = new ArrayList<>();
+			for (Type argumentType : Type.getArgumentTypes(desc)) {
+				argumentTypes.add(DataType.getType(argumentType));
+			}
+			mArgumentTypes = Collections.unmodifiableList(argumentTypes);
+		}
+
+		public DataType getReturnType() {
+			return mReturnType;
+		}
+
+		/**
+		 * @return types of the arguments, the list can not be modified
+		 */
+		public List<DataType> getArgumentTypes() {
+			return mArgumentTypes;
+		}
+
+		/**
+		 * @return number of arguments the method takes from the stack
+		 */
+		public int getArgumentCount() {
+			return mArgumentCount;
+		}
+	}
+}
@@ -46,7 +46,7 @@ import java.util.Map;
  */
 public class SignatureVisitor extends org.objectweb.asm.signature.SignatureVisitor {
 
-	private final StringBuffer declaration;
+	private final StringBuilder declaration;
 
 	private boolean isInterface;
 
@@ -58,11 +58,11 @@ public class SignatureVisitor extends org.objectweb.asm.signature.SignatureVisit
 
 	private boolean seenInterface;
 
-	private StringBuffer returnType;
+	private StringBuilder returnType;
 
-	private StringBuffer exceptions;
+	private StringBuilder exceptions;
 
-	private StringBuffer annotations;
+	private StringBuilder annotations;
 
 	private int argCount;
 
@@ -95,18 +95,18 @@ public class SignatureVisitor extends org.objectweb.asm.signature.SignatureVisit
 
 	private LocalVariable currentArgument;
 
-	private StringBuffer currentArgType;
+	private StringBuilder currentArgType;
 
 	private int mIndex = 1;
 
 	public SignatureVisitor(final int access, List[] visibleParameterAnnotations, List[] invisibleParameterAnnotations) {
 		super(Opcodes.ASM5);
 		isInterface = (access & Opcodes.ACC_INTERFACE) != 0;
-		this.declaration = new StringBuffer();
+		this.declaration = new StringBuilder();
 		this.visibleParamAnnotations = visibleParameterAnnotations;
 		this.invisibleParamAnnotations = invisibleParameterAnnotations;
 		annotationParser = new AnnotationParser();
-		annotations = new StringBuffer();
+		annotations = new StringBuilder();
 		mLocalVariableNodes = null;
 		mLocalVariables = new HashMap<>();
 	}
@@ -114,15 +114,15 @@ public class SignatureVisitor extends org.objectweb.asm.signature.SignatureVisit
 	public SignatureVisitor(final int access) {
 		super(Opcodes.ASM5);
 		isInterface = (access & Opcodes.ACC_INTERFACE) != 0;
-		this.declaration = new StringBuffer();
-		this.currentArgType = new StringBuffer();
+		this.declaration = new StringBuilder();
+		this.currentArgType = new StringBuilder();
 		mLocalVariableNodes = null;
 	}
 
-	private SignatureVisitor(final StringBuffer buf) {
+	private SignatureVisitor(final StringBuilder buf) {
 		super(Opcodes.ASM5);
 		this.declaration = buf;
-		this.currentArgType = new StringBuffer();
+		this.currentArgType = new StringBuilder();
 		mLocalVariableNodes = null;
 	}
 
@@ -188,14 +188,14 @@ public class SignatureVisitor extends org.objectweb.asm.signature.SignatureVisit
 		if (seenParameter) {
 			seenParameter = false;
 		}
-		returnType = new StringBuffer();
+		returnType = new StringBuilder();
 		return new SignatureVisitor(returnType);
 	}
 
 	@Override
 	public SignatureVisitor visitExceptionType() {
 		if (exceptions == null) {
-			exceptions = new StringBuffer();
+			exceptions = new StringBuilder();
 		} else {
 			exceptions.append(", ");
 		}
@@ -327,7 +327,7 @@ public class SignatureVisitor extends org.objectweb.asm.signature.SignatureVisit
 
 	private void startType() {
 		arrayStack *= 2;
-		currentArgType = new StringBuffer();
+		currentArgType = new StringBuilder();
 	}
 
 	private void endType() {
@@ -4,9 +4,9 @@ import com.thesis.file.Disassembler;
 import org.objectweb.asm.tree.LocalVariableNode;
 import org.objectweb.asm.util.Printer;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Arbitrary helper methods
@@ -27,8 +27,10 @@ public class Util {
 	 * Map that maps the full inner class names to their displayed names
 	 *
 	 * full inner class name, displayed inner class name
+	 * <p>
+	 * Shared by all classes that are decompiled, possibly from several threads at once
 	 */
-	private static Map<String, String> mInnerClassMap;
+	private static final Map<String, String> mInnerClassMap = new ConcurrentHashMap<>();
 
 	/**
 	 * @param objectName full object name in bytecode representation
@@ -44,12 +46,7 @@ public class Util {
 	 * @param displayName name of the inner class without the enclosing classes
 	 */
 	public static void addInnerClassName(String fullName, String displayName) {
-		if (mInnerClassMap == null) {
-			mInnerClassMap = new HashMap<>();
-		}
-		if (!mInnerClassMap.containsKey(fullName)) {
-			mInnerClassMap.put(fullName, displayName);
-		}
+		mInnerClassMap.putIfAbsent(fullName, displayName);
 	}
 
 	/**
@@ -58,9 +55,6 @@ public class Util {
 	 * @return trimmed name, if there is any stored, otherwise the provided full name
 	 */
 	public static String getInnerClassDisplayName(String fullName) {
-		if (mInnerClassMap == null) {
-			return fullName;
-		}
 		String result = mInnerClassMap.get(fullName);
 
 		return result != null ? result : fullName;
@@ -0,0 +1,114 @@
+package com.thesis.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * Growable array of primitive ints
+ */
+public class IntArrayList {
+
+	private static final int DEFAULT_CAPACITY = 4;
+
+	private int[] mElements;
+	private int mSize;
+
+	public IntArrayList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity initial capacity
+	 */
+	public IntArrayList(int capacity) {
+		mElements = new int[capacity];
+	}
+
+	/**
+	 * Copy constructor
+	 * @param original list to copy
+	 */
+	public IntArrayList(IntArrayList original) {
+		mElements = Arrays.copyOf(original.mElements, Math.max(original.mSize, DEFAULT_CAPACITY));
+		mSize = original.mSize;
+	}
+
+	public void add(int value) {
+		if (mSize == mElements.length) {
+			mElements = Arrays.copyOf(mElements, Math.max(mSize * 2, DEFAULT_CAPACITY));
+		}
+		mElements[mSize++] = value;
+	}
+
+	/**
+	 * @param index position
+	 * @return the value at the position
+	 * @throws IndexOutOfBoundsException if the index is out of range {@literal ( index < 0 || index >= size())}
+	 */
+	public int get(int index) {
+		if (index >= mSize) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+		}
+		return mElements[index];
+	}
+
+	/**
+	 * @param value searched value
+	 * @return position of the first occurrence of the value, -1 if the list does not contain it
+	 */
+	public int indexOf(int value) {
+		for (int i = 0; i < mSize; i++) {
+			if (mElements[i] == value) return i;
+		}
+		return -1;
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) != -1;
+	}
+
+	public int size() {
+		return mSize;
+	}
+
+	public boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	public void clear() {
+		mSize = 0;
+	}
+
+	/**
+	 * @return new array with the values of the list
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(mElements, mSize);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		IntArrayList other = (IntArrayList) o;
+		if (mSize != other.mSize) return false;
+		for (int i = 0; i < mSize; i++) {
+			if (mElements[i] != other.mElements[i]) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int i = 0; i < mSize; i++) {
+			result = 31 * result + mElements[i];
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
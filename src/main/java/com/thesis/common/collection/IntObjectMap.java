@@ -0,0 +1,158 @@
+package com.thesis.common.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Map with primitive int keys that uses open addressing with linear probing
+ * <p>
+ * Null values are not supported, {@link #get(int)} returns null if there is no value for the key.
+ * The iteration order of {@link #keys()} and {@link #values()} is not defined.
+ * @param <V> type of the values
+ */
+public class IntObjectMap<V> {
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+	private int[] mKeys;
+
+	/**
+	 * Values of the slots, null marks a free slot
+	 */
+	private Object[] mValues;
+	private int mSize;
+
+	public IntObjectMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize number of entries the map holds without resizing
+	 */
+	public IntObjectMap(int expectedSize) {
+		int capacity = IntSet.tableSize(expectedSize);
+		mKeys = new int[capacity];
+		mValues = new Object[capacity];
+	}
+
+	/**
+	 * @param key key
+	 * @param value non-null value
+	 * @return previous value for the key, null if there was none
+	 */
+	public V put(int key, V value) {
+		Objects.requireNonNull(value, "IntObjectMap does not support null values");
+		int slot = findSlot(mKeys, mValues, key);
+		@SuppressWarnings("unchecked")
+		V previous = (V) mValues[slot];
+		mKeys[slot] = key;
+		mValues[slot] = value;
+		if (previous == null && ++mSize > IntSet.maxSize(mKeys.length)) {
+			resize();
+		}
+		return previous;
+	}
+
+	/**
+	 * @param key key
+	 * @return value for the key, null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(int key) {
+		return (V) mValues[findSlot(mKeys, mValues, key)];
+	}
+
+	public boolean containsKey(int key) {
+		return mValues[findSlot(mKeys, mValues, key)] != null;
+	}
+
+	public int size() {
+		return mSize;
+	}
+
+	public boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	public void clear() {
+		Arrays.fill(mValues, null);
+		mSize = 0;
+	}
+
+	/**
+	 * @return new array with the keys of the map
+	 */
+	public int[] keys() {
+		int[] keys = new int[mSize];
+		int index = 0;
+		for (int i = 0; i < mValues.length; i++) {
+			if (mValues[i] != null) {
+				keys[index++] = mKeys[i];
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * @return new list with the values of the map
+	 */
+	@SuppressWarnings("unchecked")
+	public List<V> values() {
+		List<V> values = new ArrayList<>(mSize);
+		for (Object value : mValues) {
+			if (value != null) {
+				values.add((V) value);
+			}
+		}
+		return values;
+	}
+
+	private static int findSlot(int[] keys, Object[] values, int key) {
+		int mask = keys.length - 1;
+		int slot = IntSet.hash(key) & mask;
+		while (values[slot] != null && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void resize() {
+		int[] keys = new int[mKeys.length * 2];
+		Object[] values = new Object[mValues.length * 2];
+		for (int i = 0; i < mValues.length; i++) {
+			if (mValues[i] != null) {
+				int slot = findSlot(keys, values, mKeys[i]);
+				keys[slot] = mKeys[i];
+				values[slot] = mValues[i];
+			}
+		}
+		mKeys = keys;
+		mValues = values;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		IntObjectMap<?> other = (IntObjectMap<?>) o;
+		if (mSize != other.mSize) return false;
+		for (int i = 0; i < mValues.length; i++) {
+			if (mValues[i] != null && !mValues[i].equals(other.get(mKeys[i]))) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 0;
+		for (int i = 0; i < mValues.length; i++) {
+			if (mValues[i] != null) {
+				result += mKeys[i] ^ mValues[i].hashCode();
+			}
+		}
+		return result;
+	}
+}
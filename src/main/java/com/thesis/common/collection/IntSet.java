@@ -0,0 +1,148 @@
+package com.thesis.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive ints that uses open addressing with linear probing
+ */
+public class IntSet {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int[] mKeys;
+	private boolean[] mUsed;
+	private int mSize;
+
+	public IntSet() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize number of values the set holds without resizing
+	 */
+	public IntSet(int expectedSize) {
+		int capacity = tableSize(expectedSize);
+		mKeys = new int[capacity];
+		mUsed = new boolean[capacity];
+	}
+
+	/**
+	 * @param value value to add
+	 * @return true if the set did not contain the value
+	 */
+	public boolean add(int value) {
+		int slot = findSlot(mKeys, mUsed, value);
+		if (mUsed[slot]) return false;
+		mKeys[slot] = value;
+		mUsed[slot] = true;
+		if (++mSize > maxSize(mKeys.length)) {
+			resize();
+		}
+		return true;
+	}
+
+	public boolean contains(int value) {
+		return mUsed[findSlot(mKeys, mUsed, value)];
+	}
+
+	public int size() {
+		return mSize;
+	}
+
+	public boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	public void clear() {
+		Arrays.fill(mUsed, false);
+		mSize = 0;
+	}
+
+	/**
+	 * @return new array with the values of the set, in no particular order
+	 */
+	public int[] toArray() {
+		int[] values = new int[mSize];
+		int index = 0;
+		for (int i = 0; i < mUsed.length; i++) {
+			if (mUsed[i]) {
+				values[index++] = mKeys[i];
+			}
+		}
+		return values;
+	}
+
+	private static int findSlot(int[] keys, boolean[] used, int value) {
+		int mask = keys.length - 1;
+		int slot = hash(value) & mask;
+		while (used[slot] && keys[slot] != value) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void resize() {
+		int[] keys = new int[mKeys.length * 2];
+		boolean[] used = new boolean[mUsed.length * 2];
+		for (int i = 0; i < mUsed.length; i++) {
+			if (mUsed[i]) {
+				int slot = findSlot(keys, used, mKeys[i]);
+				keys[slot] = mKeys[i];
+				used[slot] = true;
+			}
+		}
+		mKeys = keys;
+		mUsed = used;
+	}
+
+	/**
+	 * Spreads the bits of the key, label ids and variable positions are mostly small consecutive numbers
+	 */
+	static int hash(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * @return power of two table size that holds the expected number of entries without resizing,
+	 * at least 4 so that a full table still has a free slot that ends the probing
+	 */
+	static int tableSize(int expectedSize) {
+		int capacity = 4;
+		while (maxSize(capacity) < expectedSize) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	/**
+	 * @return number of entries that can be stored in the table of the given size, the load factor is 3/4
+	 */
+	static int maxSize(int tableSize) {
+		return tableSize - (tableSize >>> 2);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		IntSet other = (IntSet) o;
+		if (mSize != other.mSize) return false;
+		for (int i = 0; i < mUsed.length; i++) {
+			if (mUsed[i] && !other.contains(mKeys[i])) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 0;
+		for (int i = 0; i < mUsed.length; i++) {
+			if (mUsed[i]) {
+				result += mKeys[i];
+			}
+		}
+		return result;
+	}
+}
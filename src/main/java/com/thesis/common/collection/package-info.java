@@ -0,0 +1,4 @@
+/**
+ * Collections of primitive ints used on the hot paths of the translation instead of the boxed collections
+ */
+package com.thesis.common.collection;
@@ -0,0 +1,129 @@
+package com.thesis.export;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Loads the elements written by {@link BinarySourceWriter}
+ */
+class BinarySourceReader {
+
+	private static final SourceNode.Kind[] KINDS = SourceNode.Kind.values();
+
+	/**
+	 * Size of the buffer allocated for a string before its bytes are read
+	 */
+	private static final int STRING_CHUNK = 8192;
+
+	private final DataInputStream mInput;
+	private final List<String> mStrings = new ArrayList<>();
+
+	BinarySourceReader(InputStream input) {
+		mInput = new DataInputStream(input);
+	}
+
+	/**
+	 * @return the first element of the stream
+	 * @throws IOException if the stream can not be read or is not in the expected form
+	 */
+	SourceNode read() throws IOException {
+		if (mInput.readInt() != BinarySourceWriter.MAGIC) {
+			throw new IOException("Not an exported class");
+		}
+		int version = mInput.readUnsignedByte();
+		if (version != BinarySourceWriter.VERSION) {
+			throw new IOException("Unsupported version " + version + " of the exported class");
+		}
+
+		Deque<SourceNode> elements = new ArrayDeque<>();
+		SourceNode root = null;
+		int tag;
+		while ((tag = mInput.readUnsignedByte()) != BinarySourceWriter.TAG_EOF) {
+			switch (tag) {
+				case BinarySourceWriter.TAG_START:
+					SourceNode element = SourceNode.element(readKind(), readString(), readNumber() - 1);
+					if (elements.isEmpty()) {
+						if (root != null) throw new IOException("More than one exported class");
+						root = element;
+					} else {
+						elements.peek().addChild(element);
+					}
+					elements.push(element);
+					break;
+				case BinarySourceWriter.TAG_TEXT:
+					if (elements.isEmpty()) throw new IOException("Text outside of an element");
+					elements.peek().addChild(SourceNode.text(readString()));
+					break;
+				case BinarySourceWriter.TAG_END:
+					if (elements.isEmpty()) throw new IOException("Unmatched end of an element");
+					elements.pop();
+					break;
+				default:
+					throw new IOException("Unexpected tag " + tag);
+			}
+		}
+		if (root == null || !elements.isEmpty()) {
+			throw new IOException("Incomplete exported class");
+		}
+		return root;
+	}
+
+	private SourceNode.Kind readKind() throws IOException {
+		int kind = mInput.readUnsignedByte();
+		if (kind >= KINDS.length) throw new IOException("Unexpected element kind " + kind);
+		return KINDS[kind];
+	}
+
+	private String readString() throws IOException {
+		int reference = readNumber();
+		if (reference == BinarySourceWriter.NULL_STRING) return null;
+		if (reference == BinarySourceWriter.NEW_STRING) {
+			String str = new String(readBytes(readNumber()), StandardCharsets.UTF_8);
+			mStrings.add(str);
+			return str;
+		}
+		int index = reference - BinarySourceWriter.FIRST_STRING_INDEX;
+		if (index < 0 || index >= mStrings.size()) throw new IOException("Unknown string " + index);
+		return mStrings.get(index);
+	}
+
+	/**
+	 * The buffer grows only with the bytes that were read, so a damaged length fails at the end of the stream
+	 * instead of allocating the whole length up front
+	 * @param length number of bytes to read
+	 * @return read bytes
+	 * @throws IOException if the length is negative or the stream ends before all bytes were read
+	 */
+	private byte[] readBytes(int length) throws IOException {
+		if (length < 0) throw new IOException("Malformed string length " + length);
+		byte[] bytes = new byte[Math.min(length, STRING_CHUNK)];
+		int read = 0;
+		while (read < length) {
+			if (read == bytes.length) {
+				bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+			}
+			int count = mInput.read(bytes, read, bytes.length - read);
+			if (count < 0) throw new EOFException("Truncated string");
+			read += count;
+		}
+		return bytes;
+	}
+
+	private int readNumber() throws IOException {
+		int number = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = mInput.readUnsignedByte();
+			number |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return number;
+		}
+		throw new IOException("Malformed number");
+	}
+}
@@ -0,0 +1,91 @@
+package com.thesis.export;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the structure events in the compact binary form read by {@link BinarySourceReader}
+ * <p>
+ * The stream starts with the {@link #MAGIC} and the {@link #VERSION}, followed by the events, each starting with
+ * its tag, and ends with the {@link #TAG_EOF}. The numbers are written as unsigned variable length integers.
+ * The strings are written as references to a table built while writing: 0 is null, 1 is a new string
+ * that follows as the length of its UTF-8 bytes and the bytes, n &gt; 1 is the (n - 2)th string of the table.
+ */
+class BinarySourceWriter extends StructuredWriter {
+
+	static final int MAGIC = 0x54445342;
+	static final int VERSION = 1;
+
+	static final int TAG_EOF = 0;
+	static final int TAG_START = 1;
+	static final int TAG_TEXT = 2;
+	static final int TAG_END = 3;
+
+	static final int NULL_STRING = 0;
+	static final int NEW_STRING = 1;
+	static final int FIRST_STRING_INDEX = 2;
+
+	private final DataOutputStream mOutput;
+	private final Map<String, Integer> mStrings = new HashMap<>();
+
+	BinarySourceWriter(OutputStream output) throws IOException {
+		mOutput = new DataOutputStream(new BufferedOutputStream(output));
+		mOutput.writeInt(MAGIC);
+		mOutput.writeByte(VERSION);
+	}
+
+	@Override
+	protected void writeStart(SourceNode.Kind kind, String name, int line) throws IOException {
+		mOutput.writeByte(TAG_START);
+		mOutput.writeByte(kind.ordinal());
+		writeString(name);
+		writeNumber(line + 1);
+	}
+
+	@Override
+	protected void writeText(String text) throws IOException {
+		mOutput.writeByte(TAG_TEXT);
+		writeString(text);
+	}
+
+	@Override
+	protected void writeEnd() throws IOException {
+		mOutput.writeByte(TAG_END);
+	}
+
+	@Override
+	protected void finish() throws IOException {
+		mOutput.writeByte(TAG_EOF);
+		mOutput.flush();
+	}
+
+	private void writeString(String str) throws IOException {
+		if (str == null) {
+			writeNumber(NULL_STRING);
+			return;
+		}
+		Integer index = mStrings.get(str);
+		if (index != null) {
+			writeNumber(index + FIRST_STRING_INDEX);
+			return;
+		}
+		mStrings.put(str, mStrings.size());
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		writeNumber(NEW_STRING);
+		writeNumber(bytes.length);
+		mOutput.write(bytes);
+	}
+
+	private void writeNumber(int number) throws IOException {
+		while ((number & ~0x7F) != 0) {
+			mOutput.writeByte((number & 0x7F) | 0x80);
+			number >>>= 7;
+		}
+		mOutput.writeByte(number);
+	}
+}
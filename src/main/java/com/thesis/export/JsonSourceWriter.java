@@ -0,0 +1,105 @@
+package com.thesis.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Streams the structure events as JSON while the class is written
+ * <p>
+ * Every element is an object with the {@code kind}, the {@code name} of a class, method or field,
+ * the {@code line} of a statement if it is known, and the {@code content} array of the texts and child elements
+ * in the order they were written.
+ */
+class JsonSourceWriter extends StructuredWriter {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final Writer mOutput;
+
+	/**
+	 * For every open element true if its content is still empty
+	 */
+	private final Deque<Boolean> mEmptyContents = new ArrayDeque<>();
+
+	JsonSourceWriter(Writer output) {
+		mOutput = output;
+	}
+
+	@Override
+	protected void writeStart(SourceNode.Kind kind, String name, int line) throws IOException {
+		writeSeparator();
+		mOutput.write("{\"kind\":");
+		writeString(kind.name());
+		if (name != null) {
+			mOutput.write(",\"name\":");
+			writeString(name);
+		}
+		if (line >= 0) {
+			mOutput.append(",\"line\":").write(Integer.toString(line));
+		}
+		mOutput.write(",\"content\":[");
+		mEmptyContents.push(true);
+	}
+
+	@Override
+	protected void writeText(String text) throws IOException {
+		writeSeparator();
+		writeString(text);
+	}
+
+	@Override
+	protected void writeEnd() throws IOException {
+		mEmptyContents.pop();
+		mOutput.write("]}");
+	}
+
+	@Override
+	protected void finish() throws IOException {
+		mOutput.flush();
+	}
+
+	private void writeSeparator() throws IOException {
+		if (mEmptyContents.isEmpty()) return;
+		if (mEmptyContents.peek()) {
+			mEmptyContents.pop();
+			mEmptyContents.push(false);
+		} else {
+			mOutput.write(',');
+		}
+	}
+
+	private void writeString(String str) throws IOException {
+		mOutput.write('"');
+		int start = 0;
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			if (c >= 0x20 && c != '"' && c != '\\') continue;
+
+			mOutput.write(str, start, i - start);
+			start = i + 1;
+			switch (c) {
+				case '"':
+					mOutput.write("\\\"");
+					break;
+				case '\\':
+					mOutput.write("\\\\");
+					break;
+				case '\n':
+					mOutput.write("\\n");
+					break;
+				case '\t':
+					mOutput.write("\\t");
+					break;
+				case '\r':
+					mOutput.write("\\r");
+					break;
+				default:
+					mOutput.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+			}
+		}
+		mOutput.write(str, start, str.length() - start);
+		mOutput.write('"');
+	}
+}
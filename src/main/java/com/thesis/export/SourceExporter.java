@@ -0,0 +1,48 @@
+package com.thesis.export;
+
+import com.thesis.block.ClassBlock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * Exports the decompiled classes as the structure of their written code elements
+ * <p>
+ * The class is written as for the Java code, while it is written the starts and ends of the class, its members and
+ * statements are streamed with the text in between. The binary form can be loaded as a tree of {@link SourceNode}s
+ * and rendered again with other {@link SourceFormat}s without decompiling the class again.
+ */
+public final class SourceExporter {
+
+	private SourceExporter() {
+	}
+
+	/**
+	 * @param classBlock decompiled class
+	 * @param output destination stream, it is not closed
+	 * @throws IOException in case of an error
+	 */
+	public static void writeBinary(ClassBlock classBlock, OutputStream output) throws IOException {
+		new BinarySourceWriter(output).writeClass(classBlock);
+	}
+
+	/**
+	 * @param classBlock decompiled class
+	 * @param output destination writer, it is not closed
+	 * @throws IOException in case of an error
+	 */
+	public static void writeJson(ClassBlock classBlock, Writer output) throws IOException {
+		new JsonSourceWriter(output).writeClass(classBlock);
+	}
+
+	/**
+	 * @param input stream with a class written by {@link #writeBinary(ClassBlock, OutputStream)}, it is not closed
+	 * @return element of the class
+	 * @throws IOException if the stream can not be read or is not in the expected form
+	 */
+	public static SourceNode readBinary(InputStream input) throws IOException {
+		return new BinarySourceReader(input).read();
+	}
+}
@@ -0,0 +1,32 @@
+package com.thesis.export;
+
+/**
+ * Formatting options used when the loaded source is rendered, see {@link SourceNode#write}
+ */
+public final class SourceFormat {
+
+	/**
+	 * Formatting of the decompiler, one tab per level and Unix line separators
+	 */
+	public static final SourceFormat DEFAULT = new SourceFormat("\t", "\n");
+
+	private final String mIndent;
+	private final String mLineSeparator;
+
+	/**
+	 * @param indent string written for every nesting level at the start of a line
+	 * @param lineSeparator string written at the end of a line
+	 */
+	public SourceFormat(String indent, String lineSeparator) {
+		mIndent = indent;
+		mLineSeparator = lineSeparator;
+	}
+
+	public String getIndent() {
+		return mIndent;
+	}
+
+	public String getLineSeparator() {
+		return mLineSeparator;
+	}
+}
@@ -0,0 +1,162 @@
+package com.thesis.export;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Loaded element of the decompiled code, see {@link SourceExporter#readBinary}
+ * <p>
+ * The content of an element is the sequence of its text nodes and child elements in the order they were written,
+ * the nested expressions are kept as the text of their statement.
+ */
+public final class SourceNode {
+
+	/**
+	 * Kind of the written element
+	 */
+	public enum Kind {
+		CLASS,
+		FIELD,
+		METHOD,
+		STATEMENT,
+		BLOCK,
+		IF,
+		IF_ELSE,
+		WHILE,
+		DO_WHILE,
+		SWITCH,
+		CASE,
+		SYNCHRONIZED,
+		TRY,
+		/**
+		 * Written text, has no children
+		 */
+		TEXT
+	}
+
+	private static final char TAB = '\t';
+	private static final char NL = '\n';
+
+	private final Kind mKind;
+	private final String mName;
+	private final int mLine;
+	private final String mText;
+	private final List<SourceNode> mChildren;
+
+	private SourceNode(Kind kind, String name, int line, String text, List<SourceNode> children) {
+		mKind = kind;
+		mName = name;
+		mLine = line;
+		mText = text;
+		mChildren = children;
+	}
+
+	/**
+	 * @param kind kind of the element
+	 * @param name name of the class, method or field, otherwise null
+	 * @param line line of the statement in the original code, -1 if it is not known
+	 * @return element without content, the content is added by {@link #addChild(SourceNode)}
+	 */
+	static SourceNode element(Kind kind, String name, int line) {
+		return new SourceNode(kind, name, line, null, new ArrayList<>());
+	}
+
+	static SourceNode text(String text) {
+		return new SourceNode(Kind.TEXT, null, -1, text, Collections.emptyList());
+	}
+
+	void addChild(SourceNode child) {
+		mChildren.add(child);
+	}
+
+	public Kind getKind() {
+		return mKind;
+	}
+
+	/**
+	 * @return name of the class, method or field, otherwise null
+	 */
+	public String getName() {
+		return mName;
+	}
+
+	/**
+	 * @return line of the statement in the original code, -1 if it is not known
+	 */
+	public int getLine() {
+		return mLine;
+	}
+
+	/**
+	 * @return text of a {@link Kind#TEXT} node, otherwise null
+	 */
+	public String getText() {
+		return mText;
+	}
+
+	/**
+	 * @return text nodes and child elements in the order they were written
+	 */
+	public List<SourceNode> getChildren() {
+		return Collections.unmodifiableList(mChildren);
+	}
+
+	/**
+	 * @param format formatting options
+	 * @return Java code of the element
+	 */
+	public String getJavaCode(SourceFormat format) {
+		StringWriter writer = new StringWriter();
+		try {
+			write(writer, format);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		return writer.toString();
+	}
+
+	/**
+	 * Writes the Java code of the element, the tabs at the start of the lines and the line ends
+	 * are replaced by the ones of the format
+	 * @param writer destination writer
+	 * @param format formatting options
+	 * @throws IOException in case of an error
+	 */
+	public void write(Writer writer, SourceFormat format) throws IOException {
+		write(writer, format, true);
+	}
+
+	/**
+	 * @return true if the last written character ended a line
+	 */
+	private boolean write(Writer writer, SourceFormat format, boolean lineStart) throws IOException {
+		if (mKind != Kind.TEXT) {
+			for (SourceNode child : mChildren) {
+				lineStart = child.write(writer, format, lineStart);
+			}
+			return lineStart;
+		}
+
+		int start = 0;
+		for (int i = 0; i < mText.length(); i++) {
+			char c = mText.charAt(i);
+			if (lineStart && c == TAB) {
+				writer.write(format.getIndent());
+				start = i + 1;
+			} else if (c == NL) {
+				writer.write(mText, start, i - start);
+				writer.write(format.getLineSeparator());
+				start = i + 1;
+				lineStart = true;
+			} else {
+				lineStart = false;
+			}
+		}
+		writer.write(mText, start, mText.length() - start);
+		return lineStart;
+	}
+}
@@ -0,0 +1,174 @@
+package com.thesis.export;
+
+import com.thesis.block.ClassBlock;
+import com.thesis.block.FieldBlock;
+import com.thesis.block.MethodBlock;
+import com.thesis.common.CodeElement;
+import com.thesis.common.ElementListener;
+import com.thesis.exception.DecompilerRuntimeException;
+import com.thesis.statement.*;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer that receives the rendered code together with the starts and ends of the code elements
+ * and passes them on as a stream of structure events
+ * <p>
+ * The text written between two events is collected and passed as a single text event.
+ */
+abstract class StructuredWriter extends Writer implements ElementListener {
+
+	private static final StatementVisitor<SourceNode.Kind> KIND_OF_STATEMENT = new StatementVisitor<SourceNode.Kind>() {
+		@Override
+		public SourceNode.Kind visitStatement(Statement statement) {
+			return SourceNode.Kind.STATEMENT;
+		}
+
+		@Override
+		public SourceNode.Kind visitBlock(BlockStatement statement) {
+			return SourceNode.Kind.BLOCK;
+		}
+
+		@Override
+		public SourceNode.Kind visitDoWhileLoop(DoWhileLoopStatement statement) {
+			return SourceNode.Kind.DO_WHILE;
+		}
+
+		@Override
+		public SourceNode.Kind visitWhileLoop(WhileLoopStatement statement) {
+			return SourceNode.Kind.WHILE;
+		}
+
+		@Override
+		public SourceNode.Kind visitIfThen(IfThenStatement statement) {
+			return SourceNode.Kind.IF;
+		}
+
+		@Override
+		public SourceNode.Kind visitIfThenElse(IfThenElseStatement statement) {
+			return SourceNode.Kind.IF_ELSE;
+		}
+
+		@Override
+		public SourceNode.Kind visitSwitch(SwitchStatement statement) {
+			return SourceNode.Kind.SWITCH;
+		}
+
+		@Override
+		public SourceNode.Kind visitCase(SwitchStatement.CaseStatement statement) {
+			return SourceNode.Kind.CASE;
+		}
+
+		@Override
+		public SourceNode.Kind visitSynchronized(SynchronizedStatement statement) {
+			return SourceNode.Kind.SYNCHRONIZED;
+		}
+
+		@Override
+		public SourceNode.Kind visitTryCatch(TryCatchStatement statement) {
+			return SourceNode.Kind.TRY;
+		}
+	};
+
+	private final StringBuilder mText = new StringBuilder();
+
+	/**
+	 * Writes the class with all its elements and finishes the stream
+	 * @param classBlock decompiled class
+	 * @throws IOException in case of an error
+	 */
+	void writeClass(ClassBlock classBlock) throws IOException {
+		startElement(classBlock);
+		classBlock.write(this);
+		endElement(classBlock);
+		finish();
+	}
+
+	@Override
+	public void startElement(CodeElement element) throws IOException {
+		flushText();
+		if (element instanceof Statement) {
+			writeStart(((Statement) element).accept(KIND_OF_STATEMENT), null, ((Statement) element).getLine());
+		} else if (element instanceof MethodBlock) {
+			writeStart(SourceNode.Kind.METHOD, ((MethodBlock) element).getName(), -1);
+		} else if (element instanceof FieldBlock) {
+			writeStart(SourceNode.Kind.FIELD, ((FieldBlock) element).getName(), -1);
+		} else if (element instanceof ClassBlock) {
+			writeStart(SourceNode.Kind.CLASS, ((ClassBlock) element).getClassType().toString(), -1);
+		} else {
+			throw new DecompilerRuntimeException("Unexpected code element " + element.getClass().getName());
+		}
+	}
+
+	@Override
+	public void endElement(CodeElement element) throws IOException {
+		flushText();
+		writeEnd();
+	}
+
+	/**
+	 * @param kind kind of the element
+	 * @param name name of the class, method or field, otherwise null
+	 * @param line line of the statement in the original code, -1 if it is not known
+	 * @throws IOException in case of an error
+	 */
+	protected abstract void writeStart(SourceNode.Kind kind, String name, int line) throws IOException;
+
+	protected abstract void writeText(String text) throws IOException;
+
+	protected abstract void writeEnd() throws IOException;
+
+	/**
+	 * Called after the last element was written
+	 * @throws IOException in case of an error
+	 */
+	protected abstract void finish() throws IOException;
+
+	private void flushText() throws IOException {
+		if (mText.length() > 0) {
+			writeText(mText.toString());
+			mText.setLength(0);
+		}
+	}
+
+	@Override
+	public void write(int c) {
+		mText.append((char) c);
+	}
+
+	@Override
+	public void write(char[] chars, int offset, int length) {
+		mText.append(chars, offset, length);
+	}
+
+	@Override
+	public void write(String str) {
+		mText.append(str);
+	}
+
+	@Override
+	public void write(String str, int offset, int length) {
+		mText.append(str, offset, offset + length);
+	}
+
+	@Override
+	public Writer append(CharSequence csq) {
+		mText.append(csq);
+		return this;
+	}
+
+	@Override
+	public Writer append(char c) {
+		mText.append(c);
+		return this;
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() {
+	}
+}
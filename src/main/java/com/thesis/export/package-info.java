@@ -0,0 +1,5 @@
+/**
+ * Export of the decompiled classes as a structure of the written code elements, in a compact binary form
+ * that can be loaded and rendered again, or as JSON
+ */
+package com.thesis.export;
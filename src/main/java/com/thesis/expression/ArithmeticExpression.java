@@ -141,4 +141,15 @@ public class ArithmeticExpression extends Expression {
 			mType = leftType;
 		}
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		mLeftSide = interner.intern(mLeftSide);
+		mRightSide = interner.intern(mRightSide);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitArithmetic(this);
+	}
 }
@@ -44,4 +44,15 @@ public class ArrayAccessExpression extends Expression {
 		indexExpression.write(writer);
 		writer.write("]");
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		indexExpression = interner.intern(indexExpression);
+		arrayRef = interner.intern(arrayRef);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitArrayAccess(this);
+	}
 }
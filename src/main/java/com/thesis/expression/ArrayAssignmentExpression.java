@@ -44,4 +44,15 @@ public class ArrayAssignmentExpression extends Expression {
 		writer.write(" = ");
 		mValue.write(writer);
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		interner.intern(mArray);
+		mValue = interner.intern(mValue);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitArrayAssignment(this);
+	}
 }
@@ -116,4 +116,15 @@ public class ArrayCreationExpression extends Expression {
 		}
 		return null;
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		interner.internAll(mLengths);
+		interner.internAll(mItems);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitArrayCreation(this);
+	}
 }
@@ -36,4 +36,14 @@ public class ArrayLengthExpression extends Expression {
 		mExpression.write(writer);
 		writer.write(".length");
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		mExpression = interner.intern(mExpression);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitArrayLength(this);
+	}
 }
@@ -85,6 +85,16 @@ public class AssignmentExpression extends  Expression{
 		return op;
 	}
 
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		mRightSide = interner.intern(mRightSide);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitAssignment(this);
+	}
+
 	/**
 	 * Expression used in the {@link AssignmentExpression} that represents a variable
 	 */
@@ -120,11 +130,16 @@ public class AssignmentExpression extends  Expression{
 
 		@Override
 		public void write(Writer writer) throws IOException {
-			writer.write(mVariable.write());
+			mVariable.write(writer);
 		}
 
 		public Variable getVariable() {
 			return mVariable;
 		}
+
+		@Override
+		public <R> R accept(ExpressionVisitor<R> visitor) {
+			return visitor.visitLeftHandSide(this);
+		}
 	}
 }
@@ -20,4 +20,9 @@ public class BreakExpression extends UnconditionalJump {
 	public void write(Writer writer) throws IOException {
 		writer.write("break");
 	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitBreak(this);
+	}
 }
@@ -20,6 +20,15 @@ public class ConstantPrimaryExpression extends PrimaryExpression {
 		super(opCode, getValue(opCode), getType(opCode));
 	}
 
+	private ConstantPrimaryExpression(ConstantPrimaryExpression other) {
+		super(other);
+	}
+
+	@Override
+	public PrimaryExpression copy() {
+		return new ConstantPrimaryExpression(this);
+	}
+
 	@Override
 	public boolean isConstant() {
 		return true;
@@ -58,4 +67,9 @@ public class ConstantPrimaryExpression extends PrimaryExpression {
 		}
 		throw new DecompilerRuntimeException("Unexpected opCode");
 	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitConstantPrimary(this);
+	}
 }
@@ -36,12 +36,11 @@ public class ConstructorInvocationExpression extends MethodInvocationExpression
 		}
 	}
 
-	@Override
-	public void afterPush(ExpressionStack stack) {
-		if (mNewExpression != null) {
-			mNewExpression.setExpression(stack.pop());
-			stack.push(mNewExpression);
-		}
+	/**
+	 * @return the new expression this constructor was invoked on, null in case of this() or super() call
+	 */
+	public NewExpression getNewExpression() {
+		return mNewExpression;
 	}
 
 	@Override
@@ -55,4 +54,15 @@ public class ConstructorInvocationExpression extends MethodInvocationExpression
 		}
 		writeArguments(writer);
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		super.internLeaves(interner);
+		interner.intern(mNewExpression);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitConstructorInvocation(this);
+	}
 }
@@ -19,4 +19,9 @@ public class ContinueExpression extends UnconditionalJump {
 	public void write(Writer writer) throws IOException {
 		writer.write("continue");
 	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitContinue(this);
+	}
 }
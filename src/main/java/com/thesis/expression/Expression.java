@@ -71,7 +71,7 @@ public abstract class Expression implements Writable {
 	 * @return if expression has a defined type
 	 */
 	public boolean hasType() {
-		return mType != null && !mType.toString().isEmpty() && !mType.equals(DataType.UNKNOWN);
+		return mType != null && !mType.isEmpty() && !mType.equals(DataType.UNKNOWN);
 	}
 
 	public boolean isVirtual() {
@@ -96,6 +96,39 @@ public abstract class Expression implements Writable {
 
 	}
 
+	/**
+	 * Drops the references to the expression stacks nested in the expression
+	 * <p>
+	 * Called once the statements were created from the expression, the stacks are not needed to write it
+	 */
+	public void releaseStacks() {
+
+	}
+
+	/**
+	 * Sets the casts of the nested expressions, called once the translation of the method finished
+	 * and the types of all expressions are known, the casts are not changed while the expression is written
+	 */
+	public void resolveCasts() {
+
+	}
+
+	/**
+	 * Replaces the leaf expressions nested in this expression by the shared instances
+	 * @param interner interner of the leaves
+	 */
+	public void internLeaves(LeafInterner interner) {
+
+	}
+
+	/**
+	 * Calls the visit method of the visitor that matches the class of this expression
+	 * @param visitor expression visitor
+	 * @param <R> type of the result
+	 * @return result of the visit method
+	 */
+	public abstract <R> R accept(ExpressionVisitor<R> visitor);
+
 	@Override
 	public String toString() {
 		StringWriter writer = new StringWriter();
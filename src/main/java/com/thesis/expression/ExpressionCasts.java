@@ -0,0 +1,83 @@
+package com.thesis.expression;
+
+/**
+ * Casts of the expressions to the kinds the translation passes look for, done by {@link ExpressionVisitor}s
+ * <p>
+ * The visitors follow the default chain of the visit methods, so an expression is of a kind if it is of
+ * the class of the kind or of its subclass, e.g. a {@link BreakExpression} is an {@link UnconditionalJump}.
+ */
+public final class ExpressionCasts {
+
+	private static final ExpressionVisitor<JumpExpression> TO_JUMP = new NullVisitor<JumpExpression>() {
+		@Override
+		public JumpExpression visitJump(JumpExpression expression) {
+			return expression;
+		}
+	};
+
+	private static final ExpressionVisitor<UnconditionalJump> TO_UNCONDITIONAL_JUMP = new NullVisitor<UnconditionalJump>() {
+		@Override
+		public UnconditionalJump visitUnconditionalJump(UnconditionalJump expression) {
+			return expression;
+		}
+	};
+
+	private static final ExpressionVisitor<ArrayCreationExpression> TO_ARRAY_CREATION = new NullVisitor<ArrayCreationExpression>() {
+		@Override
+		public ArrayCreationExpression visitArrayCreation(ArrayCreationExpression expression) {
+			return expression;
+		}
+	};
+
+	private static final ExpressionVisitor<PrimaryExpression> TO_PRIMARY = new NullVisitor<PrimaryExpression>() {
+		@Override
+		public PrimaryExpression visitPrimary(PrimaryExpression expression) {
+			return expression;
+		}
+	};
+
+	private ExpressionCasts() {
+	}
+
+	/**
+	 * @param expression expression to cast, can be null
+	 * @return the expression if it is a jump, otherwise null
+	 */
+	public static JumpExpression asJump(Expression expression) {
+		return expression != null ? expression.accept(TO_JUMP) : null;
+	}
+
+	/**
+	 * @param expression expression to cast, can be null
+	 * @return the expression if it is an unconditional jump, otherwise null
+	 */
+	public static UnconditionalJump asUnconditionalJump(Expression expression) {
+		return expression != null ? expression.accept(TO_UNCONDITIONAL_JUMP) : null;
+	}
+
+	/**
+	 * @param expression expression to cast, can be null
+	 * @return the expression if it creates an array, otherwise null
+	 */
+	public static ArrayCreationExpression asArrayCreation(Expression expression) {
+		return expression != null ? expression.accept(TO_ARRAY_CREATION) : null;
+	}
+
+	/**
+	 * @param expression expression to cast, can be null
+	 * @return the expression if it is a primary expression, otherwise null
+	 */
+	public static PrimaryExpression asPrimary(Expression expression) {
+		return expression != null ? expression.accept(TO_PRIMARY) : null;
+	}
+
+	/**
+	 * Visitor that returns null for the expressions that are not of its kind
+	 */
+	private abstract static class NullVisitor<R> implements ExpressionVisitor<R> {
+		@Override
+		public R visitExpression(Expression expression) {
+			return null;
+		}
+	}
+}
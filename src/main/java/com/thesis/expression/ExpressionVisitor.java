@@ -0,0 +1,142 @@
+package com.thesis.expression;
+
+/**
+ * Visitor of the expressions, see {@link Expression#accept(ExpressionVisitor)}
+ * <p>
+ * Every visit method delegates to the visit method of the superclass of the visited expression by default,
+ * so the visitors override only the methods of the expressions they handle differently
+ * and {@link #visitExpression(Expression)} handles the rest.
+ * @param <R> type of the result
+ */
+public interface ExpressionVisitor<R> {
+
+	R visitExpression(Expression expression);
+
+	default R visitArithmetic(ArithmeticExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitArrayAccess(ArrayAccessExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitArrayAssignment(ArrayAssignmentExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitArrayCreation(ArrayCreationExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitArrayLength(ArrayLengthExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitAssignment(AssignmentExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitLeftHandSide(AssignmentExpression.LeftHandSide expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitInstanceOf(InstanceOfExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitLambda(LambdaExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitMethodInvocation(MethodInvocationExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitConstructorInvocation(ConstructorInvocationExpression expression) {
+		return visitMethodInvocation(expression);
+	}
+
+	default R visitMonitor(MonitorExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitNew(NewExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitPrimary(PrimaryExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitConstantPrimary(ConstantPrimaryExpression expression) {
+		return visitPrimary(expression);
+	}
+
+	default R visitVariablePrimary(VariablePrimaryExpression expression) {
+		return visitPrimary(expression);
+	}
+
+	default R visitReturn(ReturnExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitSwitch(SwitchExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitCase(SwitchExpression.CaseExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitThrow(ThrowExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitTryCatch(TryCatchExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitCatch(TryCatchExpression.CatchExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitUnary(UnaryExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitVariableDeclaration(VariableDeclarationExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitJump(JumpExpression expression) {
+		return visitExpression(expression);
+	}
+
+	default R visitSingleConditional(SingleConditional expression) {
+		return visitJump(expression);
+	}
+
+	default R visitMultiConditional(MultiConditional expression) {
+		return visitJump(expression);
+	}
+
+	default R visitLogicGate(LogicGateExpression expression) {
+		return visitJump(expression);
+	}
+
+	default R visitTernary(TernaryExpression expression) {
+		return visitJump(expression);
+	}
+
+	default R visitUnconditionalJump(UnconditionalJump expression) {
+		return visitJump(expression);
+	}
+
+	default R visitBreak(BreakExpression expression) {
+		return visitUnconditionalJump(expression);
+	}
+
+	default R visitContinue(ContinueExpression expression) {
+		return visitUnconditionalJump(expression);
+	}
+}
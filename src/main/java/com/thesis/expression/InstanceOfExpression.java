@@ -36,4 +36,14 @@ public class InstanceOfExpression extends Expression {
 		leftObject.write(writer);
 		writer.append(" instanceof ").append(rightClass.toString());
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		leftObject = interner.intern(leftObject);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitInstanceOf(this);
+	}
 }
@@ -100,6 +100,18 @@ public abstract class JumpExpression extends Expression {
 		this.thenBranch = thenBranch;
 	}
 
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		interner.internStack(thenBranch);
+		interner.internStack(elseBranch);
+	}
+
+	@Override
+	public void releaseStacks() {
+		thenBranch = null;
+		elseBranch = null;
+	}
+
 	public LoopType getLoopType() {
 		if (LoopType.NONE.equals(mLoopType) && isLoop()) {
 			mLoopType = LoopType.WHILE;
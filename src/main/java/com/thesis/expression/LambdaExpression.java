@@ -1,6 +1,7 @@
 package com.thesis.expression;
 
 import com.thesis.common.DataType;
+import com.thesis.common.SignatureCache;
 import com.thesis.translator.ExpressionStack;
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.Opcodes;
@@ -37,9 +38,7 @@ public class LambdaExpression extends Expression{
 
 		appendArgsAtPosition(mArguments, 3, bsmArgs);
 
-		for (Type arg : Type.getMethodType(desc).getArgumentTypes()) {
-			methodArgs.add(DataType.getType(arg));
-		}
+		methodArgs.addAll(SignatureCache.getMethodDescriptor(desc).getArgumentTypes());
 	}
 
 	@Override
@@ -222,4 +221,9 @@ public class LambdaExpression extends Expression{
 	private interface Argument {
 		void write(Writer writer) throws IOException;
 	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitLambda(this);
+	}
 }
@@ -0,0 +1,219 @@
+package com.thesis.expression;
+
+import com.thesis.common.DataType;
+import com.thesis.expression.variable.Variable;
+import com.thesis.translator.ExpressionStack;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces structurally equal leaf expressions ({@link PrimaryExpression}s) nested in other expressions
+ * by a single shared instance
+ * <p>
+ * The interning runs once the translation of a method finished, the expressions are not changed after that,
+ * so the shared leaves can be written by more threads at once.
+ * The expressions directly on the stacks are not shared, their lines are used by the statements.
+ * <p>
+ * The composite expressions are traversed from an explicit work list, an expression that is reached is queued
+ * and its children are visited when it is taken from the list, so the depth of the nesting does not use
+ * the thread stack.
+ * <p>
+ * An interner traverses the expressions of a single method, the table of the shared leaves can be shared
+ * by the interners of more methods, see {@link #share()}. The traversal also resolves the casts
+ * the expressions need, see {@link Expression#resolveCasts()}, so an interner created by {@link #withoutSharing()}
+ * is used for the methods whose leaves are not shared.
+ */
+public class LeafInterner {
+
+	/**
+	 * Scope in which the leaves are shared
+	 */
+	public enum Scope {
+		/**
+		 * Leaves are not interned
+		 */
+		NONE,
+		/**
+		 * Leaves are shared by the expressions of a single method
+		 */
+		METHOD,
+		/**
+		 * Leaves are shared by the expressions of all methods of a class
+		 */
+		CLASS
+	}
+
+	/**
+	 * Shared leaves, null if the leaves are not shared
+	 */
+	private final Map<LeafKey, PrimaryExpression> mLeaves;
+
+	/**
+	 * Composite expressions that were already traversed, the expressions can reference each other
+	 */
+	private final Set<Expression> mVisited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Composite expressions whose children were not visited yet
+	 */
+	private final Deque<Expression> mPending = new ArrayDeque<>();
+
+	public LeafInterner() {
+		mLeaves = new ConcurrentHashMap<>();
+	}
+
+	private LeafInterner(Map<LeafKey, PrimaryExpression> leaves) {
+		mLeaves = leaves;
+	}
+
+	/**
+	 * @return interner that only resolves the casts of the expressions, the leaves are kept
+	 */
+	public static LeafInterner withoutSharing() {
+		return new LeafInterner(null);
+	}
+
+	/**
+	 * @return interner for another method that shares the leaves with this interner
+	 */
+	public LeafInterner share() {
+		return new LeafInterner(mLeaves);
+	}
+
+	/**
+	 * @param expression expression to intern
+	 * @return shared instance if the expression is a leaf, otherwise the same expression, its leaves are interned
+	 * when it is taken from the work list, see {@link #internMethod(ExpressionStack)}
+	 */
+	public Expression intern(Expression expression) {
+		if (expression instanceof PrimaryExpression) {
+			if (mLeaves == null) return expression;
+			PrimaryExpression leaf = (PrimaryExpression) expression;
+			PrimaryExpression shared = mLeaves.putIfAbsent(new LeafKey(leaf), leaf);
+			if (shared == null) {
+				leaf.mIsShared = true;
+				return leaf;
+			}
+			return shared;
+		}
+		if (expression != null) {
+			schedule(expression);
+		}
+		return expression;
+	}
+
+	/**
+	 * Interns the leaves in the list, the list is changed in place
+	 * @param expressions list of expressions
+	 */
+	public void internAll(List<Expression> expressions) {
+		for (int i = 0; i < expressions.size(); i++) {
+			expressions.set(i, intern(expressions.get(i)));
+		}
+	}
+
+	/**
+	 * Interns the leaves of a translated method and forgets the traversed expressions,
+	 * only the table of the shared leaves is kept
+	 * @param stack final expression stack of the method
+	 */
+	public void internMethod(ExpressionStack stack) {
+		internStack(stack);
+		Expression expression;
+		while ((expression = mPending.poll()) != null) {
+			visit(expression);
+		}
+		mVisited.clear();
+	}
+
+	/**
+	 * Queues the expressions on the stack, the expressions on the stack are kept
+	 * @param stack expression stack, can be null
+	 */
+	public void internStack(ExpressionStack stack) {
+		if (stack == null) return;
+		for (int i = 0; i < stack.size(); i++) {
+			schedule(stack.get(i));
+		}
+	}
+
+	private void schedule(Expression expression) {
+		if (mVisited.add(expression)) {
+			mPending.push(expression);
+		}
+	}
+
+	/**
+	 * Resolves the casts of the composite expression before its children are interned,
+	 * so the interned leaves already have their casts
+	 */
+	private void visit(Expression expression) {
+		expression.resolveCasts();
+		expression.internLeaves(this);
+	}
+
+	/**
+	 * @return number of distinct shared leaves
+	 */
+	public int size() {
+		return mLeaves == null ? 0 : mLeaves.size();
+	}
+
+	/**
+	 * Identifies the leaf by everything that is written out, the variables are compared by identity
+	 */
+	private static class LeafKey {
+		private final Class<?> mClass;
+		private final int mOpCode;
+		private final Object mValue;
+		private final DataType mType;
+		private final DataType mCastType;
+		private final boolean mIsVirtual;
+		private final int mHash;
+
+		LeafKey(PrimaryExpression leaf) {
+			mClass = leaf.getClass();
+			mOpCode = leaf.mOpCode;
+			mValue = leaf.mValue;
+			mType = leaf.mType;
+			mCastType = leaf.mCastType;
+			mIsVirtual = leaf.mIsVirtual;
+			int hash = mClass.hashCode();
+			hash = 31 * hash + mOpCode;
+			hash = 31 * hash + (mValue instanceof Variable ? System.identityHashCode(mValue) : Objects.hashCode(mValue));
+			hash = 31 * hash + System.identityHashCode(mType);
+			hash = 31 * hash + System.identityHashCode(mCastType);
+			mHash = hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			LeafKey other = (LeafKey) o;
+			return mHash == other.mHash && mClass == other.mClass && mOpCode == other.mOpCode
+					&& mType == other.mType && mCastType == other.mCastType && mIsVirtual == other.mIsVirtual
+					&& valueEquals(mValue, other.mValue);
+		}
+
+		private static boolean valueEquals(Object value, Object other) {
+			if (value == other) return true;
+			if (value == null || other == null || value instanceof Variable) return false;
+			return value.getClass() == other.getClass() && value.equals(other);
+		}
+
+		@Override
+		public int hashCode() {
+			return mHash;
+		}
+	}
+}
@@ -71,4 +71,16 @@ public class LogicGateExpression extends JumpExpression {
 		writer.append(" ").append(mOperator.toString()).append(" ");
 		mRight.write(writer);
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		super.internLeaves(interner);
+		interner.intern(mLeft);
+		interner.intern(mRight);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitLogicGate(this);
+	}
 }
@@ -1,12 +1,12 @@
 package com.thesis.expression;
 
 import com.thesis.common.DataType;
-import com.thesis.common.SignatureVisitor;
+import com.thesis.common.SignatureCache;
 import com.thesis.common.Util;
+import com.thesis.expression.variable.Variable;
 import com.thesis.translator.ExpressionStack;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
-import org.objectweb.asm.signature.SignatureReader;
 
 import java.io.IOException;
 import java.io.Writer;
@@ -33,15 +33,10 @@ public class MethodInvocationExpression extends Expression {
 	public MethodInvocationExpression(int opCode, String name, String desc, String owner, String callingMethod) {
 		super(opCode);
 		mName = name;
-		SignatureVisitor v = new SignatureVisitor(0, null, null);
-		SignatureReader r = new SignatureReader(desc);
-		r.accept(v);
-		mType = DataType.getTypeFromObject(v.getReturnType());
-		mArgTypes = new ArrayList<>();
-		for (Type argType: Type.getArgumentTypes(desc)) {
-			mArgTypes.add(DataType.getType(argType));
-		}
-		mArgumentCount = v.getArguments().size();
+		SignatureCache.MethodDescriptor descriptor = SignatureCache.getMethodDescriptor(desc);
+		mType = descriptor.getReturnType();
+		mArgTypes = descriptor.getArgumentTypes();
+		mArgumentCount = descriptor.getArgumentCount();
 		mArguments = new ArrayList<>();
 		mOwnerClass = DataType.getType(Type.getObjectType(owner));
 		mCallingMethod = callingMethod;
@@ -83,21 +78,42 @@ public class MethodInvocationExpression extends Expression {
 		writer.write("(");
 		for(int i = 0; i < mArguments.size(); i++) {
 			writer.append(Util.getCommaIfNeeded(i));
-			Expression arg = mArguments.get(i);
-			setArgumentCastType(i, arg);
-			arg.write(writer);
+			mArguments.get(i).write(writer);
 		}
 		writer.write(")");
 	}
 
-	private void setArgumentCastType(int argumentPosition, Expression arg) {
+	/**
+	 * Casts the arguments whose type differs from the type of the parameter, an argument that is a leaf is copied
+	 * first, the same leaf can be an argument of another invocation that needs another cast
+	 */
+	@Override
+	public void resolveCasts() {
+		for (int i = 0; i < mArguments.size(); i++) {
+			Expression arg = mArguments.get(i);
+			DataType castType = getArgumentCastType(i, arg);
+			if (castType == null || castType.equals(arg.mCastType)) continue;
+
+			if (arg instanceof PrimaryExpression) {
+				arg = ((PrimaryExpression) arg).copy();
+				mArguments.set(i, arg);
+			}
+			arg.setCastType(castType);
+		}
+	}
+
+	/**
+	 * @return type the argument has to be cast to, or null if it does not need a cast
+	 */
+	private DataType getArgumentCastType(int argumentPosition, Expression arg) {
 		DataType typeFromDesc = mArgTypes.get(argumentPosition);
 		if (typeFromDesc == null || DataType.UNKNOWN.equals(typeFromDesc)) {
-			return;
+			return null;
 		}
 		if (!typeFromDesc.equalsWithoutGeneric(arg.getType()) && !isValueNull(arg)) {
-			arg.setCastType(typeFromDesc);
+			return typeFromDesc;
 		}
+		return null;
 	}
 
 	private boolean isValueNull(Expression exp) {
@@ -109,6 +125,19 @@ public class MethodInvocationExpression extends Expression {
 	}
 
 	private boolean isLocalMethod() {
-		return mOwnerInstance instanceof PrimaryExpression && ((PrimaryExpression) mOwnerInstance).getValue().toString().equals("this");
+		if (!(mOwnerInstance instanceof PrimaryExpression)) return false;
+		Object owner = ((PrimaryExpression) mOwnerInstance).getValue();
+		return owner instanceof Variable && ((Variable) owner).isThis();
+	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		interner.internAll(mArguments);
+		mOwnerInstance = interner.intern(mOwnerInstance);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitMethodInvocation(this);
 	}
 }
@@ -18,6 +18,11 @@ public class MonitorExpression extends Expression {
 	private Expression mSyncObjectExpression;
 	private ExpressionStack mSynchronizedBlock;
 
+	/**
+	 * True if the synchronized block was released by {@link #releaseStacks()}
+	 */
+	private boolean mIsBlockReleased;
+
 	public MonitorExpression(int opCode) {
 		super(opCode);
 		mSynchronizedBlock = null;
@@ -35,6 +40,14 @@ public class MonitorExpression extends Expression {
 		return mSynchronizedBlock;
 	}
 
+	@Override
+	public void releaseStacks() {
+		if (mSynchronizedBlock != null) {
+			mSynchronizedBlock = null;
+			mIsBlockReleased = true;
+		}
+	}
+
 	@Override
 	public DataType getType() {
 		return null;
@@ -42,7 +55,7 @@ public class MonitorExpression extends Expression {
 
 	@Override
 	public boolean isVirtual() {
-		return mSynchronizedBlock == null;
+		return mSynchronizedBlock == null && !mIsBlockReleased;
 	}
 
 	@Override
@@ -57,4 +70,15 @@ public class MonitorExpression extends Expression {
 	public void write(Writer writer) throws IOException {
 		mSyncObjectExpression.write(writer);
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		mSyncObjectExpression = interner.intern(mSyncObjectExpression);
+		interner.internStack(mSynchronizedBlock);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitMonitor(this);
+	}
 }
@@ -33,4 +33,16 @@ public class MultiConditional extends JumpExpression {
 	@Override
 	public void prepareForStack(ExpressionStack stack) {
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		super.internLeaves(interner);
+		mLeft = interner.intern(mLeft);
+		mRight = interner.intern(mRight);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitMultiConditional(this);
+	}
 }
@@ -46,4 +46,14 @@ public class NewExpression extends Expression {
 	public boolean isVirtual() {
 		return mExpression == null;
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		mExpression = interner.intern(mExpression);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitNew(this);
+	}
 }
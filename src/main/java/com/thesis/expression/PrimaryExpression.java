@@ -18,9 +18,16 @@ import java.io.Writer;
 public class PrimaryExpression extends Expression {
 
 	private static final String QUOTE = "\"";
+	private static final DataType STRING = DataType.getTypeFromObject("java.lang.String");
+	private static final DataType CLASS = DataType.getTypeFromObject("java.lang.Class");
 
 	protected Object mValue;
 
+	/**
+	 * True if the expression is shared by more expressions, see {@link LeafInterner}
+	 */
+	boolean mIsShared;
+
 	public PrimaryExpression(int opCode, Object value, DataType type) {
 		super(opCode);
 		mValue = value;
@@ -32,6 +39,33 @@ public class PrimaryExpression extends Expression {
 		this(0, value, type);
 	}
 
+	/**
+	 * Creates a copy that is not shared
+	 * @param other copied expression
+	 */
+	protected PrimaryExpression(PrimaryExpression other) {
+		super(other.mOpCode);
+		mValue = other.mValue;
+		mType = other.mType;
+		mCastType = other.mCastType;
+		mLine = other.mLine;
+		mIsVirtual = other.mIsVirtual;
+	}
+
+	/**
+	 * @return copy of the expression that can be changed
+	 */
+	public PrimaryExpression copy() {
+		return new PrimaryExpression(this);
+	}
+
+	/**
+	 * @return true if the expression is shared by more expressions and must not be changed
+	 */
+	public boolean isShared() {
+		return mIsShared;
+	}
+
 	@Override
 	public void setType(DataType type) {
 		super.setType(type);
@@ -42,25 +76,25 @@ public class PrimaryExpression extends Expression {
 
 	@Override
 	public void write(Writer writer) throws IOException {
-		String output = printCast();
+		writeCast(writer);
 
 		if (DataType.BOOLEAN.equals(mType)){
-			output += (int)mValue == 0 ? "false" : "true";
-		} else if (DataType.getTypeFromObject("java.lang.String").equals(mType) && !"null".equals(mValue)) {
-			output += QUOTE + mValue + QUOTE;
-		} else if (DataType.getTypeFromObject("java.lang.Class").equals(mType) && mValue instanceof DataType) {
-			output += ((DataType)mValue).print() + ".class";
+			writer.write((int)mValue == 0 ? "false" : "true");
+		} else if (STRING.equals(mType) && !"null".equals(mValue)) {
+			writer.append(QUOTE).append(String.valueOf(mValue)).write(QUOTE);
+		} else if (CLASS.equals(mType) && mValue instanceof DataType) {
+			writer.append(((DataType)mValue).print()).write(".class");
 		} else {
-			output += mValue.toString();
-			if (DataType.FLOAT.equals(mType)) output += "F";
-			if (DataType.LONG.equals(mType)) output += "L";
+			writer.write(mValue.toString());
+			if (DataType.FLOAT.equals(mType)) writer.write("F");
+			if (DataType.LONG.equals(mType)) writer.write("L");
 		}
-
-		writer.write(output);
 	}
 
-	protected String printCast() {
-		return mCastType != null && !mCastType.equals(getType()) ? "(" + mCastType.print() + ") " : "";
+	protected void writeCast(Writer writer) throws IOException {
+		if (mCastType != null && !mCastType.equals(getType())) {
+			writer.append("(").append(mCastType.print()).write(") ");
+		}
 	}
 
 	@Override
@@ -83,4 +117,9 @@ public class PrimaryExpression extends Expression {
 	public boolean isConstant() {
 		return true;
 	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitPrimary(this);
+	}
 }
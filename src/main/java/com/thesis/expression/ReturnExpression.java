@@ -68,4 +68,14 @@ public class ReturnExpression extends Expression {
 				return DataType.VOID;
 		}
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		mExpression = interner.intern(mExpression);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitReturn(this);
+	}
 }
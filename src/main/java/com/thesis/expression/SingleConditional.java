@@ -31,4 +31,15 @@ public class SingleConditional extends JumpExpression {
 	@Override
 	public void prepareForStack(ExpressionStack stack) {
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		super.internLeaves(interner);
+		mLeftExpression = interner.intern(mLeftExpression);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitSingleConditional(this);
+	}
 }
@@ -32,6 +32,13 @@ public class SwitchExpression extends Expression {
 		return mCaseList;
 	}
 
+	@Override
+	public void releaseStacks() {
+		for (CaseExpression caseExp : mCaseList) {
+			caseExp.releaseStacks();
+		}
+	}
+
 	@Override
 	public DataType getType() {
 		return null;
@@ -47,6 +54,19 @@ public class SwitchExpression extends Expression {
 		mValue.write(writer);
 	}
 
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		mValue = interner.intern(mValue);
+		for (CaseExpression caseExp : mCaseList) {
+			caseExp.internLeaves(interner);
+		}
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitSwitch(this);
+	}
+
 	/**
 	 * Expression that represents a case block of a switch
 	 */
@@ -72,6 +92,11 @@ public class SwitchExpression extends Expression {
 			return mStack;
 		}
 
+		@Override
+		public void releaseStacks() {
+			mStack = null;
+		}
+
 		public void write(Writer writer) throws IOException {
 			if (isDefaultCase()) {
 				writer.write(DEFAULT + ":\n");
@@ -98,6 +123,14 @@ public class SwitchExpression extends Expression {
 
 		}
 
+		@Override
+		public void internLeaves(LeafInterner interner) {
+			interner.internStack(mStack);
+		}
 
+		@Override
+		public <R> R accept(ExpressionVisitor<R> visitor) {
+			return visitor.visitCase(this);
+		}
 	}
 }
@@ -49,4 +49,17 @@ public class TernaryExpression extends JumpExpression {
 		writer.write(" : ");
 		mSecond.write(writer);
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		super.internLeaves(interner);
+		interner.intern(mCondition);
+		mFirst = interner.intern(mFirst);
+		mSecond = interner.intern(mSecond);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitTernary(this);
+	}
 }
@@ -34,4 +34,14 @@ public class ThrowExpression extends Expression {
 		writer.write("throw ");
 		mExpression.write(writer);
 	}
+
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		mExpression = interner.intern(mExpression);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitThrow(this);
+	}
 }
@@ -2,13 +2,13 @@ package com.thesis.expression;
 
 import com.thesis.translator.ExpressionStack;
 import com.thesis.common.DataType;
+import com.thesis.common.collection.IntArrayList;
 import com.thesis.translator.TryCatchManager;
 
 import java.io.IOException;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Expression that represents the try-catch block
@@ -25,10 +25,11 @@ public class TryCatchExpression extends Expression {
 		super(0);
 		mCatchExpressions = new ArrayList<>();
 
-		mCatchExpressions.addAll(
-				tryCatchItem.getCatchLocations().stream()
-						.map(location -> new CatchExpression(tryCatchItem.getHandlerType(location), tryCatchItem.getCatchBlock(location)))
-						.collect(Collectors.toList()));
+		IntArrayList catchLocations = tryCatchItem.getCatchLocations();
+		for (int i = 0; i < catchLocations.size(); i++) {
+			int location = catchLocations.get(i);
+			mCatchExpressions.add(new CatchExpression(tryCatchItem.getHandlerType(location), tryCatchItem.getCatchBlock(location)));
+		}
 		mTryStack = tryCatchItem.getTryStack();
 	}
 
@@ -40,6 +41,14 @@ public class TryCatchExpression extends Expression {
 		return mCatchExpressions;
 	}
 
+	@Override
+	public void releaseStacks() {
+		mTryStack = null;
+		for (CatchExpression catchExp : mCatchExpressions) {
+			catchExp.releaseStacks();
+		}
+	}
+
 	@Override
 	public void write(Writer writer) throws IOException {
 	}
@@ -54,6 +63,19 @@ public class TryCatchExpression extends Expression {
 
 	}
 
+	@Override
+	public void internLeaves(LeafInterner interner) {
+		interner.internStack(mTryStack);
+		for (CatchExpression catchExp : mCatchExpressions) {
+			catchExp.internLeaves(interner);
+		}
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitTryCatch(this);
+	}
+
 	/**
 	 * Expression that represents a catch block
 	 */
@@ -87,6 +109,11 @@ public class TryCatchExpression extends Expression {
 			return mStack;
 		}
 
+		@Override
+		public void releaseStacks() {
+			mStack = null;
+		}
+
 		@Override
 		public DataType getType() {
 			return null;
@@ -107,12 +134,23 @@ public class TryCatchExpression extends Expression {
 					writer.append(mExceptions.get(i).toString()).append( i < count - 1 ? " | " : " ");
 				}
 				if (mExpression != null) {
-					writer.write(mExpression.getVariable().toString());
+					mExpression.getVariable().writeName(writer);
 				}
 				writer.write(")");
 			} else {
 				writer.write(" finally");
 			}
 		}
+
+		@Override
+		public void internLeaves(LeafInterner interner) {
+			interner.intern(mExpression);
+			interner.internStack(mStack);
+		}
+
+		@Override
+		public <R> R accept(ExpressionVisitor<R> visitor) {
+			return visitor.visitCatch(this);
+		}
 	}
 }
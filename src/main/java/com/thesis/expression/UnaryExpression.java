@@ -48,11 +48,21 @@ public class UnaryExpression extends Expression {
 
 	@Override
 	public void write(Writer writer) throws IOException {
-		writer.write(mOpPosition == OpPosition.PREFIX ? "++" : mVariable.toString());
-		writer.write(mOpPosition == OpPosition.PREFIX ? mVariable.toString() : "++");
+		if (mOpPosition == OpPosition.PREFIX) {
+			writer.write("++");
+			mVariable.writeName(writer);
+		} else {
+			mVariable.writeName(writer);
+			writer.write("++");
+		}
 	}
 
 	public enum OpPosition {
 		PREFIX, POSTFIX
 	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitUnary(this);
+	}
 }
@@ -35,4 +35,9 @@ public class UnconditionalJump extends JumpExpression {
 	public void prepareForStack(ExpressionStack stack) {
 		// no preparation needed
 	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitUnconditionalJump(this);
+	}
 }
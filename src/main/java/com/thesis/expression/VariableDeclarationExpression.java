@@ -24,7 +24,7 @@ public class VariableDeclarationExpression extends Expression {
 
 	@Override
 	public void write(Writer writer) throws IOException {
-		writer.write(mVariable.write());
+		mVariable.write(writer);
 	}
 
 	@Override
@@ -36,4 +36,9 @@ public class VariableDeclarationExpression extends Expression {
 	public void prepareForStack(ExpressionStack stack) {
 		//no preparation needed
 	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitVariableDeclaration(this);
+	}
 }
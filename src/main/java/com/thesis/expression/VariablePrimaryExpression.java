@@ -18,6 +18,15 @@ public class VariablePrimaryExpression extends PrimaryExpression {
 		super(opCode, variable, variable.getType());
 	}
 
+	private VariablePrimaryExpression(VariablePrimaryExpression other) {
+		super(other);
+	}
+
+	@Override
+	public PrimaryExpression copy() {
+		return new VariablePrimaryExpression(this);
+	}
+
 	@Override
 	public void setType(DataType type) {
 		mType = type;
@@ -36,7 +45,12 @@ public class VariablePrimaryExpression extends PrimaryExpression {
 
 	@Override
 	public void write(Writer writer) throws IOException {
-		writer.write(printCast());
-		writer.write(mValue.toString());
+		writeCast(writer);
+		((Variable) mValue).writeName(writer);
+	}
+
+	@Override
+	public <R> R accept(ExpressionVisitor<R> visitor) {
+		return visitor.visitVariablePrimary(this);
 	}
 }
@@ -2,6 +2,9 @@ package com.thesis.expression.variable;
 
 import com.thesis.common.DataType;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * A variable class representing a field in bytecode
  */
@@ -31,7 +34,15 @@ public class GlobalVariable extends Variable {
 	}
 
 	@Override
-	public String write() {
-		return toString();
+	public void writeName(Writer writer) throws IOException {
+		if (mOwner != null) {
+			writer.append(mOwner.print()).append('.');
+		}
+		writer.write(mName);
+	}
+
+	@Override
+	public void write(Writer writer) throws IOException {
+		writeName(writer);
 	}
 }
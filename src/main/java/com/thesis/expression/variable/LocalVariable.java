@@ -1,15 +1,18 @@
 package com.thesis.expression.variable;
 
 import com.thesis.common.DataType;
-import com.thesis.common.SignatureVisitor;
+import com.thesis.common.SignatureCache;
 import com.thesis.translator.ExpressionStack;
 import org.objectweb.asm.Label;
-import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.signature.SignatureReader;
 import org.objectweb.asm.tree.LocalVariableNode;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * A variable class representing a local method variable in bytecode
@@ -31,6 +34,33 @@ public class LocalVariable extends Variable {
 	 */
 	private List<Scope> mScopes = new ArrayList<>();
 
+	/**
+	 * Variables already declared in the code the current thread writes, see {@link #openDeclarationScope()}
+	 */
+	private static final ThreadLocal<Set<LocalVariable>> mDeclaredVariables = new ThreadLocal<>();
+
+	/**
+	 * Starts a scope of declarations on the current thread, a variable is declared with its type only where
+	 * it is written first in the scope, the variables themselves are not changed
+	 * @return previous scope, restored by {@link #closeDeclarationScope(Set)}
+	 */
+	public static Set<LocalVariable> openDeclarationScope() {
+		Set<LocalVariable> previous = mDeclaredVariables.get();
+		mDeclaredVariables.set(Collections.newSetFromMap(new IdentityHashMap<>()));
+		return previous;
+	}
+
+	/**
+	 * @param previous scope returned by {@link #openDeclarationScope()}
+	 */
+	public static void closeDeclarationScope(Set<LocalVariable> previous) {
+		if (previous == null) {
+			mDeclaredVariables.remove();
+		} else {
+			mDeclaredVariables.set(previous);
+		}
+	}
+
 	public LocalVariable(int index) {
 		super();
 		this.mIndex = index;
@@ -41,10 +71,7 @@ public class LocalVariable extends Variable {
 		super(variableNode.name, DataType.getTypeFromDesc(variableNode.desc));
 
 		if (variableNode.signature != null && !variableNode.signature.isEmpty()) {
-			SignatureVisitor visitor = new SignatureVisitor(Opcodes.ACC_PRIVATE);
-			SignatureReader reader = new SignatureReader(variableNode.signature);
-			reader.acceptType(visitor);
-			mType = DataType.getTypeFromObject(visitor.getDeclaration());
+			mType = SignatureCache.getTypeSignature(variableNode.signature);
 		}
 		mIndex = variableNode.index;
 		mScopes.add(new Scope(variableNode.start.getLabel(), variableNode.end.getLabel()));
@@ -96,14 +123,20 @@ public class LocalVariable extends Variable {
 	}
 
 	@Override
-	public String write() {
-		String variable = "";
-		if (mPrintType) {
-			variable += getType().print() + " ";
-			mPrintType = false;
+	public void write(Writer writer) throws IOException {
+		if (mPrintType && isDeclaredHere()) {
+			writer.append(getType().print()).append(' ');
 		}
-		variable += mName;
-		return variable;
+		writer.write(mName);
+	}
+
+	/**
+	 * @return true if the variable was not written yet in the current scope of declarations,
+	 * outside of a scope the variable is always declared
+	 */
+	private boolean isDeclaredHere() {
+		Set<LocalVariable> declared = mDeclaredVariables.get();
+		return declared == null || declared.add(this);
 	}
 
 	@Override
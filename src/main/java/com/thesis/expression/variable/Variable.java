@@ -2,10 +2,18 @@ package com.thesis.expression.variable;
 
 import com.thesis.common.DataType;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * General class representing a variable
  */
 public abstract class Variable {
+	/**
+	 * Name of the variable that references the current instance
+	 */
+	public static final String THIS = "this";
+
 	/**
 	 * Variable name
 	 */
@@ -53,7 +61,7 @@ public abstract class Variable {
 	 * @return if variable has a defined type
 	 */
 	public boolean hasType() {
-		return mType != null && !mType.toString().isEmpty() && !mType.equals(DataType.UNKNOWN);
+		return mType != null && !mType.isEmpty() && !mType.equals(DataType.UNKNOWN);
 	}
 
 	public boolean hasDebugType(){
@@ -64,5 +72,26 @@ public abstract class Variable {
 		mPrintType = printType;
 	}
 
-	public abstract String write();
+	/**
+	 * @return true if the variable is the reference to the current instance
+	 */
+	public boolean isThis() {
+		return THIS.equals(mName);
+	}
+
+	/**
+	 * Writes the reference to the variable, as it is used in an expression
+	 * @param writer destination writer
+	 * @throws IOException if the writer fails
+	 */
+	public void writeName(Writer writer) throws IOException {
+		writer.write(mName);
+	}
+
+	/**
+	 * Writes the variable where it is assigned, it may be declared there
+	 * @param writer destination writer
+	 * @throws IOException if the writer fails
+	 */
+	public abstract void write(Writer writer) throws IOException;
 }
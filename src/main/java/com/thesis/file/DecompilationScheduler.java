@@ -0,0 +1,209 @@
+package com.thesis.file;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the asynchronous decompilations of classes by their priorities on its own threads
+ * <p>
+ * Every request gets a rank when it is submitted: the time of the submission delayed by the aging interval
+ * for each priority level below {@link Priority#INTERACTIVE}, and all tasks of the request, including
+ * its inner classes, are queued by this rank. A newly submitted interactive class runs before the waiting
+ * background work, while background work that waited longer than the aging interval is not overtaken anymore.
+ * <p>
+ * Running decompilations give way to the requests of a lower rank before each method is translated: the queued
+ * tasks of those requests are run on the same thread, then the translation continues.
+ */
+public class DecompilationScheduler implements Closeable {
+
+	/**
+	 * Default delay of the rank for each priority level
+	 */
+	public static final long DEFAULT_AGING_MILLIS = 2000;
+
+	private static final long POLL_MILLIS = 100;
+
+	public enum Priority {
+		/**
+		 * Classes requested by the user who waits for them
+		 */
+		INTERACTIVE,
+		NORMAL,
+		/**
+		 * Batch work, e.g. indexing of whole archives
+		 */
+		BACKGROUND
+	}
+
+	private final Disassembler mDisassembler;
+	private final long mAgingNanos;
+	private final PriorityBlockingQueue<Task> mQueue = new PriorityBlockingQueue<>();
+	private final Thread[] mWorkers;
+	private final AtomicLong mSequence = new AtomicLong();
+
+	/**
+	 * Number of tasks that were queued and did not finish yet
+	 */
+	private final AtomicInteger mPendingTasks = new AtomicInteger();
+	private volatile boolean mIsClosed;
+
+	/**
+	 * @param disassembler disassembler of the classes
+	 * @param threads number of threads
+	 * @throws IllegalArgumentException if the number of threads is not positive
+	 */
+	public DecompilationScheduler(Disassembler disassembler, int threads) {
+		this(disassembler, threads, DEFAULT_AGING_MILLIS);
+	}
+
+	/**
+	 * @param disassembler disassembler of the classes
+	 * @param threads number of threads
+	 * @param agingMillis delay of the rank for each priority level in milliseconds
+	 * @throws IllegalArgumentException if the number of threads is not positive
+	 */
+	public DecompilationScheduler(Disassembler disassembler, int threads, long agingMillis) {
+		if (threads <= 0) throw new IllegalArgumentException("Number of threads must be positive");
+		mDisassembler = disassembler;
+		mAgingNanos = TimeUnit.MILLISECONDS.toNanos(agingMillis);
+		mWorkers = new Thread[threads];
+		for (int i = 0; i < threads; i++) {
+			mWorkers[i] = new Thread(this::work, "decompilation-scheduler-" + i);
+			mWorkers[i].setDaemon(true);
+			mWorkers[i].start();
+		}
+	}
+
+	/**
+	 * Queues the decompilation of the class
+	 * @param file name of the file to decompile
+	 * @param priority priority of the request
+	 * @return future of the decompiled class, see {@link Disassembler#decompileAsync(String)}
+	 * @throws RejectedExecutionException if the scheduler is closed
+	 */
+	public CompletableFuture<Disassembler.DecompilationResult> submit(String file, Priority priority) {
+		// the submission counts as pending until its first task is queued, so the workers can not stop
+		// between the check of the closed flag and the queuing
+		mPendingTasks.incrementAndGet();
+		try {
+			if (mIsClosed) throw new RejectedExecutionException("Scheduler is closed");
+			Request request = new Request(System.nanoTime() + priority.ordinal() * mAgingNanos);
+			return mDisassembler.decompileAsync(file, request, request::giveWay);
+		} finally {
+			mPendingTasks.decrementAndGet();
+		}
+	}
+
+	/**
+	 * @return number of tasks that are queued or running
+	 */
+	public int getPendingTasks() {
+		return mPendingTasks.get();
+	}
+
+	/**
+	 * Stops accepting new requests and waits until the submitted ones are done
+	 */
+	@Override
+	public void close() {
+		mIsClosed = true;
+		for (Thread worker : mWorkers) {
+			try {
+				worker.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void work() {
+		while (true) {
+			Task task;
+			try {
+				task = mQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				return;
+			}
+			if (task != null) {
+				run(task);
+			} else if (mIsClosed && mPendingTasks.get() == 0) {
+				return;
+			}
+		}
+	}
+
+	private boolean isWorker(Thread thread) {
+		for (Thread worker : mWorkers) {
+			if (worker == thread) return true;
+		}
+		return false;
+	}
+
+	private void run(Task task) {
+		try {
+			task.mRunnable.run();
+		} finally {
+			mPendingTasks.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Queues the tasks of a submitted class with its rank
+	 */
+	private class Request implements Executor {
+		private final long mRank;
+
+		Request(long rank) {
+			mRank = rank;
+		}
+
+		@Override
+		public void execute(Runnable runnable) {
+			mPendingTasks.incrementAndGet();
+			mQueue.add(new Task(runnable, mRank, mSequence.getAndIncrement()));
+		}
+
+		/**
+		 * Runs the queued tasks of the requests with a lower rank on the current thread, if it is a worker
+		 * of the scheduler, other threads that run a task inline do not take the queued work
+		 */
+		void giveWay() {
+			if (!isWorker(Thread.currentThread())) return;
+			Task task;
+			while ((task = mQueue.peek()) != null && task.mRank < mRank) {
+				task = mQueue.poll();
+				if (task == null) return;
+				if (task.mRank >= mRank) {
+					mQueue.add(task);
+					return;
+				}
+				run(task);
+			}
+		}
+	}
+
+	private static class Task implements Comparable<Task> {
+		private final Runnable mRunnable;
+		private final long mRank;
+		private final long mSequence;
+
+		Task(Runnable runnable, long rank, long sequence) {
+			mRunnable = runnable;
+			mRank = rank;
+			mSequence = sequence;
+		}
+
+		@Override
+		public int compareTo(Task other) {
+			int result = Long.compare(mRank, other.mRank);
+			return result != 0 ? result : Long.compare(mSequence, other.mSequence);
+		}
+	}
+}
@@ -2,14 +2,29 @@ package com.thesis.file;
 
 import com.thesis.block.Block;
 import com.thesis.block.ClassBlock;
+import com.thesis.common.CharSink;
 import com.thesis.exception.DecompilerException;
 import com.thesis.exception.UnsupportedVersionException;
+import com.thesis.export.SourceExporter;
+import com.thesis.expression.LeafInterner;
+import com.thesis.translator.EnhancerPassManager;
+import com.thesis.translator.MethodCache;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.util.TraceClassVisitor;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The class responsible for initiating the decompilation process
@@ -18,8 +33,26 @@ import java.io.*;
  */
 public class Disassembler {
 
+	/**
+	 * Default number of methods from which a class is translated in parallel
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+
+	/**
+	 * Default scope in which the leaf expressions are shared, the sharing saves little memory of the usual results
+	 * and is left to the callers that keep many decompiled classes
+	 */
+	public static final LeafInterner.Scope DEFAULT_LEAF_INTERNING = LeafInterner.Scope.NONE;
+
     private Reader mReader;
 	private static Disassembler mDisassembler;
+	private volatile int mParallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+	private volatile EnhancerPassManager mPassManager = EnhancerPassManager.createDefault();
+	private volatile LeafInterner.Scope mLeafInterning = DEFAULT_LEAF_INTERNING;
+	private volatile ResultCache mResultCache;
+	private volatile MethodCache mMethodCache;
+	private volatile Executor mExecutor = ForkJoinPool.commonPool();
+	private volatile boolean mPrefetchInnerClasses;
 
 	/**
 	 * Creates an instance of this class
@@ -46,6 +79,97 @@ public class Disassembler {
         mReader = new Reader(directory);
     }
 
+	/**
+	 * Classes with at least the given number of methods have their methods and inner classes translated
+	 * as separate parallel tasks
+	 * @param parallelThreshold number of methods, {@link Integer#MAX_VALUE} disables the parallel translation
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		mParallelThreshold = parallelThreshold;
+	}
+
+	public int getParallelThreshold() {
+		return mParallelThreshold;
+	}
+
+	/**
+	 * Returns the manager of the passes that enhance the translated methods, it can be used to switch the passes
+	 * on or off for the following decompilations and to read their statistics
+	 * @return pass manager
+	 */
+	public EnhancerPassManager getPassManager() {
+		return mPassManager;
+	}
+
+	/**
+	 * @param passManager manager of the passes that enhance the translated methods,
+	 *                    e.g. created by {@link EnhancerPassManager#fromConfiguration(java.util.Properties)}
+	 */
+	public void setPassManager(EnhancerPassManager passManager) {
+		mPassManager = passManager;
+	}
+
+	/**
+	 * Structurally equal leaf expressions (constants, variable accesses) can be shared in the decompiled code
+	 * of a method or of a class to reduce the memory of the results
+	 * @param leafInterning scope of the sharing, {@link LeafInterner.Scope#NONE} disables it
+	 */
+	public void setLeafInterning(LeafInterner.Scope leafInterning) {
+		mLeafInterning = leafInterning;
+	}
+
+	public LeafInterner.Scope getLeafInterning() {
+		return mLeafInterning;
+	}
+
+	/**
+	 * Inner and anonymous classes can be read and decompiled concurrently with the members of their enclosing class,
+	 * as tasks of the common {@link ForkJoinPool} regardless of the parallel threshold, it is disabled by default
+	 * @param prefetchInnerClasses whether the inner classes are decompiled concurrently
+	 */
+	public void setPrefetchInnerClasses(boolean prefetchInnerClasses) {
+		mPrefetchInnerClasses = prefetchInnerClasses;
+	}
+
+	public boolean isPrefetchInnerClasses() {
+		return mPrefetchInnerClasses;
+	}
+
+	/**
+	 * @param executor executor of the tasks of {@link #decompileAsync(String)}, the common {@link ForkJoinPool} by default
+	 */
+	public void setExecutor(Executor executor) {
+		mExecutor = executor;
+	}
+
+	public Executor getExecutor() {
+		return mExecutor;
+	}
+
+	/**
+	 * Methods with identical code, e.g. generated accessors or enum methods repeated in many classes, can share
+	 * their translated statements instead of being translated again
+	 * @param methodCache cache of the statements of the methods, null disables it
+	 */
+	public void setMethodCache(MethodCache methodCache) {
+		mMethodCache = methodCache;
+	}
+
+	public MethodCache getMethodCache() {
+		return mMethodCache;
+	}
+
+	/**
+	 * @param resultCache cache of the classes rendered by {@link #decompileClassSource(String)}, null disables it
+	 */
+	public void setResultCache(ResultCache resultCache) {
+		mResultCache = resultCache;
+	}
+
+	public ResultCache getResultCache() {
+		return mResultCache;
+	}
+
 	/**
 	 * Decompiles the file, should be used from outside
 	 * @param file name of the file to decompile
@@ -58,6 +182,144 @@ public class Disassembler {
 		return new DecompilationResult(classBlock);
     }
 
+	/**
+	 * Decompiles the file in the tasks of the executor, see {@link #setExecutor(Executor)}
+	 * <p>
+	 * The class is decompiled in one task and each of its inner classes in a separate task started when the class
+	 * is decompiled, the future completes when all of them are done. When the future is cancelled, the decompilation
+	 * stops before the next method is translated.
+	 * <p>
+	 * The result cache is not used, it holds only the rendered strings and not the decompiled class,
+	 * see {@link #decompileClassSource(String)}.
+	 * @param file name of the file to decompile
+	 * @return future of the decompiled class, completed with {@link DecompilerException} in case of a problem
+	 */
+	public CompletableFuture<DecompilationResult> decompileAsync(String file) {
+		return decompileAsync(file, mExecutor, null);
+	}
+
+	/**
+	 * Decompiles the file in the tasks of the given executor, see {@link #decompileAsync(String)}
+	 * @param file name of the file to decompile
+	 * @param executor executor of the tasks of the class and its inner classes
+	 * @param checkpoint run before each method is translated, e.g. to let more urgent work run, null if there is none
+	 * @return future of the decompiled class, completed with {@link DecompilerException} in case of a problem
+	 */
+	public CompletableFuture<DecompilationResult> decompileAsync(String file, Executor executor, Runnable checkpoint) {
+		CompletableFuture<DecompilationResult> result = new CompletableFuture<>();
+		Runnable classCheckpoint = () -> {
+			if (result.isDone()) throw new CancellationException("Decompilation of " + file + " was cancelled");
+			if (checkpoint != null) {
+				checkpoint.run();
+			}
+		};
+		decompileClassAsync(file, null, classCheckpoint, executor).whenComplete((classBlock, e) -> {
+			if (e != null) {
+				result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+			} else {
+				result.complete(new DecompilationResult(classBlock));
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Decompiles the class and then its inner classes as dependent tasks
+	 */
+	private CompletableFuture<ClassBlock> decompileClassAsync(String file, ClassBlock parent, Runnable checkpoint,
+															  Executor executor) {
+		return CompletableFuture.supplyAsync(() -> {
+			checkpoint.run();
+			try {
+				ClassBlock classBlock = createClassBlock(getClassReader(file), parent);
+				classBlock.setCheckpoint(checkpoint);
+				return classBlock.disassembleMembers();
+			} catch (DecompilerException e) {
+				throw new CompletionException(e);
+			}
+		}, executor).thenCompose(classBlock -> {
+			List<CompletableFuture<ClassBlock>> innerClasses = new ArrayList<>();
+			for (String innerClassName : classBlock.getInnerClassNames()) {
+				innerClasses.add(decompileClassAsync(classBlock.getInnerClassFile(innerClassName) + ".class", classBlock,
+						checkpoint, executor).handle((innerClass, e) -> {
+					if (e == null) return innerClass;
+					Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+					if (cause instanceof DecompilerException) return null;
+					throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+				}));
+			}
+			return CompletableFuture.allOf(innerClasses.toArray(new CompletableFuture<?>[0]))
+					.thenApply(v -> {
+						List<ClassBlock> blocks = new ArrayList<>(innerClasses.size());
+						for (CompletableFuture<ClassBlock> innerClass : innerClasses) {
+							blocks.add(innerClass.join());
+						}
+						classBlock.addInnerClasses(blocks);
+						return classBlock;
+					});
+		});
+	}
+
+	/**
+	 * Decompiles the file and renders it, the rendered class is taken from the result cache if the same
+	 * class file was rendered before with the same inner class files and enhancer passes, the leaf interning
+	 * does not change the rendered code, see {@link #setResultCache(ResultCache)}
+	 * @param file name of the file to decompile
+	 * @return Java code and bytecode of the class
+	 * @throws DecompilerException or its subclass, in case of a problem
+	 */
+	public ResultCache.RenderedClass decompileClassSource(String file) throws DecompilerException {
+		ClassReader classReader = getClassReader(file);
+		ResultCache resultCache = mResultCache;
+		if (resultCache == null) {
+			DecompilationResult result = new DecompilationResult(disassembleClass(classReader, null));
+			return new ResultCache.RenderedClass(result.getJavaCode(), result.getBytecode());
+		}
+
+		ResultCache.Key key = new ResultCache.Key(classReader.b, mPassManager.getFingerprint(),
+				readInnerClassFiles(classReader, new HashSet<>()));
+		ResultCache.RenderedClass rendered = resultCache.get(key);
+		if (rendered != null) return rendered;
+
+		DecompilationResult result = new DecompilationResult(disassembleClass(classReader, null));
+		return resultCache.put(key, result.getJavaCode(), result.getBytecode());
+	}
+
+	/**
+	 * Reads the files of the inner classes declared in the class and recursively in them
+	 * @param classReader reader of the class
+	 * @param visited names of the classes that were already read
+	 * @return bytes of the files in the order of their declaration, null for a file that was not found
+	 */
+	private List<byte[]> readInnerClassFiles(ClassReader classReader, Set<String> visited) {
+		String className = classReader.getClassName();
+		visited.add(className);
+		List<String> innerClassNames = new ArrayList<>();
+		classReader.accept(new ClassVisitor(Opcodes.ASM5) {
+			@Override
+			public void visitInnerClass(String name, String outerName, String innerName, int access) {
+				if (name.startsWith(className + "$") && !visited.contains(name)) {
+					visited.add(name);
+					innerClassNames.add(name);
+				}
+			}
+		}, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+		List<byte[]> files = new ArrayList<>();
+		for (String innerClassName : innerClassNames) {
+			ClassReader innerClassReader;
+			try {
+				innerClassReader = getClassReader(innerClassName.substring(innerClassName.lastIndexOf('/') + 1) + ".class");
+			} catch (DecompilerException e) {
+				files.add(null);
+				continue;
+			}
+			files.add(innerClassReader.b);
+			files.addAll(readInnerClassFiles(innerClassReader, visited));
+		}
+		return files;
+	}
+
 	/**
 	 * Decompiles the inner class file
 	 * @param file name of the file to decompile
@@ -71,6 +333,12 @@ public class Disassembler {
 	}
 
 	private ClassBlock disassembleClass(ClassReader classReader, Block parent) throws UnsupportedVersionException {
+		ClassBlock classBlock = createClassBlock(classReader, parent);
+		classBlock.disassemble();
+		return classBlock;
+	}
+
+	private ClassBlock createClassBlock(ClassReader classReader, Block parent) throws UnsupportedVersionException {
 		Writer bytecodeStringWriter = new StringWriter();
 		ClassVisitor classVisitor = new TraceClassVisitor(new PrintWriter(bytecodeStringWriter));
 		classReader.accept(classVisitor, ClassReader.EXPAND_FRAMES);
@@ -81,9 +349,14 @@ public class Disassembler {
 			throw new UnsupportedVersionException("Class files of version " + classNode.version + " are not supported");
 		}
 		ClassBlock classBlock = new ClassBlock(classNode, parent);
+		classBlock.setDisassembler(this);
+		classBlock.setParallelThreshold(mParallelThreshold);
+		classBlock.setPassManager(mPassManager);
+		classBlock.setLeafInterning(mLeafInterning);
+		classBlock.setMethodCache(mMethodCache);
+		classBlock.setPrefetchInnerClasses(mPrefetchInnerClasses);
 
 		classBlock.setBytecode(bytecodeStringWriter.toString());
-		classBlock.disassemble();
 		return classBlock;
 	}
 
@@ -103,6 +376,16 @@ public class Disassembler {
 	 */
 	@SuppressWarnings("unused")
 	public static class DecompilationResult {
+		/**
+		 * Largest sink in characters that is kept by a thread for the next rendering
+		 */
+		private static final int MAX_RETAINED_SINK_CAPACITY = 1 << 20;
+
+		/**
+		 * Sinks reused by the renderings on the same thread
+		 */
+		private static final ThreadLocal<CharSink> mRenderSinks = ThreadLocal.withInitial(CharSink::new);
+
 		private ClassBlock mClassBlock;
 
 		private String mJavaCode = null;
@@ -134,6 +417,25 @@ public class Disassembler {
 			return mJavaCode;
 		}
 
+		/**
+		 * Writes the structure of the decompiled class in the binary form,
+		 * it can be loaded by {@link SourceExporter#readBinary(InputStream)}
+		 * @param output destination stream, it is not closed
+		 * @throws IOException in case of an error
+		 */
+		public void exportBinary(OutputStream output) throws IOException {
+			SourceExporter.writeBinary(mClassBlock, output);
+		}
+
+		/**
+		 * Writes the structure of the decompiled class as JSON
+		 * @param output destination writer, it is not closed
+		 * @throws IOException in case of an error
+		 */
+		public void exportJson(Writer output) throws IOException {
+			SourceExporter.writeJson(mClassBlock, output);
+		}
+
 		/**
 		 * Returns the complete decompiled ClassBlock
 		 * @return decompiled object
@@ -143,14 +445,18 @@ public class Disassembler {
 		}
 
 		private String printDecompiledClass() {
-			Writer stringWriter = new StringWriter();
-			Writer printWriter = new PrintWriter(stringWriter);
+			CharSink sink = mRenderSinks.get();
+			sink.reset();
 			try {
-				mClassBlock.write(printWriter);
+				mClassBlock.write(sink);
 			} catch (IOException e) {
 				e.printStackTrace();
 			}
-			return stringWriter.toString();
+			String javaCode = sink.toString();
+			if (sink.capacity() > MAX_RETAINED_SINK_CAPACITY) {
+				mRenderSinks.remove();
+			}
+			return javaCode;
 		}
 	}
 }
@@ -0,0 +1,148 @@
+package com.thesis.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Random access to the sources in a pack file written by {@link PackWriter}
+ * <p>
+ * The file is mapped to the memory in segments of at most {@link #SEGMENT_SIZE} bytes, only the index is read
+ * when the reader is opened. The reader can be used by more threads at once.
+ */
+public class PackReader implements Closeable {
+
+	/**
+	 * Maximal size of a mapped segment of the file
+	 */
+	static final int SEGMENT_SIZE = 1 << 30;
+
+	private final FileChannel mChannel;
+	private final MappedByteBuffer[] mSegments;
+
+	/**
+	 * Sorted class names with the offsets and lengths of their sources at the same positions
+	 */
+	private final String[] mNames;
+	private final long[] mOffsets;
+	private final int[] mLengths;
+
+	/**
+	 * Opens the pack file and reads its index
+	 * @param file pack file
+	 * @throws IOException if the file can not be read or is not a pack file
+	 */
+	public PackReader(Path file) throws IOException {
+		mChannel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			long size = mChannel.size();
+			if (size < PackWriter.HEADER_SIZE + PackWriter.TRAILER_SIZE) throw new IOException("Not a pack file");
+
+			mSegments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+			for (int i = 0; i < mSegments.length; i++) {
+				long position = (long) i * SEGMENT_SIZE;
+				mSegments[i] = mChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+			}
+
+			ByteBuffer header = ByteBuffer.wrap(read(0, PackWriter.HEADER_SIZE));
+			ByteBuffer trailer = ByteBuffer.wrap(read(size - PackWriter.TRAILER_SIZE, PackWriter.TRAILER_SIZE));
+			long indexOffset = trailer.getLong();
+			if (header.getInt() != PackWriter.MAGIC || trailer.getInt() != PackWriter.MAGIC) {
+				throw new IOException("Not a pack file");
+			}
+			int version = header.get();
+			if (version != PackWriter.VERSION) throw new IOException("Unsupported version " + version + " of the pack file");
+			if (indexOffset < PackWriter.HEADER_SIZE || indexOffset > size - PackWriter.TRAILER_SIZE) {
+				throw new IOException("Corrupted pack file");
+			}
+
+			ByteBuffer index = ByteBuffer.wrap(read(indexOffset, (int) (size - PackWriter.TRAILER_SIZE - indexOffset)));
+			int count = (int) readNumber(index);
+			mNames = new String[count];
+			mOffsets = new long[count];
+			mLengths = new int[count];
+			byte[] name = new byte[0];
+			for (int i = 0; i < count; i++) {
+				int prefix = (int) readNumber(index);
+				int suffix = (int) readNumber(index);
+				name = Arrays.copyOf(name, prefix + suffix);
+				index.get(name, prefix, suffix);
+				mNames[i] = new String(name, StandardCharsets.UTF_8);
+				mOffsets[i] = readNumber(index);
+				mLengths[i] = (int) readNumber(index);
+			}
+		} catch (IOException | RuntimeException e) {
+			mChannel.close();
+			throw e instanceof IOException ? (IOException) e : new IOException("Corrupted pack file", e);
+		}
+	}
+
+	/**
+	 * @param className name of the class
+	 * @return source of the class, or null if the pack does not contain it
+	 */
+	public String getJavaCode(String className) {
+		int position = Arrays.binarySearch(mNames, className);
+		if (position < 0) return null;
+		return new String(read(mOffsets[position], mLengths[position]), StandardCharsets.UTF_8);
+	}
+
+	public boolean contains(String className) {
+		return Arrays.binarySearch(mNames, className) >= 0;
+	}
+
+	/**
+	 * @return names of the classes in the pack in sorted order
+	 */
+	public List<String> getClassNames() {
+		return Collections.unmodifiableList(Arrays.asList(mNames));
+	}
+
+	/**
+	 * @return number of classes in the pack
+	 */
+	public int size() {
+		return mNames.length;
+	}
+
+	/**
+	 * Copies the bytes from the mapped segments, the duplicates of the segments are used,
+	 * so the reading threads do not share the positions
+	 */
+	private byte[] read(long offset, int length) {
+		byte[] bytes = new byte[length];
+		int copied = 0;
+		while (copied < length) {
+			long position = offset + copied;
+			ByteBuffer segment = mSegments[(int) (position / SEGMENT_SIZE)].duplicate();
+			segment.position((int) (position % SEGMENT_SIZE));
+			int count = Math.min(length - copied, segment.remaining());
+			segment.get(bytes, copied, count);
+			copied += count;
+		}
+		return bytes;
+	}
+
+	private static long readNumber(ByteBuffer buffer) throws IOException {
+		long number = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			number |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return number;
+		}
+		throw new IOException("Malformed number in the index");
+	}
+
+	@Override
+	public void close() throws IOException {
+		mChannel.close();
+	}
+}
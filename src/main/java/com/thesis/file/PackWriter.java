@@ -0,0 +1,202 @@
+package com.thesis.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes the decompiled sources of many classes into a single pack file, read by {@link PackReader}
+ * <p>
+ * The sources are appended one after another as UTF-8 and written to the file in large chunks, so a batch
+ * of many small classes does not create a file for each class. When the writer is closed, the index of the
+ * classes sorted by their names is appended, followed by the trailer with the position of the index,
+ * and the file is forced to the storage once.
+ * <p>
+ * The file starts with the {@link #MAGIC} and the {@link #VERSION}. The index contains the number of classes
+ * and for every class its name, stored as the length of the prefix shared with the previous name and the rest
+ * of the name, the offset and the length of the source. The numbers of the index are unsigned variable
+ * length integers. The trailer is the offset of the index and the {@link #MAGIC}.
+ */
+public class PackWriter implements Closeable {
+
+	static final int MAGIC = 0x5444504B;
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 5;
+	static final int TRAILER_SIZE = 12;
+
+	/**
+	 * Default size of the chunks written to the file
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+	private final FileChannel mChannel;
+	private final ByteBuffer mChunk;
+
+	/**
+	 * Offset and length of the source of every class by its name
+	 */
+	private final Map<String, long[]> mEntries = new TreeMap<>();
+
+	/**
+	 * Offset in the file where the next source starts
+	 */
+	private long mOffset;
+	private boolean mIsClosed;
+
+	/**
+	 * True if a source was not written completely, the offsets of the following sources would not match the file
+	 */
+	private boolean mIsFailed;
+
+	/**
+	 * @param file pack file, it is replaced if it exists
+	 * @throws IOException if the file can not be created
+	 */
+	public PackWriter(Path file) throws IOException {
+		this(file, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param file pack file, it is replaced if it exists
+	 * @param chunkSize number of bytes collected before they are written to the file
+	 * @throws IOException if the file can not be created
+	 */
+	public PackWriter(Path file, int chunkSize) throws IOException {
+		mChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		mChunk = ByteBuffer.allocate(Math.max(chunkSize, TRAILER_SIZE));
+		mChunk.putInt(MAGIC).put((byte) VERSION);
+		mOffset = HEADER_SIZE;
+	}
+
+	/**
+	 * Appends the decompiled source of a class
+	 * @param result decompiled class
+	 * @throws IOException in case of an error while writing
+	 */
+	public void add(Disassembler.DecompilationResult result) throws IOException {
+		add(result.getClassBlock().getClassType().toString(), result.getJavaCode());
+	}
+
+	/**
+	 * Appends the source of a class, a class that was already added is replaced in the index
+	 * <p>
+	 * The class is added to the index only after its source is written. If the writing fails, the writer refuses
+	 * further sources and closes the file without the index.
+	 * @param className name of the class
+	 * @param javaCode source of the class
+	 * @throws IOException in case of an error while writing
+	 */
+	public synchronized void add(String className, String javaCode) throws IOException {
+		if (mIsClosed) throw new IOException("Pack file is closed");
+		if (mIsFailed) throw new IOException("Pack file is incomplete after an earlier error");
+
+		byte[] bytes = javaCode.getBytes(StandardCharsets.UTF_8);
+		try {
+			put(bytes);
+		} catch (IOException e) {
+			mIsFailed = true;
+			throw e;
+		}
+		mEntries.put(className, new long[]{mOffset, bytes.length});
+		mOffset += bytes.length;
+	}
+
+	/**
+	 * @return number of classes in the pack
+	 */
+	public synchronized int size() {
+		return mEntries.size();
+	}
+
+	/**
+	 * Appends the index and the trailer and closes the file
+	 * @throws IOException in case of an error while writing
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (mIsClosed) return;
+		mIsClosed = true;
+		try {
+			// without the index and the trailer the file is not read as a pack
+			if (mIsFailed) return;
+			long indexOffset = mOffset;
+			writeIndex();
+			if (mChunk.remaining() < TRAILER_SIZE) {
+				flushChunk();
+			}
+			mChunk.putLong(indexOffset).putInt(MAGIC);
+			flushChunk();
+			mChannel.force(false);
+		} finally {
+			mChannel.close();
+		}
+	}
+
+	private void writeIndex() throws IOException {
+		putNumber(mEntries.size());
+		byte[] previous = new byte[0];
+		for (Map.Entry<String, long[]> entry : mEntries.entrySet()) {
+			byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+			int prefix = 0;
+			int maxPrefix = Math.min(previous.length, name.length);
+			while (prefix < maxPrefix && previous[prefix] == name[prefix]) {
+				prefix++;
+			}
+			putNumber(prefix);
+			putNumber(name.length - prefix);
+			put(name, prefix, name.length - prefix);
+			putNumber(entry.getValue()[0]);
+			putNumber(entry.getValue()[1]);
+			previous = name;
+		}
+	}
+
+	private void putNumber(long number) throws IOException {
+		while ((number & ~0x7FL) != 0) {
+			put((byte) ((number & 0x7F) | 0x80));
+			number >>>= 7;
+		}
+		put((byte) number);
+	}
+
+	private void put(byte b) throws IOException {
+		if (!mChunk.hasRemaining()) {
+			flushChunk();
+		}
+		mChunk.put(b);
+	}
+
+	private void put(byte[] bytes) throws IOException {
+		put(bytes, 0, bytes.length);
+	}
+
+	private void put(byte[] bytes, int offset, int length) throws IOException {
+		if (length > mChunk.remaining()) {
+			flushChunk();
+			if (length > mChunk.capacity()) {
+				writeFully(ByteBuffer.wrap(bytes, offset, length));
+				return;
+			}
+		}
+		mChunk.put(bytes, offset, length);
+	}
+
+	private void flushChunk() throws IOException {
+		mChunk.flip();
+		writeFully(mChunk);
+		mChunk.clear();
+	}
+
+	private void writeFully(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			mChannel.write(buffer);
+		}
+	}
+}
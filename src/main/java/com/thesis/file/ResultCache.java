@@ -0,0 +1,517 @@
+package com.thesis.file;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Bounded in-memory cache of the rendered Java code and bytecode of decompiled classes
+ * <p>
+ * Only the rendered strings are kept, not the decompiled {@link com.thesis.block.ClassBlock}s. The entries are
+ * keyed by the SHA-256 hash of everything the rendered code depends on, see {@link Key}, so the same class
+ * is found regardless of its file name, while a changed inner class file or changed decompilation settings
+ * miss the entries rendered before.
+ * <p>
+ * The size of the entries is accounted in bytes. A recently used entry is kept in the hot part, which takes
+ * at most {@link #HOT_PERCENT} of the size. When it is pushed out of the hot part it moves to the cold part,
+ * compressed by deflate if it is enabled. When the cold part is full, the entry is admitted only if it was
+ * requested more often than the least recently used cold entry, which is evicted instead, the frequencies
+ * are estimated by a small sketch that is periodically halved. A cold entry that is requested again
+ * moves back to the hot part.
+ */
+public class ResultCache {
+
+	/**
+	 * Percent of the size of the cache used by the recently used uncompressed entries
+	 */
+	public static final int HOT_PERCENT = 20;
+
+	/**
+	 * Estimated number of bytes taken by an entry besides its content
+	 */
+	private static final int ENTRY_OVERHEAD = 160;
+
+	private final long mMaxBytes;
+	private final long mMaxHotBytes;
+	private final boolean mCompressColdEntries;
+
+	private final LinkedHashMap<Key, Entry> mHot = new LinkedHashMap<>(16, 0.75f, true);
+	private final LinkedHashMap<Key, Entry> mCold = new LinkedHashMap<>(16, 0.75f, true);
+	private final FrequencySketch mFrequencies;
+
+	private long mHotBytes;
+	private long mColdBytes;
+	private long mHits;
+	private long mMisses;
+	private long mEvictions;
+
+	/**
+	 * @param maxBytes maximal estimated size of the cached entries in bytes
+	 * @param compressColdEntries whether the entries in the cold part are stored compressed
+	 */
+	public ResultCache(long maxBytes, boolean compressColdEntries) {
+		if (maxBytes <= 0) throw new IllegalArgumentException("Size of the cache must be positive");
+		mMaxBytes = maxBytes;
+		mMaxHotBytes = maxBytes * HOT_PERCENT / 100;
+		mCompressColdEntries = compressColdEntries;
+		mFrequencies = new FrequencySketch(maxBytes);
+	}
+
+	/**
+	 * @param key key of the class
+	 * @return rendered class, or null if it is not cached
+	 */
+	public RenderedClass get(Key key) {
+		Entry entry;
+		synchronized (this) {
+			mFrequencies.increment(key.hashCode());
+			entry = mHot.get(key);
+			if (entry != null) {
+				mHits++;
+				return entry.mRendered;
+			}
+			entry = mCold.remove(key);
+			if (entry == null) {
+				mMisses++;
+				return null;
+			}
+			mHits++;
+			mColdBytes -= entry.mSize;
+		}
+		Entry hotEntry = new Entry(entry.getRendered());
+		List<Map.Entry<Key, Entry>> demoted = Collections.emptyList();
+		synchronized (this) {
+			if (!mHot.containsKey(key) && !mCold.containsKey(key)) {
+				demoted = putHot(key, hotEntry);
+			}
+		}
+		moveToCold(demoted);
+		return hotEntry.mRendered;
+	}
+
+	/**
+	 * Caches the rendered class, a class that is larger than the whole cache is not cached
+	 * @param key key of the class
+	 * @param javaCode decompiled Java code of the class
+	 * @param bytecode bytecode of the class in ASM format
+	 * @return the rendered class
+	 */
+	public RenderedClass put(Key key, String javaCode, String bytecode) {
+		Entry entry = new Entry(new RenderedClass(javaCode, bytecode));
+		List<Map.Entry<Key, Entry>> demoted;
+		synchronized (this) {
+			Entry cold = mCold.remove(key);
+			if (cold != null) {
+				mColdBytes -= cold.mSize;
+			}
+			if (entry.mSize > mMaxBytes) {
+				Entry hot = mHot.remove(key);
+				if (hot != null) {
+					mHotBytes -= hot.mSize;
+				}
+				return entry.mRendered;
+			}
+			demoted = putHot(key, entry);
+		}
+		moveToCold(demoted);
+		return entry.mRendered;
+	}
+
+	/**
+	 * Removes all entries, the statistics are kept
+	 */
+	public synchronized void clear() {
+		mHot.clear();
+		mCold.clear();
+		mHotBytes = 0;
+		mColdBytes = 0;
+	}
+
+	public synchronized Statistics getStatistics() {
+		int compressed = 0;
+		for (Entry entry : mCold.values()) {
+			if (entry.mCompressed != null) compressed++;
+		}
+		return new Statistics(mHits, mMisses, mEvictions, mHot.size() + mCold.size(), compressed,
+				mHotBytes + mColdBytes);
+	}
+
+	public synchronized void resetStatistics() {
+		mHits = 0;
+		mMisses = 0;
+		mEvictions = 0;
+	}
+
+	/**
+	 * Puts the entry to the hot part, the entries pushed out of it are moved to the cold part,
+	 * unless they have to be compressed first
+	 * @return entries pushed out of the hot part that have to be compressed and moved by {@link #moveToCold(List)}
+	 */
+	private List<Map.Entry<Key, Entry>> putHot(Key key, Entry entry) {
+		Entry previous = mHot.put(key, entry);
+		if (previous != null) {
+			mHotBytes -= previous.mSize;
+		}
+		mHotBytes += entry.mSize;
+
+		List<Map.Entry<Key, Entry>> demoted = Collections.emptyList();
+		Iterator<Map.Entry<Key, Entry>> iterator = mHot.entrySet().iterator();
+		while (mHotBytes > mMaxHotBytes && mHot.size() > 1) {
+			Map.Entry<Key, Entry> eldest = iterator.next();
+			iterator.remove();
+			mHotBytes -= eldest.getValue().mSize;
+			if (mCompressColdEntries) {
+				if (demoted.isEmpty()) demoted = new ArrayList<>();
+				demoted.add(new AbstractMap.SimpleImmutableEntry<>(eldest));
+			} else {
+				putCold(eldest.getKey(), eldest.getValue());
+			}
+		}
+		evictCold(0);
+		return demoted;
+	}
+
+	/**
+	 * Compresses the entries pushed out of the hot part without holding the lock, then moves them to the cold part
+	 * <p>
+	 * The entries are in neither part while they are compressed, an entry that was put again in the meantime
+	 * is not replaced.
+	 * @param demoted entries returned by {@link #putHot(Key, Entry)}
+	 */
+	private void moveToCold(List<Map.Entry<Key, Entry>> demoted) {
+		if (demoted.isEmpty()) return;
+		List<Entry> compressed = new ArrayList<>(demoted.size());
+		for (Map.Entry<Key, Entry> entry : demoted) {
+			compressed.add(entry.getValue().compress());
+		}
+		synchronized (this) {
+			for (int i = 0; i < demoted.size(); i++) {
+				Key key = demoted.get(i).getKey();
+				if (!mHot.containsKey(key) && !mCold.containsKey(key)) {
+					putCold(key, compressed.get(i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Moves the entry to the cold part if it has enough space for it, or if the entry is requested more often
+	 * than the cold entries that would be evicted
+	 */
+	private void putCold(Key key, Entry entry) {
+		if (!evictCold(entry.mSize) && mFrequencies.frequency(key.hashCode()) <= eldestColdFrequency()) {
+			mEvictions++;
+			return;
+		}
+		while (!evictCold(entry.mSize)) {
+			removeEldestCold();
+		}
+		mCold.put(key, entry);
+		mColdBytes += entry.mSize;
+	}
+
+	/**
+	 * @param size number of bytes to be added
+	 * @return true if the cache has space for the given number of bytes after the cold entries were evicted
+	 * only to keep the cache within its size
+	 */
+	private boolean evictCold(long size) {
+		while (mHotBytes + mColdBytes > mMaxBytes && !mCold.isEmpty()) {
+			removeEldestCold();
+		}
+		return mHotBytes + mColdBytes + size <= mMaxBytes || mCold.isEmpty();
+	}
+
+	private int eldestColdFrequency() {
+		if (mCold.isEmpty()) return -1;
+		return mFrequencies.frequency(mCold.keySet().iterator().next().hashCode());
+	}
+
+	private void removeEldestCold() {
+		Iterator<Entry> iterator = mCold.values().iterator();
+		mColdBytes -= iterator.next().mSize;
+		iterator.remove();
+		mEvictions++;
+	}
+
+	/**
+	 * Decompiled Java code and bytecode of a class
+	 */
+	public static class RenderedClass {
+		private final String mJavaCode;
+		private final String mBytecode;
+
+		RenderedClass(String javaCode, String bytecode) {
+			mJavaCode = javaCode;
+			mBytecode = bytecode;
+		}
+
+		/**
+		 * @return string representation of the decompiled Java code
+		 */
+		public String getJavaCode() {
+			return mJavaCode;
+		}
+
+		/**
+		 * @return string representation of class bytecode in ASM format
+		 */
+		public String getBytecode() {
+			return mBytecode;
+		}
+	}
+
+	/**
+	 * Hash of the class file together with the inner class files and the settings that change the rendered code
+	 */
+	public static final class Key {
+		private static final byte[] MISSING_FILE = new byte[0];
+
+		private final byte[] mDigest;
+		private final int mHashCode;
+
+		/**
+		 * @param classBytes bytes of the class file
+		 */
+		public Key(byte[] classBytes) {
+			this(classBytes, "", Collections.<byte[]>emptyList());
+		}
+
+		/**
+		 * @param classBytes bytes of the class file
+		 * @param settings fingerprint of the decompilation settings that change the rendered code
+		 * @param innerClassBytes bytes of the files of the inner classes rendered with the class in their order,
+		 *                        null for a file that was not found
+		 */
+		public Key(byte[] classBytes, String settings, List<byte[]> innerClassBytes) {
+			MessageDigest digest;
+			try {
+				digest = MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+			update(digest, classBytes);
+			update(digest, settings.getBytes(StandardCharsets.UTF_8));
+			for (byte[] bytes : innerClassBytes) {
+				update(digest, bytes == null ? MISSING_FILE : bytes);
+				digest.update((byte) (bytes == null ? 0 : 1));
+			}
+			mDigest = digest.digest();
+			mHashCode = (mDigest[0] & 0xFF) << 24 | (mDigest[1] & 0xFF) << 16 | (mDigest[2] & 0xFF) << 8 | mDigest[3] & 0xFF;
+		}
+
+		/**
+		 * Feeds the length before the bytes, so the boundaries of the parts are part of the hash
+		 */
+		private static void update(MessageDigest digest, byte[] bytes) {
+			int length = bytes.length;
+			digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+			digest.update(bytes);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && Arrays.equals(mDigest, ((Key) obj).mDigest);
+		}
+
+		@Override
+		public int hashCode() {
+			return mHashCode;
+		}
+	}
+
+	/**
+	 * Cached class, either with the strings or with their compressed UTF-8 bytes
+	 */
+	private static final class Entry {
+		private final RenderedClass mRendered;
+		private final byte[] mCompressed;
+		private final int mJavaCodeLength;
+		private final int mLength;
+		private final long mSize;
+
+		Entry(RenderedClass rendered) {
+			mRendered = rendered;
+			mCompressed = null;
+			mJavaCodeLength = 0;
+			mLength = 0;
+			mSize = ENTRY_OVERHEAD + 2L * (rendered.mJavaCode.length() + rendered.mBytecode.length());
+		}
+
+		private Entry(byte[] compressed, int javaCodeLength, int length) {
+			mRendered = null;
+			mCompressed = compressed;
+			mJavaCodeLength = javaCodeLength;
+			mLength = length;
+			mSize = ENTRY_OVERHEAD + compressed.length;
+		}
+
+		Entry compress() {
+			if (mCompressed != null) return this;
+			byte[] javaCode = mRendered.mJavaCode.getBytes(StandardCharsets.UTF_8);
+			byte[] bytecode = mRendered.mBytecode.getBytes(StandardCharsets.UTF_8);
+			byte[] bytes = Arrays.copyOf(javaCode, javaCode.length + bytecode.length);
+			System.arraycopy(bytecode, 0, bytes, javaCode.length, bytecode.length);
+
+			Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+			try {
+				deflater.setInput(bytes);
+				deflater.finish();
+				byte[] buffer = new byte[Math.max(64, bytes.length / 4)];
+				int length = 0;
+				while (!deflater.finished()) {
+					if (length == buffer.length) {
+						buffer = Arrays.copyOf(buffer, buffer.length * 2);
+					}
+					length += deflater.deflate(buffer, length, buffer.length - length);
+				}
+				return new Entry(Arrays.copyOf(buffer, length), javaCode.length, bytes.length);
+			} finally {
+				deflater.end();
+			}
+		}
+
+		RenderedClass getRendered() {
+			if (mRendered != null) return mRendered;
+			byte[] bytes = new byte[mLength];
+			Inflater inflater = new Inflater();
+			try {
+				inflater.setInput(mCompressed);
+				int length = 0;
+				while (length < mLength && !inflater.finished()) {
+					length += inflater.inflate(bytes, length, mLength - length);
+				}
+			} catch (DataFormatException e) {
+				throw new IllegalStateException("Corrupted cache entry", e);
+			} finally {
+				inflater.end();
+			}
+			return new RenderedClass(new String(bytes, 0, mJavaCodeLength, StandardCharsets.UTF_8),
+					new String(bytes, mJavaCodeLength, mLength - mJavaCodeLength, StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Count-min sketch of the numbers of requests of the keys, with 4 bit counters
+	 * <p>
+	 * All counters are halved after a number of increments proportional to the width of the sketch,
+	 * so the frequencies follow the recent requests.
+	 */
+	private static final class FrequencySketch {
+		private static final int DEPTH = 4;
+		private static final int MAX_COUNT = 15;
+		private static final int[] SEEDS = {0x97CB3127, 0xB3E5F5D5, 0xC2B2AE35, 0x27D4EB2F};
+
+		private final byte[] mCounters;
+		private final int mMask;
+		private final int mSampleSize;
+		private int mIncrements;
+
+		/**
+		 * @param maxBytes size of the cache, the width of the sketch is estimated for entries of about 4 kB
+		 */
+		FrequencySketch(long maxBytes) {
+			int width = Integer.highestOneBit((int) Math.max(64, Math.min(1 << 20, maxBytes / 4096)));
+			mCounters = new byte[DEPTH * width];
+			mMask = width - 1;
+			mSampleSize = 10 * width;
+		}
+
+		void increment(int hash) {
+			for (int i = 0; i < DEPTH; i++) {
+				int index = index(hash, i);
+				if (mCounters[index] < MAX_COUNT) {
+					mCounters[index]++;
+				}
+			}
+			if (++mIncrements >= mSampleSize) {
+				for (int i = 0; i < mCounters.length; i++) {
+					mCounters[i] >>= 1;
+				}
+				mIncrements /= 2;
+			}
+		}
+
+		int frequency(int hash) {
+			int frequency = MAX_COUNT;
+			for (int i = 0; i < DEPTH; i++) {
+				frequency = Math.min(frequency, mCounters[index(hash, i)]);
+			}
+			return frequency;
+		}
+
+		private int index(int hash, int row) {
+			int h = hash * SEEDS[row];
+			h ^= h >>> 16;
+			return row * (mMask + 1) + (h & mMask);
+		}
+	}
+
+	/**
+	 * Counters of the cache
+	 */
+	public static class Statistics {
+		private final long mHits;
+		private final long mMisses;
+		private final long mEvictions;
+		private final int mEntries;
+		private final int mCompressedEntries;
+		private final long mSizeBytes;
+
+		Statistics(long hits, long misses, long evictions, int entries, int compressedEntries, long sizeBytes) {
+			mHits = hits;
+			mMisses = misses;
+			mEvictions = evictions;
+			mEntries = entries;
+			mCompressedEntries = compressedEntries;
+			mSizeBytes = sizeBytes;
+		}
+
+		public long getHits() {
+			return mHits;
+		}
+
+		public long getMisses() {
+			return mMisses;
+		}
+
+		/**
+		 * @return number of entries removed or not admitted because the cache was full
+		 */
+		public long getEvictions() {
+			return mEvictions;
+		}
+
+		public int getEntries() {
+			return mEntries;
+		}
+
+		public int getCompressedEntries() {
+			return mCompressedEntries;
+		}
+
+		/**
+		 * @return estimated size of the cached entries in bytes
+		 */
+		public long getSizeBytes() {
+			return mSizeBytes;
+		}
+
+		@Override
+		public String toString() {
+			return "hits " + mHits + ", misses " + mMisses + ", evictions " + mEvictions + ", entries " + mEntries
+					+ " (" + mCompressedEntries + " compressed), size " + mSizeBytes + " B";
+		}
+	}
+}
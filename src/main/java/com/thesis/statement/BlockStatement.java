@@ -45,8 +45,13 @@ public class BlockStatement extends Statement {
 	public void write(Writer writer) throws IOException {
 		writer.write(" {" + NL);
 		for(Statement statement : mStatements) {
-			statement.write(writer);
+			writeChild(statement, writer);
 		}
-		writer.append(getTabs().replaceFirst(TAB, "")).append("}");
+		writer.append(getIndent(getDepth() - 1)).append("}");
+	}
+
+	@Override
+	public <R> R accept(StatementVisitor<R> visitor) {
+		return visitor.visitBlock(this);
 	}
 }
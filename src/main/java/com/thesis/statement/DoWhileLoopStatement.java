@@ -35,14 +35,19 @@ public class DoWhileLoopStatement extends Statement {
 	public void write(Writer writer) throws IOException {
 		String tabs = getTabs();
 		writer.append(tabs).write("do");
-		mBlock.write(writer);
+		writeChild(mBlock, writer);
 		writer.write(" while (");
 		if (mExpression instanceof UnconditionalJump) {
 			writer.write("true");
 		} else {
-			mExpression.write(writer);
+			writePart(mExpression, writer);
 		}
 		writer.write(")");
 		writer.write(NL);
 	}
+
+	@Override
+	public <R> R accept(StatementVisitor<R> visitor) {
+		return visitor.visitDoWhileLoop(this);
+	}
 }
@@ -33,7 +33,12 @@ public class IfThenElseStatement extends IfThenStatement {
 	public void write(Writer writer) throws IOException {
 		writeIfThenStatement(writer);
 		writer.write(" else");
-		mElseBlock.write(writer);
+		writeChild(mElseBlock, writer);
 		writer.write("\n");
 	}
+
+	@Override
+	public <R> R accept(StatementVisitor<R> visitor) {
+		return visitor.visitIfThenElse(this);
+	}
 }
@@ -4,7 +4,6 @@ import com.thesis.common.CodeElement;
 import com.thesis.expression.JumpExpression;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 
 /**
@@ -44,11 +43,14 @@ public class IfThenStatement extends Statement {
 	}
 
 	protected void writeIfThenStatement(Writer writer) throws IOException {
-		StringWriter auxWriter = new StringWriter();
-		mCondition.write(auxWriter);
-		buf.setLength(0);
-		buf.append("if (").append(auxWriter.toString()).append(")");
-		writer.append(getTabs()).write(buf.toString());
-		mThenBlock.write(writer);
+		writer.append(getTabs()).write("if (");
+		mCondition.write(writer);
+		writer.write(")");
+		writeChild(mThenBlock, writer);
+	}
+
+	@Override
+	public <R> R accept(StatementVisitor<R> visitor) {
+		return visitor.visitIfThen(this);
 	}
 }
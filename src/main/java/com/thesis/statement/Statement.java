@@ -49,12 +49,10 @@ public class Statement extends CodeElement {
 	 * Flag if the statement should write the statement end
 	 */
 	protected boolean mWriteEnd;
-	protected StringBuffer buf;
 
 	protected Statement(int line, CodeElement parent) {
 		super(parent);
 		mLine = line;
-		buf = new StringBuffer();
 	}
 
 	public Statement(Expression expression, int line, CodeElement parent) {
@@ -73,7 +71,24 @@ public class Statement extends CodeElement {
 		}
 	}
 
+	/**
+	 * @return line where the statement occurs in the original code
+	 */
+	public int getLine() {
+		return mLine;
+	}
+
 	protected void writeEnd(Writer writer) throws IOException{
 		writer.write(mAddNewLine ? STATEMENT_END_NL : STATEMENT_END);
 	}
+
+	/**
+	 * Calls the visit method of the visitor that matches the class of this statement
+	 * @param visitor statement visitor
+	 * @param <R> type of the result
+	 * @return result of the visit method
+	 */
+	public <R> R accept(StatementVisitor<R> visitor) {
+		return visitor.visitStatement(this);
+	}
 }
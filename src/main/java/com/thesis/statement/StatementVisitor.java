@@ -0,0 +1,50 @@
+package com.thesis.statement;
+
+/**
+ * Visitor of the statements, see {@link Statement#accept(StatementVisitor)}
+ * <p>
+ * Every visit method delegates to the visit method of the superclass of the visited statement by default,
+ * so the visitors override only the methods of the statements they handle differently
+ * and {@link #visitStatement(Statement)} handles the rest.
+ * @param <R> type of the result
+ */
+public interface StatementVisitor<R> {
+
+	R visitStatement(Statement statement);
+
+	default R visitBlock(BlockStatement statement) {
+		return visitStatement(statement);
+	}
+
+	default R visitDoWhileLoop(DoWhileLoopStatement statement) {
+		return visitStatement(statement);
+	}
+
+	default R visitWhileLoop(WhileLoopStatement statement) {
+		return visitStatement(statement);
+	}
+
+	default R visitIfThen(IfThenStatement statement) {
+		return visitStatement(statement);
+	}
+
+	default R visitIfThenElse(IfThenElseStatement statement) {
+		return visitIfThen(statement);
+	}
+
+	default R visitSwitch(SwitchStatement statement) {
+		return visitStatement(statement);
+	}
+
+	default R visitCase(SwitchStatement.CaseStatement statement) {
+		return visitStatement(statement);
+	}
+
+	default R visitSynchronized(SynchronizedStatement statement) {
+		return visitStatement(statement);
+	}
+
+	default R visitTryCatch(TryCatchStatement statement) {
+		return visitStatement(statement);
+	}
+}
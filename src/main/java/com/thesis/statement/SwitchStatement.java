@@ -5,7 +5,6 @@ import com.thesis.expression.Expression;
 import com.thesis.expression.SwitchExpression;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.util.List;
 
@@ -26,23 +25,31 @@ public class SwitchStatement extends Statement {
 
 	@Override
 	public void write(Writer writer) throws IOException {
-		StringWriter localWriter = new StringWriter();
-		mExpression.write(localWriter);
-		writer.append(getTabs()).append("switch (").append(localWriter.toString()).append(")");
-		mSwitchBlock.write(writer);
+		writer.append(getTabs()).write("switch (");
+		mExpression.write(writer);
+		writer.write(")");
+		writeChild(mSwitchBlock, writer);
 		writer.write(NL);
 	}
 
+	@Override
+	public <R> R accept(StatementVisitor<R> visitor) {
+		return visitor.visitSwitch(this);
+	}
+
 	public static class CaseStatement extends Statement {
 
 		private List<Statement> mStatements;
 
-		public CaseStatement(Expression expression, int line, List<Statement> statements, CodeElement parent) {
+		public CaseStatement(Expression expression, int line, CodeElement parent) {
 			super(expression, line, parent);
+		}
+
+		/**
+		 * @param statements statements of the case, created with this case as their parent
+		 */
+		public void setStatements(List<Statement> statements) {
 			mStatements = statements;
-			for (Statement s : mStatements) {
-				s.setParent(this);
-			}
 		}
 
 		@Override
@@ -51,8 +58,13 @@ public class SwitchStatement extends Statement {
 			writer.write(tabs);
 			mExpression.write(writer);
 			for(Statement statement : mStatements) {
-				statement.write(writer);
+				writeChild(statement, writer);
 			}
 		}
+
+		@Override
+		public <R> R accept(StatementVisitor<R> visitor) {
+			return visitor.visitCase(this);
+		}
 	}
 }
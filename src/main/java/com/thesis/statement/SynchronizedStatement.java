@@ -29,7 +29,12 @@ public class SynchronizedStatement extends Statement {
 		writer.append(getTabs()).write("synchronized (");
 		mExpression.write(writer);
 		writer.write(")");
-		mBlockStatement.write(writer);
+		writeChild(mBlockStatement, writer);
 		writer.write(NL);
 	}
+
+	@Override
+	public <R> R accept(StatementVisitor<R> visitor) {
+		return visitor.visitSynchronized(this);
+	}
 }
@@ -28,13 +28,18 @@ public class TryCatchStatement extends Statement {
 	@Override
 	public void write(Writer writer) throws IOException {
 		writer.append(getTabs()).write("try");
-		mTryBlock.write(writer);
+		writeChild(mTryBlock, writer);
 		for (CatchStatement catchStatement : mCatchStatements) {
-			catchStatement.write(writer);
+			writeChild(catchStatement, writer);
 		}
 		writer.write(NL);
 	}
 
+	@Override
+	public <R> R accept(StatementVisitor<R> visitor) {
+		return visitor.visitTryCatch(this);
+	}
+
 	/**
 	 * A statement that represents a catch and a finally block (finally is a special case of a catch block)
 	 */
@@ -50,7 +55,7 @@ public class TryCatchStatement extends Statement {
 		@Override
 		public void write(Writer writer) throws IOException {
 			mExpression.write(writer);
-			mCatchBlock.write(writer);
+			writeChild(mCatchBlock, writer);
 		}
 	}
 }
@@ -35,7 +35,12 @@ public class WhileLoopStatement extends Statement {
 			mExpression.write(writer);
 		}
 		writer.write(")");
-		mBlock.write(writer);
+		writeChild(mBlock, writer);
 		writer.write(NL);
 	}
+
+	@Override
+	public <R> R accept(StatementVisitor<R> visitor) {
+		return visitor.visitWhileLoop(this);
+	}
 }
@@ -0,0 +1,35 @@
+package com.thesis.translator;
+
+/**
+ * A part of the translation that spans several nodes, e.g. the branches of a conditional jump or a try-catch block
+ * <p>
+ * Handlers do not process the enclosed nodes recursively. They schedule a continuation in the {@link MethodState}
+ * and the {@link InstructionTranslator} resumes it from an explicit work stack, so the nesting depth of the
+ * translated code costs heap instead of thread stack.
+ */
+public interface Continuation {
+
+	/**
+	 * Result of a single resumption
+	 */
+	enum Step {
+		/**
+		 * The current node should be processed before the continuation is resumed again
+		 */
+		PROCESS_NODE,
+		/**
+		 * The continuation scheduled other continuations that should finish before it is resumed again
+		 */
+		YIELD,
+		/**
+		 * The continuation has finished
+		 */
+		DONE
+	}
+
+	/**
+	 * Runs the continuation until it needs a node to be processed or until it finishes
+	 * @return what the translator should do next
+	 */
+	Step resume();
+}
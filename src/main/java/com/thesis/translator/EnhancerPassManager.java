@@ -0,0 +1,290 @@
+package com.thesis.translator;
+
+import com.thesis.exception.DecompilerRuntimeException;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the {@link StackEnhancer}s as ordered passes
+ * <p>
+ * Passes run in the order of their registration, unless a pass depends on a pass that was registered later,
+ * in that case the dependency runs first. Disabled passes are skipped together with the passes that depend on them.
+ * The manager collects the wall time and the number of rewrites of each pass, see {@link #getStatistics()}.
+ * <p>
+ * One manager is shared by all methods of a decompilation, which may be translated in parallel.
+ */
+public class EnhancerPassManager {
+
+	/**
+	 * Configuration key of the comma separated class names of the passes, the classes need a no-argument constructor
+	 */
+	public static final String PASSES_KEY = "enhancer.passes";
+
+	/**
+	 * Configuration key of the comma separated names of the disabled passes
+	 */
+	public static final String DISABLED_KEY = "enhancer.disabled";
+
+	private final Map<String, Pass> mPasses = new LinkedHashMap<>();
+
+	/**
+	 * Passes in the order they run, null if the order has to be resolved again
+	 */
+	private volatile List<Pass> mOrderedPasses;
+
+	/**
+	 * @return manager with the default passes of the decompiler
+	 */
+	public static EnhancerPassManager createDefault() {
+		EnhancerPassManager passManager = new EnhancerPassManager();
+		passManager.register(new LoopEnhancer());
+		return passManager;
+	}
+
+	/**
+	 * Creates the manager with the passes from the configuration, see {@link #PASSES_KEY} and {@link #DISABLED_KEY}
+	 * <p>
+	 * The default passes are used if the configuration does not list any
+	 * @param configuration configuration of the passes
+	 * @return configured manager
+	 */
+	public static EnhancerPassManager fromConfiguration(Properties configuration) {
+		EnhancerPassManager passManager;
+		List<String> passClasses = splitList(configuration.getProperty(PASSES_KEY));
+		if (passClasses.isEmpty()) {
+			passManager = createDefault();
+		} else {
+			passManager = new EnhancerPassManager();
+			for (String passClass : passClasses) {
+				passManager.register(createPass(passClass));
+			}
+		}
+		for (String disabledPass : splitList(configuration.getProperty(DISABLED_KEY))) {
+			passManager.setEnabled(disabledPass, false);
+		}
+		return passManager;
+	}
+
+	/**
+	 * Adds the pass, it is enabled by default
+	 * @param enhancer pass to add
+	 */
+	public synchronized void register(StackEnhancer enhancer) {
+		if (mPasses.containsKey(enhancer.getName())) {
+			throw new DecompilerRuntimeException("Enhancer pass is already registered: " + enhancer.getName());
+		}
+		mPasses.put(enhancer.getName(), new Pass(enhancer));
+		mOrderedPasses = null;
+	}
+
+	/**
+	 * Switches the pass on or off for the following runs
+	 * @param name name of the pass
+	 * @param enabled false if the pass should be skipped
+	 */
+	public synchronized void setEnabled(String name, boolean enabled) {
+		getPass(name).mEnabled = enabled;
+	}
+
+	public synchronized boolean isEnabled(String name) {
+		return getPass(name).mEnabled;
+	}
+
+	/**
+	 * Describes the passes that run, two managers with the same fingerprint enhance the code in the same way
+	 * @return comma separated names of the enabled passes whose dependencies run, in the order they run
+	 */
+	public String getFingerprint() {
+		StringBuilder fingerprint = new StringBuilder();
+		Set<String> runningPasses = new HashSet<>();
+		for (Pass pass : getOrderedPasses()) {
+			if (!pass.mEnabled || !runningPasses.containsAll(pass.mEnhancer.getDependencies())) continue;
+			runningPasses.add(pass.mEnhancer.getName());
+			if (fingerprint.length() > 0) fingerprint.append(',');
+			fingerprint.append(pass.mEnhancer.getName());
+		}
+		return fingerprint.toString();
+	}
+
+	/**
+	 * Runs the enabled passes on the stack
+	 * @param expressionStack the expression stack that is being enhanced
+	 * @param stack the inner stack in the ExpressionStack
+	 */
+	void run(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+		Set<String> finishedPasses = new HashSet<>();
+		for (Pass pass : getOrderedPasses()) {
+			if (!pass.mEnabled || !finishedPasses.containsAll(pass.mEnhancer.getDependencies())) continue;
+
+			long start = System.nanoTime();
+			int rewrites = pass.mEnhancer.enhance(expressionStack, stack);
+			pass.mTime.addAndGet(System.nanoTime() - start);
+			pass.mRuns.incrementAndGet();
+			pass.mRewrites.addAndGet(rewrites);
+			finishedPasses.add(pass.mEnhancer.getName());
+		}
+	}
+
+	/**
+	 * @return statistics of the passes in the order they run
+	 */
+	public List<PassStatistics> getStatistics() {
+		List<PassStatistics> statistics = new ArrayList<>();
+		for (Pass pass : getOrderedPasses()) {
+			statistics.add(new PassStatistics(pass));
+		}
+		return statistics;
+	}
+
+	/**
+	 * Clears the collected statistics of all passes
+	 */
+	public synchronized void resetStatistics() {
+		for (Pass pass : mPasses.values()) {
+			pass.mRuns.set(0);
+			pass.mTime.set(0);
+			pass.mRewrites.set(0);
+		}
+	}
+
+	private Pass getPass(String name) {
+		Pass pass = mPasses.get(name);
+		if (pass == null) {
+			throw new DecompilerRuntimeException("Unknown enhancer pass: " + name);
+		}
+		return pass;
+	}
+
+	private List<Pass> getOrderedPasses() {
+		List<Pass> orderedPasses = mOrderedPasses;
+		if (orderedPasses == null) {
+			synchronized (this) {
+				if (mOrderedPasses == null) {
+					mOrderedPasses = resolveOrder();
+				}
+				orderedPasses = mOrderedPasses;
+			}
+		}
+		return orderedPasses;
+	}
+
+	/**
+	 * Orders the passes so that each pass runs after its dependencies, otherwise keeps the order of registration
+	 * @return ordered passes
+	 */
+	private List<Pass> resolveOrder() {
+		List<Pass> orderedPasses = new ArrayList<>(mPasses.size());
+		Set<String> resolved = new HashSet<>();
+		Set<String> resolving = new HashSet<>();
+		for (Pass pass : mPasses.values()) {
+			addWithDependencies(pass, orderedPasses, resolved, resolving);
+		}
+		return Collections.unmodifiableList(orderedPasses);
+	}
+
+	private void addWithDependencies(Pass pass, List<Pass> orderedPasses, Set<String> resolved, Set<String> resolving) {
+		String name = pass.mEnhancer.getName();
+		if (resolved.contains(name)) return;
+		if (!resolving.add(name)) {
+			throw new DecompilerRuntimeException("Cyclic dependency of enhancer pass: " + name);
+		}
+		for (String dependency : pass.mEnhancer.getDependencies()) {
+			Pass dependencyPass = mPasses.get(dependency);
+			if (dependencyPass == null) {
+				throw new DecompilerRuntimeException("Enhancer pass " + name + " depends on unknown pass " + dependency);
+			}
+			addWithDependencies(dependencyPass, orderedPasses, resolved, resolving);
+		}
+		resolving.remove(name);
+		resolved.add(name);
+		orderedPasses.add(pass);
+	}
+
+	private static StackEnhancer createPass(String className) {
+		try {
+			return (StackEnhancer) Class.forName(className).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | ClassCastException e) {
+			throw new DecompilerRuntimeException("Unable to create enhancer pass " + className + ": " + e);
+		}
+	}
+
+	private static List<String> splitList(String value) {
+		List<String> items = new ArrayList<>();
+		if (value == null) return items;
+		for (String item : value.split(",")) {
+			if (!item.trim().isEmpty()) {
+				items.add(item.trim());
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Registered pass with its state
+	 */
+	private static class Pass {
+		private final StackEnhancer mEnhancer;
+		private volatile boolean mEnabled = true;
+		private final AtomicLong mRuns = new AtomicLong();
+		private final AtomicLong mTime = new AtomicLong();
+		private final AtomicLong mRewrites = new AtomicLong();
+
+		Pass(StackEnhancer enhancer) {
+			mEnhancer = enhancer;
+		}
+	}
+
+	/**
+	 * Snapshot of the statistics of a single pass
+	 */
+	public static class PassStatistics {
+		private final String mName;
+		private final boolean mEnabled;
+		private final long mRuns;
+		private final long mTimeNanos;
+		private final long mRewrites;
+
+		private PassStatistics(Pass pass) {
+			mName = pass.mEnhancer.getName();
+			mEnabled = pass.mEnabled;
+			mRuns = pass.mRuns.get();
+			mTimeNanos = pass.mTime.get();
+			mRewrites = pass.mRewrites.get();
+		}
+
+		public String getName() {
+			return mName;
+		}
+
+		public boolean isEnabled() {
+			return mEnabled;
+		}
+
+		/**
+		 * @return number of stacks the pass ran on
+		 */
+		public long getRuns() {
+			return mRuns;
+		}
+
+		/**
+		 * @return total wall time of the pass in nanoseconds
+		 */
+		public long getTimeNanos() {
+			return mTimeNanos;
+		}
+
+		/**
+		 * @return total number of rewrites made by the pass
+		 */
+		public long getRewrites() {
+			return mRewrites;
+		}
+
+		@Override
+		public String toString() {
+			return mName + (mEnabled ? "" : " (disabled)") + ": runs " + mRuns + ", time " + mTimeNanos / 1000 + " us, rewrites " + mRewrites;
+		}
+	}
+}
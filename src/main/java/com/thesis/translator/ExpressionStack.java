@@ -1,6 +1,9 @@
 package com.thesis.translator;
 
+import com.thesis.common.collection.IntObjectMap;
 import com.thesis.expression.*;
+import com.thesis.translator.peephole.PeepholeEngine;
+import com.thesis.translator.peephole.PeepholeRule;
 import org.objectweb.asm.Label;
 
 import java.util.*;
@@ -10,18 +13,13 @@ import java.util.*;
  * <p>
  * This class facilitates creation of more complex expressions from simpler ones.
  * Internally it uses a stack of {@link Item}s that wrap stored expressions.
- * On the outside, the classes that use this stack only work with expressions. The only exception is the
- * {@link StackEnhancer} interface that can also access the items directly.
+ * On the outside, the classes that use this stack only work with expressions. The only exceptions are the
+ * {@link StackEnhancer} and {@link PeepholeRule} interfaces that can also access the items directly.
  */
 public class ExpressionStack {
 
 	private static final int NOT_SET = -1;
 
-	/**
-	 * List of ExpressionStack enhancers
-	 */
-	private List<StackEnhancer> mEnhancers;
-
 	/**
 	 * Internal stack
 	 */
@@ -43,9 +41,9 @@ public class ExpressionStack {
 	private int mVisitedFrame = NOT_SET;
 
 	/**
-	 * Position where the last stack improvement finished
+	 * Engine that improves the top of the stack after each push, shared by all stacks of the method
 	 */
-	private int mLastImprovementPosition = 0;
+	private PeepholeEngine mPeepholeEngine;
 
 	/**
 	 * Map of {@link Label} with their IDs, only IDs are used in the program
@@ -55,16 +53,24 @@ public class ExpressionStack {
 	/**
 	 * Map that maps the label id of the frame to {@link Item}
 	 */
-	private Map<Integer, Item> mFrameItemMap;
+	private IntObjectMap<Item> mFrameItemMap;
 
 	/**
 	 * Creates new instance of the stack, should be used only for the top-level stack
 	 */
 	public ExpressionStack() {
+		this(PeepholeEngine.createDefault());
+	}
+
+	/**
+	 * Creates new instance of the stack, should be used only for the top-level stack
+	 * @param peepholeEngine engine that improves the stack after each push, may be shared by several top-level stacks
+	 */
+	public ExpressionStack(PeepholeEngine peepholeEngine) {
 		mLabels = new HashMap<>();
 		mStack = new Stack<>();
-		mFrameItemMap = new HashMap<>();
-		mEnhancers = new ArrayList<>();
+		mFrameItemMap = new IntObjectMap<>();
+		mPeepholeEngine = peepholeEngine;
 	}
 
 	/**
@@ -73,15 +79,14 @@ public class ExpressionStack {
 	 */
 	private ExpressionStack(ExpressionStack original) {
 		mLabels = original.mLabels;
-		mEnhancers = original.mEnhancers;
+		mPeepholeEngine = original.mPeepholeEngine;
 
 		mLineNum = original.mLineNum;
 		mLabels = original.mLabels;
 		mLabel = original.mLabel;
-		mLastImprovementPosition = 0;
 
 		mStack = new Stack<>();
-		mFrameItemMap = new HashMap<>();
+		mFrameItemMap = new IntObjectMap<>();
 	}
 
 	/**
@@ -91,25 +96,13 @@ public class ExpressionStack {
 		return new ExpressionStack(this);
 	}
 
-	/**
-	 * Adds an enhancer to the list
-	 * @param enhancer stack enhancer
-	 */
-	public void addEnhancer(StackEnhancer enhancer) {
-		mEnhancers.add(enhancer);
-	}
-
 	/**
 	 * Starts the enhancement of the stack, should be executed at the end of the decompilation process, before
 	 * converting expressions to statements.
+	 * @param passManager manager that runs the enabled {@link StackEnhancer}s
 	 */
-	public void enhance() {
-		if(mEnhancers.isEmpty()) {
-			return;
-		}
-		for (StackEnhancer enhancer : mEnhancers) {
-			enhancer.enhance(this, mStack);
-		}
+	public void enhance(EnhancerPassManager passManager) {
+		passManager.run(this, mStack);
 	}
 
 	/**
@@ -120,7 +113,7 @@ public class ExpressionStack {
 		expression.setLine(mLineNum);
 		expression.prepareForStack(this);
 		mStack.push(new Item(expression, mLabel, mLineNum));
-		improveStack();
+		mPeepholeEngine.improve(this, mStack);
 		expression.afterPush(this);
 		if (mVisitedFrame != NOT_SET) {
 			mFrameItemMap.put(mVisitedFrame, mStack.peek());
@@ -142,30 +135,10 @@ public class ExpressionStack {
 	}
 
 	/**
-	 * Improves the expressions on the stack
-	 */
-	private void improveStack() {
-		for (int i = mLastImprovementPosition; i < mStack.size(); i++) { // think if ok
-			Expression currentExp = mStack.get(i).getExpression();
-			if (currentExp instanceof UnaryExpression) {
-				if(((UnaryExpression) currentExp).isPostfix()) {
-					if (i > 0) {
-						mStack.remove(i - 1);
-						mLastImprovementPosition = i - 1;
-					}
-				} else if (i + 1 < mStack.size()) {
-					mStack.remove(i+1);
-					mLastImprovementPosition = i + 1;
-				}
-			} else if (currentExp instanceof MonitorExpression && mStack.size() > i+1) {
-				Expression followingExp = mStack.get(i+1).getExpression();
-				if (followingExp instanceof TryCatchExpression) {
-					((MonitorExpression) currentExp).setSynchronizedBlock((TryCatchExpression)followingExp);
-					mStack.remove(i+1);
-					mLastImprovementPosition = i + 1;
-				}
-			}
-		}
+	 * @return engine that improves the stack after each push
+	 */
+	public PeepholeEngine getPeepholeEngine() {
+		return mPeepholeEngine;
 	}
 
 	/**
@@ -329,9 +302,9 @@ public class ExpressionStack {
 	 */
 	public ExpressionStack substack(int startIndex, int endIndex) {
 		ExpressionStack subStack = getNew();
-		for(int i = 0; i < endIndex - startIndex; i++ ) {
-			subStack.mStack.push(mStack.remove(startIndex));
-		}
+		List<Item> range = mStack.subList(startIndex, endIndex);
+		subStack.mStack.addAll(range);
+		range.clear();
 		return subStack;
 	}
 
@@ -1,60 +1,119 @@
 package com.thesis.translator;
 
 import com.thesis.block.MethodBlock;
+import com.thesis.common.collection.IntObjectMap;
 import com.thesis.exception.DecompilerRuntimeException;
+import com.thesis.expression.LeafInterner;
 import com.thesis.expression.VariableDeclarationExpression;
 import com.thesis.expression.variable.LocalVariable;
 import com.thesis.statement.Statement;
 import com.thesis.translator.handler.*;
-import org.apache.log4j.Logger;
+import com.thesis.translator.trace.Trace;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.LocalVariableNode;
 import org.objectweb.asm.tree.MethodNode;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Class that drives the translation of the bytecode of a single method to Java
+ * <p>
+ * The translator together with its {@link MethodState} and handlers can be reused for more methods,
+ * see {@link #obtain(MethodBlock)}.
  */
 public class InstructionTranslator {
-	private static final Logger LOG = Logger.getLogger(InstructionTranslator.class);
 
-	private final MethodNode mMethod;
+	/**
+	 * Translator reused by the methods translated in the current thread
+	 */
+	private static final ThreadLocal<InstructionTranslator> mThreadTranslator = new ThreadLocal<>();
+
+	private MethodNode mMethod;
 	private MethodBlock mMethodBlock;
 	private Map<Integer, NodeHandler> mHandlers;
+	private MethodInsnNodeHandler mMethodInsnNodeHandler;
 
 	private MethodState mState;
 
+	/**
+	 * True between {@link #obtain(MethodBlock)} and {@link #release()}
+	 */
+	private boolean mInUse;
+
 	/**
 	 * Creates the object and prepares the helper classes
 	 * @param methodBlock method to decompile
 	 */
 	public InstructionTranslator(MethodBlock methodBlock) {
 		mState = new MethodState();
+		prepareHandlers();
+		reset(methodBlock);
+	}
+
+	/**
+	 * Returns the translator of the current thread prepared for the given method
+	 * <p>
+	 * The same translator is returned for all methods translated by the thread, a new one is created only
+	 * if the translator of the thread was not released yet. The translator should be released by {@link #release()}
+	 * once the statements are retrieved.
+	 * @param methodBlock method to decompile
+	 * @return translator prepared for the method
+	 */
+	public static InstructionTranslator obtain(MethodBlock methodBlock) {
+		InstructionTranslator translator = mThreadTranslator.get();
+		if (translator == null) {
+			translator = new InstructionTranslator(methodBlock);
+			mThreadTranslator.set(translator);
+		} else if (translator.mInUse) {
+			translator = new InstructionTranslator(methodBlock);
+		} else {
+			translator.reset(methodBlock);
+		}
+		translator.mInUse = true;
+		return translator;
+	}
+
+	/**
+	 * Releases the translator obtained by {@link #obtain(MethodBlock)} so it can be reused for another method
+	 */
+	public void release() {
+		mInUse = false;
+		mMethodBlock = null;
+		mMethod = null;
+		mState.clear();
+	}
+
+	/**
+	 * Clears the state of the previous translation and prepares the translator for the given method
+	 * without creating the state and handlers again
+	 * @param methodBlock method to decompile
+	 */
+	public void reset(MethodBlock methodBlock) {
 		mMethodBlock = methodBlock;
 		mMethod = methodBlock.getMethodNode();
+		mState.reset(mMethod);
+		mMethodInsnNodeHandler.setCaller(mMethod.name, mMethodBlock.getClassType());
 		prepareLocalVariables(mMethod.localVariables, mMethodBlock.getArguments());
-		mState.setupTryCatchManager(mMethod.tryCatchBlocks);
-		prepareHandlers();
 	}
 
 	/**
 	 * Converts the bytecode instructions into higher-level representations
 	 */
 	public void translate() {
-		LOG.debug("METHOD: " + mMethod.name);
+		if (Trace.ENABLED) Trace.method(mMethod.name);
 
-		mState.getFinalStack().addEnhancer(new LoopEnhancer());
 		mState.setCurrentNode(mMethod.instructions.getFirst());
 		while (mState.getCurrentNode() != null) {
 			processNode(mState.getCurrentNode());
+			runContinuations();
 			mState.moveNode();
 		}
 
-		mState.getFinalStack().enhance();
+		mState.getFinalStack().enhance(mMethodBlock.getPassManager());
 	}
 
 	/**
@@ -62,6 +121,9 @@ public class InstructionTranslator {
 	 * @return list of decompiled statements
 	 */
 	public List<Statement> getStatements() {
+		LeafInterner interner = mMethodBlock.getLeafInterner();
+		(interner != null ? interner : LeafInterner.withoutSharing()).internMethod(mState.getFinalStack());
+		mMethodBlock.setLeafInterner(null);
 		StatementCreator sc = new StatementCreator(mState.getFinalStack(), mMethodBlock);
 		List<Statement> statements = getLocalVariableAssignments();
 		statements.addAll(sc.getStatements());
@@ -83,7 +145,11 @@ public class InstructionTranslator {
 
 	private List<Statement> getLocalVariableAssignments() {
 		List<Statement> localVars = new ArrayList<>();
-		for (List<LocalVariable> variableList : mState.getLocalVariables().values()) {
+		IntObjectMap<List<LocalVariable>> localVariables = mState.getLocalVariables();
+		int[] positions = localVariables.keys();
+		Arrays.sort(positions);
+		for (int position : positions) {
+			List<LocalVariable> variableList = localVariables.get(position);
 			if (variableList.size() == 1) {
 				LocalVariable variable = variableList.get(0);
 				if (variable.getScopes().size() > 1 && !variable.isArgument()) {
@@ -100,22 +166,24 @@ public class InstructionTranslator {
 	private void prepareHandlers() {
 		mHandlers = new HashMap<>();
 
-		NodeHandler.OnNodeMovedListener nodeMoveListener = () -> processNode(mState.getCurrentNode());
 		mHandlers.put(AbstractInsnNode.INSN, new InsnNodeHandler(mState));
 		mHandlers.put(AbstractInsnNode.INT_INSN, new IntInsnNodeHandler(mState));
 		mHandlers.put(AbstractInsnNode.VAR_INSN, new VarInsnNodeHandler(mState));
 		mHandlers.put(AbstractInsnNode.TYPE_INSN, new TypeInsnNodeHandler(mState));
 		mHandlers.put(AbstractInsnNode.FIELD_INSN, new FieldInsnNodeHandler(mState));
-		mHandlers.put(AbstractInsnNode.METHOD_INSN, new MethodInsnNodeHandler(mState, mMethod.name, mMethodBlock.getClassType()));
+		mMethodInsnNodeHandler = new MethodInsnNodeHandler(mState);
+		mHandlers.put(AbstractInsnNode.METHOD_INSN, mMethodInsnNodeHandler);
 		mHandlers.put(AbstractInsnNode.INVOKE_DYNAMIC_INSN, new InvokeDynamicInsnNodeHandler(mState));
-		mHandlers.put(AbstractInsnNode.JUMP_INSN, new JumpInsnNodeHandler(mState, nodeMoveListener));
-		mHandlers.put(AbstractInsnNode.LABEL, new LabelNodeHandler(mState, nodeMoveListener));
+		mHandlers.put(AbstractInsnNode.JUMP_INSN, new JumpInsnNodeHandler(mState));
+		LabelNodeHandler labelHandler = new LabelNodeHandler(mState);
+		mHandlers.put(AbstractInsnNode.LABEL, labelHandler);
+		mState.setOnLabelChangeListener(labelHandler);
 		mHandlers.put(AbstractInsnNode.LDC_INSN, new LdcInsnNodeHandler(mState));
 		mHandlers.put(AbstractInsnNode.IINC_INSN, new IincInsnNodeHandler(mState));
 		mHandlers.put(AbstractInsnNode.MULTIANEWARRAY_INSN, new MultiANewArrayInsnNodeHandler(mState));
 		mHandlers.put(AbstractInsnNode.FRAME, new FrameNodeHandler(mState));
 		mHandlers.put(AbstractInsnNode.LINE, new LineNumberNodeHandler(mState));
-		SwitchInsnNodeHandler switchHandler = new SwitchInsnNodeHandler(mState, nodeMoveListener);
+		SwitchInsnNodeHandler switchHandler = new SwitchInsnNodeHandler(mState);
 		mHandlers.put(AbstractInsnNode.TABLESWITCH_INSN, switchHandler);
 		mHandlers.put(AbstractInsnNode.LOOKUPSWITCH_INSN, switchHandler);
 	}
@@ -127,6 +195,26 @@ public class InstructionTranslator {
 		if (handler == null) {
 			throw new DecompilerRuntimeException("No handler for this node type: " + node.getType());
 		}
+		if (Trace.ENABLED) Trace.node(mMethod.name, node, mState.getCurrentLabel(), mState.getActiveStack().size());
 		handler.handle(node);
 	}
+
+	/**
+	 * Resumes the scheduled continuations until all of them finish, the most recently scheduled one goes first
+	 */
+	private void runContinuations() {
+		Continuation continuation;
+		while ((continuation = mState.peekContinuation()) != null) {
+			switch (continuation.resume()) {
+				case PROCESS_NODE:
+					processNode(mState.getCurrentNode());
+					break;
+				case DONE:
+					mState.finishContinuation(continuation);
+					break;
+				case YIELD:
+					break;
+			}
+		}
+	}
 }
@@ -2,6 +2,12 @@ package com.thesis.translator;
 
 import com.thesis.expression.*;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 
 /**
@@ -11,118 +17,196 @@ import java.util.Stack;
  *  - presence of do-while loops
  *  - presence of break and continue statement
  *  - general loop detection that was not discovered properly during decompilation (like while(true) loop)
+ * <p>
+ * The stack is scanned once for do-while loops using an index of the first stack positions of the labels.
+ * The branches nested in each top level jump expression are then traversed once without recursion,
+ * see {@link BranchTraversal}.
  */
 public class LoopEnhancer implements StackEnhancer {
 
 	@Override
-	public void enhance(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
-		for (int i = 0; i < expressionStack.size(); i++) {
-			Expression exp = expressionStack.get(i);
-			if (exp instanceof JumpExpression) {
-				updateDoLoops((JumpExpression) exp, i, expressionStack, stack);
-			}
-		}
+	public int enhance(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+		int rewrites = updateDoLoops(expressionStack, stack);
 
 		for (int i = 0; i < stack.size(); i++) {
-			Expression exp = stack.get(i).getExpression();
-			if (exp instanceof JumpExpression) {
+			JumpExpression exp = ExpressionCasts.asJump(stack.get(i).getExpression());
+			if (exp != null) {
 				int loopStartLabel = stack.get(i).getLabelId();
 				int nextLabel = i < stack.size() - 1 ? stack.get(i+1).getLabelId() : -2;
-				fixLoopDetection((JumpExpression) exp, loopStartLabel, stack.get(i).getExpression());
-				improveBreakAndContinue((JumpExpression) exp, nextLabel, (JumpExpression) exp);
+				rewrites += new BranchTraversal(exp, loopStartLabel, nextLabel).run();
 			}
 		}
+		return rewrites;
 	}
 
-	private void updateDoLoops(JumpExpression exp, int currentStackPosition, ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
-		if ((exp.getThenBranch() != null && !exp.getThenBranch().isEmpty()) || (exp.getElseBranch() != null && !exp.getElseBranch().isEmpty())) return;
-		for (int stackPosition = 0; stackPosition < currentStackPosition; stackPosition++) {
-			if (stack.get(stackPosition).getLabelId() == exp.getJumpDestination()) {
-				exp.setLoopType(JumpExpression.LoopType.DO_WHILE);
-				exp.setStartFrameLocation(exp.getJumpDestination());
-				exp.getThenBranch().addAll(expressionStack.substack(stackPosition, currentStackPosition));
-				exp.negate();
-				break;
+	/**
+	 * Moves the expressions between the jump without branches and the first expression with the label of its
+	 * destination to the then branch of the jump, making it a do-while loop
+	 * <p>
+	 * The positions of the labels are indexed as the scan moves along the stack. When the expressions are moved
+	 * the positions from the start of the loop on are indexed again, the scan itself continues at the next position.
+	 * @return number of do-while loops
+	 */
+	private int updateDoLoops(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+		int doLoops = 0;
+		Map<Integer, Integer> firstLabelPositions = new HashMap<>();
+		Deque<Integer> indexedLabels = new ArrayDeque<>();
+		int indexedPositions = 0;
+
+		for (int currentStackPosition = 0; currentStackPosition < stack.size(); currentStackPosition++) {
+			for (; indexedPositions < currentStackPosition; indexedPositions++) {
+				int labelId = stack.get(indexedPositions).getLabelId();
+				if (firstLabelPositions.putIfAbsent(labelId, indexedPositions) == null) {
+					indexedLabels.push(labelId);
+				}
+			}
+
+			JumpExpression exp = ExpressionCasts.asJump(stack.get(currentStackPosition).getExpression());
+			if (exp == null) continue;
+			if ((exp.getThenBranch() != null && !exp.getThenBranch().isEmpty()) || (exp.getElseBranch() != null && !exp.getElseBranch().isEmpty())) continue;
+
+			Integer stackPosition = firstLabelPositions.get(exp.getJumpDestination());
+			if (stackPosition == null) continue;
+
+			exp.setLoopType(JumpExpression.LoopType.DO_WHILE);
+			exp.setStartFrameLocation(exp.getJumpDestination());
+			exp.getThenBranch().addAll(expressionStack.substack(stackPosition, currentStackPosition));
+			exp.negate();
+			doLoops++;
+
+			while (!indexedLabels.isEmpty() && firstLabelPositions.get(indexedLabels.peek()) >= stackPosition) {
+				firstLabelPositions.remove(indexedLabels.pop());
 			}
+			indexedPositions = stackPosition;
 		}
+		return doLoops;
 	}
 
-	private void fixLoopDetection(JumpExpression topLevelExp, int loopStartLabel, Expression stackItem) {
-		if (!(stackItem instanceof JumpExpression) || ((JumpExpression) stackItem).getThenBranch() == null) {
-			return;
+	/**
+	 * Single traversal of the branches nested in a top level jump expression
+	 * <p>
+	 * While traversing, it looks for jumps to the start of the loop that were not discovered during decompilation
+	 * and collects the ends of the branches in the order they are finished. The top level expression is updated
+	 * first, then the collected branch ends are replaced with break and continue statements.
+	 */
+	private static class BranchTraversal {
+
+		private final JumpExpression mTopLevelExp;
+		private final int mLoopStartLabel;
+		private final int mNextLabel;
+
+		private boolean mJumpsToLoopStart;
+		private final List<JumpExpression> mBranchOwners = new ArrayList<>();
+		private final List<ExpressionStack> mBranches = new ArrayList<>();
+
+		BranchTraversal(JumpExpression topLevelExp, int loopStartLabel, int nextLabel) {
+			mTopLevelExp = topLevelExp;
+			mLoopStartLabel = loopStartLabel;
+			mNextLabel = nextLabel;
 		}
-		JumpExpression expression = ((JumpExpression) stackItem);
-		for (int i = 0; i < expression.getThenBranch().size(); i++) {
-			Expression exp = expression.getThenBranch().get(i);
-			fixLoopDetection(topLevelExp, loopStartLabel, exp);
-			if (exp instanceof JumpExpression && ((JumpExpression) exp).getJumpDestination() == loopStartLabel) {
-				topLevelExp.setElseBranchEnd(((JumpExpression) exp).getJumpDestination());
+
+		/**
+		 * @return number of rewrites
+		 */
+		int run() {
+			visit();
+
+			int rewrites = 0;
+			if (mJumpsToLoopStart) {
+				mTopLevelExp.setElseBranchEnd(mLoopStartLabel);
+				rewrites++;
+			}
+			for (int i = 0; i < mBranches.size(); i++) {
+				if (addBreak(mBranches.get(i))) rewrites++;
+				if (addContinue(mBranchOwners.get(i), mBranches.get(i))) rewrites++;
 			}
+			return rewrites;
 		}
 
-		if (((JumpExpression) stackItem).getElseBranch() != null) {
-			for (int i = 0; i < expression.getElseBranch().size(); i++) {
-				Expression exp = expression.getElseBranch().get(i);
-				fixLoopDetection(topLevelExp, loopStartLabel, exp);
-				if (exp instanceof JumpExpression && ((JumpExpression) exp).getJumpDestination() == loopStartLabel) {
-					topLevelExp.setElseBranchEnd(((JumpExpression) exp).getJumpDestination());
+		/**
+		 * Visits the branches nested in the top level expression in post-order, from an explicit stack
+		 * of the branches being visited, so the depth of the nesting does not use the thread stack
+		 */
+		private void visit() {
+			Deque<BranchVisit> visits = new ArrayDeque<>();
+			pushBranches(visits, mTopLevelExp, true);
+			while (!visits.isEmpty()) {
+				BranchVisit visit = visits.peek();
+				if (visit.mPosition == visit.mBranch.size()) {
+					visits.pop();
+					mBranchOwners.add(visit.mOwner);
+					mBranches.add(visit.mBranch);
+					continue;
+				}
+				JumpExpression innerExp = ExpressionCasts.asJump(visit.mBranch.get(visit.mPosition++));
+				if (innerExp != null) {
+					if (visit.mDetectLoop && innerExp.getJumpDestination() == mLoopStartLabel) {
+						mJumpsToLoopStart = true;
+					}
+					pushBranches(visits, innerExp, visit.mDetectLoop);
 				}
 			}
 		}
-	}
 
-	private void improveBreakAndContinue(JumpExpression exp, int nextLabel, JumpExpression topLevelExpression) {
-		ExpressionStack thenBranch;
-		ExpressionStack elseBranch;
-
-		if (exp.getThenBranch() != null) {
-			thenBranch = exp.getThenBranch();
-			for (int i = 0; i < thenBranch.size(); i++) {
-				Expression innerExp = thenBranch.get(i);
-				if (innerExp instanceof JumpExpression) {
-					improveBreakAndContinue((JumpExpression) innerExp, nextLabel, topLevelExpression);
-				}
+		/**
+		 * Pushes the else branch under the then branch, so the then branch with everything nested in it
+		 * is finished first
+		 * @param detectLoop false if the jumps nested in the expression should not be used to detect the loop,
+		 *                   i.e. one of the enclosing expressions has no then branch
+		 */
+		private void pushBranches(Deque<BranchVisit> visits, JumpExpression exp, boolean detectLoop) {
+			detectLoop = detectLoop && exp.getThenBranch() != null;
+			if (exp.getElseBranch() != null) {
+				visits.push(new BranchVisit(exp, exp.getElseBranch(), detectLoop));
+			}
+			if (exp.getThenBranch() != null) {
+				visits.push(new BranchVisit(exp, exp.getThenBranch(), detectLoop));
 			}
-			addBreak(nextLabel, topLevelExpression, thenBranch);
-			addContinue(exp, topLevelExpression, thenBranch);
 		}
 
-		if (exp.getElseBranch() != null) {
-			elseBranch = exp.getElseBranch();
-			for (int i = 0; i < elseBranch.size(); i++) {
-				Expression innerExp = elseBranch.get(i);
-				if (innerExp instanceof JumpExpression) {
-					improveBreakAndContinue((JumpExpression) innerExp, nextLabel, topLevelExpression);
+		private boolean addBreak(ExpressionStack branch) {
+			if (branch.isEmpty()) return false;
+			ExpressionStack.Item lastElseBranchItem = branch.getItem(branch.size() - 1);
+			UnconditionalJump lastItem = ExpressionCasts.asUnconditionalJump(lastElseBranchItem.getExpression());
+			if (lastItem != null) {
+				if (mTopLevelExp.isLoop() && lastItem.getJumpDestination() == mNextLabel) {
+					lastElseBranchItem.setExpression(new BreakExpression(lastItem));
+					mTopLevelExp.setElseBranchEnd(mTopLevelExp.getStartFrameLocation());
+					return true;
 				}
 			}
-
-			addBreak(nextLabel, topLevelExpression, elseBranch);
-			addContinue(exp, topLevelExpression, elseBranch);
+			return false;
 		}
-	}
 
-	private void addBreak(int nextLabel, JumpExpression topLevelExpression, ExpressionStack branch) {
-		if (branch.isEmpty()) return;
-		Expression lastItem = branch.get(branch.size() - 1);
-		if (lastItem instanceof UnconditionalJump) {
-			ExpressionStack.Item lastElseBranchItem = branch.getItem(branch.size() - 1);
-			if (topLevelExpression.isLoop() &&
-					((UnconditionalJump) lastElseBranchItem.getExpression()).getJumpDestination() == nextLabel) {
-				lastElseBranchItem.setExpression(new BreakExpression((UnconditionalJump) lastElseBranchItem.getExpression()));
-				topLevelExpression.setElseBranchEnd(topLevelExpression.getStartFrameLocation());
+		private boolean addContinue(JumpExpression currentExp, ExpressionStack branch) {
+			if (currentExp.equals(mTopLevelExp) || branch.isEmpty()) return false;
+
+			Expression topLevelLastItem = mTopLevelExp.getThenBranch().get(mTopLevelExp.getThenBranch().size() - 1);
+			ExpressionStack.Item lastItem = branch.getItem(branch.size() - 1);
+			UnconditionalJump lastJump = ExpressionCasts.asUnconditionalJump(lastItem.getExpression());
+			if (lastJump != null && ExpressionCasts.asUnconditionalJump(topLevelLastItem) != null) {
+				if (mTopLevelExp.isLoop() && lastJump.getJumpDestination() == mTopLevelExp.getStartFrameLocation()) {
+					lastItem.setExpression(new ContinueExpression(lastJump));
+					return true;
+				}
 			}
+			return false;
 		}
 	}
 
-	private void addContinue(JumpExpression currentExp, JumpExpression topLevelExp, ExpressionStack branch) {
-		if (currentExp.equals(topLevelExp) || branch.isEmpty()) return;
+	/**
+	 * Branch being visited with the position of its next expression
+	 */
+	private static class BranchVisit {
+		private final JumpExpression mOwner;
+		private final ExpressionStack mBranch;
+		private final boolean mDetectLoop;
+		private int mPosition;
 
-		Expression topLevelLastItem = topLevelExp.getThenBranch().get(topLevelExp.getThenBranch().size() - 1);
-		ExpressionStack.Item lastItem = branch.getItem(branch.size() - 1);
-		if (lastItem.getExpression() instanceof UnconditionalJump && topLevelLastItem instanceof UnconditionalJump) {
-			if (topLevelExp.isLoop() && ((UnconditionalJump) lastItem.getExpression()).getJumpDestination() == topLevelExp.getStartFrameLocation()) {
-				lastItem.setExpression(new ContinueExpression((UnconditionalJump) lastItem.getExpression()));
-			}
+		BranchVisit(JumpExpression owner, ExpressionStack branch, boolean detectLoop) {
+			mOwner = owner;
+			mBranch = branch;
+			mDetectLoop = detectLoop;
 		}
 	}
 }
@@ -0,0 +1,342 @@
+package com.thesis.translator;
+
+import com.thesis.statement.Statement;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the translated statements of the methods, shared by the methods with identical code
+ * <p>
+ * The methods are keyed by the SHA-256 hash of their canonical form: the instructions with the labels replaced
+ * by their positions, the try-catch blocks, the local variables, the line numbers, the name, descriptor, signature
+ * and access of the method, the access of its class, the nesting depth of the method and the fingerprint
+ * of the enhancer passes that run, see {@link EnhancerPassManager#getFingerprint()}. The name of the class
+ * of the method is replaced by a placeholder where it does not change the translated code (the owner of the fields
+ * read and written on an instance and the type of this), so the same method of different classes shares
+ * the statements. A method that uses the name of its class elsewhere, e.g. in a static field, a cast or a call,
+ * is keyed together with the name of the class and only shared by the same class decompiled again.
+ * <p>
+ * The cached statements are detached from the method they were translated for and shared by the methods
+ * as they are, they must not be changed. The statements translated with different passes are kept apart,
+ * so the cache can be shared while the passes are switched on or off.
+ */
+public class MethodCache {
+
+	/**
+	 * Default maximal number of cached methods
+	 */
+	public static final int DEFAULT_MAX_METHODS = 4096;
+
+	private static final int SEPARATOR = 0xFF;
+
+	private final int mMaxMethods;
+	private final LinkedHashMap<Key, List<Statement>> mStatements;
+
+	private long mHits;
+	private long mMisses;
+
+	public MethodCache() {
+		this(DEFAULT_MAX_METHODS);
+	}
+
+	/**
+	 * @param maxMethods maximal number of cached methods, the least recently used methods are evicted
+	 */
+	public MethodCache(int maxMethods) {
+		mMaxMethods = maxMethods;
+		mStatements = new LinkedHashMap<Key, List<Statement>>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, List<Statement>> eldest) {
+				return size() > mMaxMethods;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached statements of an identical method, or translates the method and caches its statements
+	 * @param method translated method
+	 * @param classInternalName internal name of the class of the method
+	 * @param classAccess access flags of the class of the method
+	 * @param depth nesting depth of the method
+	 * @param passManager manager of the passes that enhance the translated code
+	 * @param translation translates the method when it is not cached
+	 * @return statements of the method, the list must not be changed
+	 */
+	public List<Statement> getStatements(MethodNode method, String classInternalName, int classAccess, int depth,
+										 EnhancerPassManager passManager, Supplier<List<Statement>> translation) {
+		Key key = new Key(new CanonicalHash(classInternalName).hash(method, classAccess, depth,
+				passManager.getFingerprint()));
+		synchronized (this) {
+			List<Statement> statements = mStatements.get(key);
+			if (statements != null) {
+				mHits++;
+				return statements;
+			}
+			mMisses++;
+		}
+
+		List<Statement> statements = Collections.unmodifiableList(new ArrayList<>(translation.get()));
+		for (Statement statement : statements) {
+			statement.detach();
+		}
+		synchronized (this) {
+			mStatements.put(key, statements);
+		}
+		return statements;
+	}
+
+	public synchronized int size() {
+		return mStatements.size();
+	}
+
+	public synchronized long getHits() {
+		return mHits;
+	}
+
+	public synchronized long getMisses() {
+		return mMisses;
+	}
+
+	/**
+	 * Removes all cached methods, the counters are kept
+	 */
+	public synchronized void clear() {
+		mStatements.clear();
+	}
+
+	/**
+	 * Hash of the canonical form of a method
+	 */
+	private static final class Key {
+		private final byte[] mDigest;
+		private final int mHashCode;
+
+		Key(byte[] digest) {
+			mDigest = digest;
+			mHashCode = Arrays.hashCode(digest);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && Arrays.equals(mDigest, ((Key) obj).mDigest);
+		}
+
+		@Override
+		public int hashCode() {
+			return mHashCode;
+		}
+	}
+
+	/**
+	 * Feeds the canonical form of a method to the digest
+	 */
+	private static final class CanonicalHash {
+		private static final String OWNER_PLACEHOLDER = "\u0000";
+
+		private final String mOwner;
+		private final MessageDigest mDigest;
+		private final Map<LabelNode, Integer> mLabels = new IdentityHashMap<>();
+
+		/**
+		 * Whether the name of the class was found where it changes the translated code
+		 */
+		private boolean mIsOwnerDependent;
+
+		CanonicalHash(String owner) {
+			mOwner = owner;
+			try {
+				mDigest = MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		byte[] hash(MethodNode method, int classAccess, int depth, String passes) {
+			mDigest.update(passes.getBytes(StandardCharsets.UTF_8));
+			mDigest.update((byte) SEPARATOR);
+			putInt(classAccess);
+			putInt(depth);
+			putInt(method.access);
+			putString(method.name, true);
+			putString(method.desc, true);
+			putString(method.signature, true);
+
+			for (AbstractInsnNode node = method.instructions.getFirst(); node != null; node = node.getNext()) {
+				if (node instanceof LabelNode) {
+					mLabels.put((LabelNode) node, mLabels.size());
+				}
+			}
+			for (AbstractInsnNode node = method.instructions.getFirst(); node != null; node = node.getNext()) {
+				putInstruction(node);
+			}
+
+			putInt(method.tryCatchBlocks.size());
+			for (Object block : method.tryCatchBlocks) {
+				TryCatchBlockNode tryCatchBlock = (TryCatchBlockNode) block;
+				putLabel(tryCatchBlock.start);
+				putLabel(tryCatchBlock.end);
+				putLabel(tryCatchBlock.handler);
+				putString(tryCatchBlock.type, true);
+			}
+
+			boolean isStatic = (method.access & Opcodes.ACC_STATIC) != 0;
+			putInt(method.localVariables == null ? 0 : method.localVariables.size());
+			if (method.localVariables != null) {
+				for (Object variable : method.localVariables) {
+					LocalVariableNode variableNode = (LocalVariableNode) variable;
+					boolean isThis = !isStatic && variableNode.index == 0;
+					putString(variableNode.name, true);
+					putString(variableNode.desc, !isThis);
+					putString(variableNode.signature, !isThis);
+					putInt(variableNode.index);
+					putLabel(variableNode.start);
+					putLabel(variableNode.end);
+				}
+			}
+
+			if (mIsOwnerDependent) {
+				mDigest.update(mOwner.getBytes(StandardCharsets.UTF_8));
+			}
+			return mDigest.digest();
+		}
+
+		private void putInstruction(AbstractInsnNode node) {
+			putInt(node.getType());
+			putInt(node.getOpcode());
+			switch (node.getType()) {
+				case AbstractInsnNode.INT_INSN:
+					putInt(((IntInsnNode) node).operand);
+					break;
+				case AbstractInsnNode.VAR_INSN:
+					putInt(((VarInsnNode) node).var);
+					break;
+				case AbstractInsnNode.TYPE_INSN:
+					putString(((TypeInsnNode) node).desc, true);
+					break;
+				case AbstractInsnNode.FIELD_INSN:
+					FieldInsnNode fieldNode = (FieldInsnNode) node;
+					boolean isInstanceField = node.getOpcode() == Opcodes.GETFIELD || node.getOpcode() == Opcodes.PUTFIELD;
+					putString(fieldNode.owner, !isInstanceField);
+					putString(fieldNode.name, true);
+					putString(fieldNode.desc, true);
+					break;
+				case AbstractInsnNode.METHOD_INSN:
+					MethodInsnNode methodNode = (MethodInsnNode) node;
+					putString(methodNode.owner, true);
+					putString(methodNode.name, true);
+					putString(methodNode.desc, true);
+					putInt(methodNode.itf ? 1 : 0);
+					break;
+				case AbstractInsnNode.INVOKE_DYNAMIC_INSN:
+					InvokeDynamicInsnNode dynamicNode = (InvokeDynamicInsnNode) node;
+					putString(dynamicNode.name, true);
+					putString(dynamicNode.desc, true);
+					putConstant(dynamicNode.bsm);
+					putInt(dynamicNode.bsmArgs.length);
+					for (Object argument : dynamicNode.bsmArgs) {
+						putConstant(argument);
+					}
+					break;
+				case AbstractInsnNode.JUMP_INSN:
+					putLabel(((JumpInsnNode) node).label);
+					break;
+				case AbstractInsnNode.LABEL:
+					putLabel((LabelNode) node);
+					break;
+				case AbstractInsnNode.LDC_INSN:
+					putConstant(((LdcInsnNode) node).cst);
+					break;
+				case AbstractInsnNode.IINC_INSN:
+					putInt(((IincInsnNode) node).var);
+					putInt(((IincInsnNode) node).incr);
+					break;
+				case AbstractInsnNode.TABLESWITCH_INSN:
+					TableSwitchInsnNode tableNode = (TableSwitchInsnNode) node;
+					putInt(tableNode.min);
+					putInt(tableNode.max);
+					putLabel(tableNode.dflt);
+					putLabels(tableNode.labels);
+					break;
+				case AbstractInsnNode.LOOKUPSWITCH_INSN:
+					LookupSwitchInsnNode lookupNode = (LookupSwitchInsnNode) node;
+					putLabel(lookupNode.dflt);
+					putInt(lookupNode.keys.size());
+					for (Object key : lookupNode.keys) {
+						putInt((Integer) key);
+					}
+					putLabels(lookupNode.labels);
+					break;
+				case AbstractInsnNode.MULTIANEWARRAY_INSN:
+					putString(((MultiANewArrayInsnNode) node).desc, true);
+					putInt(((MultiANewArrayInsnNode) node).dims);
+					break;
+				case AbstractInsnNode.LINE:
+					putInt(((LineNumberNode) node).line);
+					putLabel(((LineNumberNode) node).start);
+					break;
+				default:
+					// the translation uses only the position of the frames, their content is not hashed
+					break;
+			}
+		}
+
+		private void putConstant(Object constant) {
+			putString(constant.getClass().getName(), false);
+			if (constant instanceof Type) {
+				putString(((Type) constant).getDescriptor(), true);
+			} else if (constant instanceof Handle) {
+				Handle handle = (Handle) constant;
+				putInt(handle.getTag());
+				putString(handle.getOwner(), true);
+				putString(handle.getName(), true);
+				putString(handle.getDesc(), true);
+			} else {
+				putString(constant.toString(), true);
+			}
+		}
+
+		private void putLabels(List labels) {
+			putInt(labels.size());
+			for (Object label : labels) {
+				putLabel((LabelNode) label);
+			}
+		}
+
+		private void putLabel(LabelNode label) {
+			Integer position = label == null ? null : mLabels.get(label);
+			putInt(position == null ? -1 : position);
+		}
+
+		/**
+		 * @param ownerDependent whether the name of the class changes the translated code if it is in the string
+		 */
+		private void putString(String str, boolean ownerDependent) {
+			if (str == null) {
+				mDigest.update((byte) 0);
+				return;
+			}
+			mDigest.update((byte) 1);
+			if (str.contains(mOwner)) {
+				mIsOwnerDependent |= ownerDependent;
+				str = str.replace(mOwner, OWNER_PLACEHOLDER);
+			}
+			mDigest.update(str.getBytes(StandardCharsets.UTF_8));
+			mDigest.update((byte) SEPARATOR);
+		}
+
+		private void putInt(int value) {
+			mDigest.update((byte) (value >>> 24));
+			mDigest.update((byte) (value >>> 16));
+			mDigest.update((byte) (value >>> 8));
+			mDigest.update((byte) value);
+		}
+	}
+}
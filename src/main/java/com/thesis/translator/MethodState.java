@@ -1,9 +1,13 @@
 package com.thesis.translator;
 
+import com.thesis.common.collection.IntObjectMap;
+import com.thesis.common.collection.IntSet;
 import com.thesis.expression.JumpExpression;
 import com.thesis.expression.variable.LocalVariable;
+import com.thesis.translator.peephole.PeepholeEngine;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodNode;
 
 import java.util.*;
 
@@ -31,19 +35,60 @@ public class MethodState {
 	private int mCurrentLine;
 	private int mCurrentLabel;
 	private int mFrameLabel = JumpExpression.NO_DESTINATION;
-	private Set<Integer> mVisitedLabels;
-	private Map<Integer, List<LocalVariable>> mLocalVariables;
+	private IntSet mVisitedLabels;
+	private IntObjectMap<List<LocalVariable>> mLocalVariables;
 	private ExpressionStack mStack;
 	private Stack<ExpressionStack> mActiveStacks;
 	private OnLabelChangeListener mOnLabelChangeListener;
 	private TryCatchManager mTryCatchManager;
+	private Deque<Continuation> mContinuations;
+
+	/**
+	 * Peephole engine shared by the top-level stacks of all methods decompiled with this instance
+	 */
+	private final PeepholeEngine mPeepholeEngine;
 
 	public MethodState() {
-		mVisitedLabels = new HashSet<>();
+		mContinuations = new ArrayDeque<>();
+		mVisitedLabels = new IntSet();
 		mActiveStacks = new Stack<>();
-		mStack = new ExpressionStack();
-		mLocalVariables = new HashMap<>();
+		mPeepholeEngine = PeepholeEngine.createDefault();
+		mStack = new ExpressionStack(mPeepholeEngine);
+		mLocalVariables = new IntObjectMap<>();
+		mActiveStacks.push(mStack);
+	}
+
+	/**
+	 * Prepares the state for the decompilation of another method
+	 * <p>
+	 * The collections used only during the decompilation are cleared and reused. The top-level stack and the
+	 * try-catch manager are created again, because the decompiled expressions keep references to them.
+	 * The label change listener stays registered.
+	 * @param method method that is going to be decompiled
+	 */
+	public void reset(MethodNode method) {
+		clear();
+		mStack = new ExpressionStack(mPeepholeEngine);
 		mActiveStacks.push(mStack);
+		setupTryCatchManager(method.tryCatchBlocks);
+		mCurrentNode = method.instructions.getFirst();
+	}
+
+	/**
+	 * Drops all the state of the previous decompilation, the instance has to be {@link #reset(MethodNode)}
+	 * before it is used again
+	 */
+	public void clear() {
+		mCurrentNode = null;
+		mCurrentLine = 0;
+		mCurrentLabel = 0;
+		mFrameLabel = JumpExpression.NO_DESTINATION;
+		mVisitedLabels.clear();
+		mLocalVariables.clear();
+		mActiveStacks.clear();
+		mContinuations.clear();
+		mStack = null;
+		mTryCatchManager = null;
 	}
 
 	/**
@@ -168,6 +213,29 @@ public class MethodState {
 		mOnLabelChangeListener = onLabelChangeListener;
 	}
 
+	/**
+	 * Schedules the continuation, it is resumed before any continuation scheduled earlier
+	 * @param continuation continuation of a handler
+	 */
+	public void schedule(Continuation continuation) {
+		mContinuations.push(continuation);
+	}
+
+	/**
+	 * @return the most recently scheduled continuation that has not finished yet, null if there is none
+	 */
+	Continuation peekContinuation() {
+		return mContinuations.peek();
+	}
+
+	/**
+	 * Removes the finished continuation from the scheduled ones
+	 * @param continuation finished continuation
+	 */
+	void finishContinuation(Continuation continuation) {
+		mContinuations.removeFirstOccurrence(continuation);
+	}
+
 	public TryCatchManager getTryCatchManager() {
 		return mTryCatchManager;
 	}
@@ -204,7 +272,7 @@ public class MethodState {
 	/**
 	 * @return map with local variables and their positions
 	 */
-	Map<Integer, List<LocalVariable>> getLocalVariables () {
+	IntObjectMap<List<LocalVariable>> getLocalVariables () {
 		return mLocalVariables;
 	}
 
@@ -1,9 +1,13 @@
 package com.thesis.translator;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Stack;
 
 /**
  * Interface that can be used to enhance {@link ExpressionStack} after the decompilation process finished
+ * <p>
+ * Enhancers are run as passes by the {@link EnhancerPassManager}
  */
 public interface StackEnhancer {
 
@@ -11,6 +15,21 @@ public interface StackEnhancer {
 	 * This method allows to change the stack in any way possile
 	 * @param expressionStack the expression stack that is being enhanced
 	 * @param stack the inner stack in the ExpressionStack
+	 * @return number of rewrites made in the stack
 	 */
-	void enhance(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack);
+	int enhance(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack);
+
+	/**
+	 * @return name of the pass, used to refer to it in the configuration and in the dependencies of other passes
+	 */
+	default String getName() {
+		return getClass().getSimpleName();
+	}
+
+	/**
+	 * @return names of the passes that have to run before this one
+	 */
+	default Collection<String> getDependencies() {
+		return Collections.emptyList();
+	}
 }
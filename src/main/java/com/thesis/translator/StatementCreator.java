@@ -5,14 +5,31 @@ import com.thesis.common.DataType;
 import com.thesis.expression.*;
 import com.thesis.statement.*;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 /**
  * Converts the expression stack to the list of statements
+ * <p>
+ * The nested stacks of the branches, loops, cases and blocks are not converted recursively, they wait on a work stack
+ * and their statement lists are filled once the enclosing statements exist. A creator that is asked for its statements
+ * while another creator of the same thread is running, e.g. by the {@link BlockStatement} of a loop, joins the work
+ * stack of the running creator. The depth of the nesting thus does not grow the call stack.
  */
 public class StatementCreator {
 
+	/**
+	 * Creator that is converting the stacks on the current thread, null if there is none
+	 */
+	private static final ThreadLocal<StatementCreator> mRunningCreator = new ThreadLocal<>();
+
+	/**
+	 * Nested stacks waiting for the conversion
+	 */
+	private final Deque<PendingStack> mPendingStacks = new ArrayDeque<>();
+
 	private ExpressionStack mStack;
 	private List<Statement> mStatements;
 	private CodeElement mParent;
@@ -28,51 +45,70 @@ public class StatementCreator {
 	}
 
 	/**
+	 * The list is filled later if another creator is running on the current thread,
+	 * it is complete once the running creator returns its statements
 	 * @return list of converted statements
 	 */
 	public List<Statement> getStatements() {
 		if (mStatements == null) {
-			createStatements();
+			StatementCreator runningCreator = mRunningCreator.get();
+			if (runningCreator != null) {
+				mStatements = runningCreator.createStatements(mStack, mParent);
+			} else {
+				mRunningCreator.set(this);
+				try {
+					mStatements = createStatements(mStack, mParent);
+					convertPendingStacks();
+				} finally {
+					mRunningCreator.remove();
+					mPendingStacks.clear();
+				}
+			}
 		}
 		return mStatements;
 	}
 
-	private void createStatements(){
-		mStatements = createStatements(mStack, mParent);
-	}
-
+	/**
+	 * Schedules the conversion of the stack
+	 * @return list that is filled with the statements of the stack by {@link #convertPendingStacks()}
+	 */
 	private List<Statement> createStatements(ExpressionStack expressions, CodeElement parent) {
 		List<Statement> statements = new ArrayList<>();
-		if (expressions == null) return statements;
-		for (int i = 0; i < expressions.size(); i++) {
-			Expression exp = expressions.get(i);
-			if (exp.isVirtual()) continue;
-
-			if (exp instanceof JumpExpression) {
-				statements.add(handleConditionalExpression((JumpExpression) exp, exp.getLine(), parent));
-			} else if (exp instanceof SwitchExpression) {
-				statements.add(handleSwitchExpression((SwitchExpression) exp, exp.getLine(), parent));
-			} else if (exp instanceof TryCatchExpression) {
-				statements.add(new TryCatchStatement((TryCatchExpression) exp, exp.getLine(), parent));
-			} else if (exp instanceof MonitorExpression) {
-				statements.add(new SynchronizedStatement((MonitorExpression) exp, exp.getLine(), parent));
-			} else {
-				statements.add(new Statement(exp, exp.getLine(), parent));
-			}
+		if (expressions != null) {
+			mPendingStacks.push(new PendingStack(expressions, parent, statements));
 		}
 		return statements;
 	}
 
+	private void convertPendingStacks() {
+		PendingStack pending;
+		while ((pending = mPendingStacks.poll()) != null) {
+			ExpressionStack expressions = pending.mStack;
+			StatementFactory factory = new StatementFactory(pending.mParent);
+			for (int i = 0; i < expressions.size(); i++) {
+				Expression exp = expressions.get(i);
+				if (exp.isVirtual()) continue;
+				pending.mStatements.add(exp.accept(factory));
+				exp.releaseStacks();
+			}
+		}
+	}
+
 	private Statement handleSwitchExpression(SwitchExpression expression, int line, CodeElement parent) {
 		SwitchStatement statement = new SwitchStatement(expression, line, parent);
 		List<Statement> caseStatements = new ArrayList<>();
 		for(SwitchExpression.CaseExpression caseExp : expression.getCaseList()) {
-			caseStatements.add(new SwitchStatement.CaseStatement(caseExp, line, createStatements(caseExp.getStack(), statement), statement)); //TODO line
+			SwitchStatement.CaseStatement caseStatement = new SwitchStatement.CaseStatement(caseExp, line, statement); //TODO line
+			caseStatement.setStatements(createStatements(caseExp.getStack(), caseStatement));
+			caseStatements.add(caseStatement);
 		}
 		statement.setSwitchBlock(new BlockStatement(line, caseStatements, statement));
 		return statement;
 	}
 
+	/**
+	 * @return loop or conditional statement, or null if the expression does not form any
+	 */
 	private Statement handleConditionalExpression(JumpExpression expression, int line, CodeElement parent) {
 		if (expression.isLoop()) {
 			switch (expression.getLoopType()) {
@@ -101,11 +137,7 @@ public class StatementCreator {
 			ifThenStatement.setThenBlock(new BlockStatement(line, thenStatements, ifThenStatement));
 			return ifThenStatement;
 		}
-		if (expression instanceof UnconditionalJump) {
-			return new Statement(expression, line, parent);
-		}
-		//TODO throw exception?
-		return new Statement(new PrimaryExpression(0, "UNKNOWN CONDITIONAL EXPRESSION ", DataType.getTypeFromObject("java.lang.String")),0, parent);
+		return null;
 	}
 
 	private boolean isIfThenStatement(JumpExpression expression) {
@@ -117,4 +149,65 @@ public class StatementCreator {
 		return expression.getThenBranch() != null && !expression.getThenBranch().isEmpty()
 				&& expression.getElseBranch() != null && !expression.getElseBranch().isEmpty();
 	}
+
+	/**
+	 * Stack waiting for the conversion to the statements
+	 */
+	private static class PendingStack {
+		private final ExpressionStack mStack;
+		private final CodeElement mParent;
+		private final List<Statement> mStatements;
+
+		PendingStack(ExpressionStack stack, CodeElement parent, List<Statement> statements) {
+			mStack = stack;
+			mParent = parent;
+			mStatements = statements;
+		}
+	}
+
+	/**
+	 * Creates the statement of a single expression with the given parent
+	 */
+	private class StatementFactory implements ExpressionVisitor<Statement> {
+
+		private final CodeElement mParent;
+
+		StatementFactory(CodeElement parent) {
+			mParent = parent;
+		}
+
+		@Override
+		public Statement visitExpression(Expression expression) {
+			return new Statement(expression, expression.getLine(), mParent);
+		}
+
+		@Override
+		public Statement visitJump(JumpExpression expression) {
+			Statement statement = handleConditionalExpression(expression, expression.getLine(), mParent);
+			//TODO throw exception?
+			return statement != null ? statement
+					: new Statement(new PrimaryExpression(0, "UNKNOWN CONDITIONAL EXPRESSION ", DataType.getTypeFromObject("java.lang.String")),0, mParent);
+		}
+
+		@Override
+		public Statement visitUnconditionalJump(UnconditionalJump expression) {
+			Statement statement = handleConditionalExpression(expression, expression.getLine(), mParent);
+			return statement != null ? statement : visitExpression(expression);
+		}
+
+		@Override
+		public Statement visitSwitch(SwitchExpression expression) {
+			return handleSwitchExpression(expression, expression.getLine(), mParent);
+		}
+
+		@Override
+		public Statement visitTryCatch(TryCatchExpression expression) {
+			return new TryCatchStatement(expression, expression.getLine(), mParent);
+		}
+
+		@Override
+		public Statement visitMonitor(MonitorExpression expression) {
+			return new SynchronizedStatement(expression, expression.getLine(), mParent);
+		}
+	}
 }
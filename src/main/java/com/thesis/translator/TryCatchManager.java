@@ -1,9 +1,10 @@
 package com.thesis.translator;
 
+import com.thesis.common.collection.IntArrayList;
+import com.thesis.common.collection.IntObjectMap;
 import org.objectweb.asm.tree.TryCatchBlockNode;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Handles try-catch blocks and their locations
@@ -20,10 +21,45 @@ public class TryCatchManager {
 	 */
 	private List<Item> mCatchBlockHandlers;
 
+	/**
+	 * Try-catch blocks indexed by the label id where their try block starts
+	 */
+	private List<List<Item>> mTryStarts;
+
+	/**
+	 * Label ids where a catch block of any try-catch block starts
+	 */
+	private BitSet mCatchBlockStarts;
+
+	/**
+	 * Label ids where a catch block handler starts
+	 */
+	private BitSet mCatchHandlerStarts;
+
+	/**
+	 * Label ids where a catch block handler ends
+	 */
+	private BitSet mCatchHandlerEnds;
+
+	/**
+	 * Maps the try block bounds to the position of the item in {@link TryCatchManager#mItems}, used only during init
+	 */
+	private Map<Long, Integer> mItemPositions;
+
+	/**
+	 * Maps the catch location to the position of the first item in {@link TryCatchManager#mItems} that has a catch
+	 * block at that location, used only during init
+	 */
+	private Map<Integer, Integer> mFirstCatchPositions;
+
 	/**
 	 * Use the newInstance method
 	 */
 	private TryCatchManager() {
+		mItems = new ArrayList<>();
+		mCatchBlockHandlers = new ArrayList<>();
+		mItemPositions = new HashMap<>();
+		mFirstCatchPositions = new HashMap<>();
 	}
 
 	//region INIT
@@ -36,49 +72,96 @@ public class TryCatchManager {
 	 */
 	public static TryCatchManager newInstance(List tryCatchBlocks, ExpressionStack stack) {
 		TryCatchManager manager = new TryCatchManager();
-		List<Item> tryCatchItems = new ArrayList<>();
-		List<Item> catchBlockHandlers = new ArrayList<>();
 		if (tryCatchBlocks != null) {
 			for (Object block : tryCatchBlocks) {
 				TryCatchBlockNode node = (TryCatchBlockNode) block;
 				Item item = new Item(stack.getLabelId(node.start.getLabel()), stack.getLabelId(node.end.getLabel()),
 						stack.getLabelId(node.handler.getLabel()), node.type);
-				addNewItemToList(tryCatchItems, catchBlockHandlers, item);
+				manager.addNewItem(item);
 			}
 		}
-		manager.setItems(tryCatchItems);
-		manager.setCatchBlockHandlers(catchBlockHandlers);
+		manager.buildLabelIndex();
 		return manager;
 	}
 
-	private static void addNewItemToList(List<Item> tryCatchItems, List<Item> catchBlockHandlers, Item newItem) {
+	/**
+	 * Adds the item either to the try-catch blocks (merging it with the item with the same try block),
+	 * or to the catch block handlers if its try block starts at a catch block of already added item.
+	 * <p>
+	 * The first item in the list that either matches the new item or contains its start as a catch location decides
+	 * where the new item belongs.
+	 * @param newItem item created from a single {@link TryCatchBlockNode}
+	 */
+	private void addNewItem(Item newItem) {
+		int tryStart = newItem.getTryStartLocation();
+		Integer matchPosition = mItemPositions.get(makeBoundsKey(newItem));
+		Integer catchPosition = mFirstCatchPositions.get(tryStart);
+
 		boolean foundMatch = false;
 		boolean isCatchBlockHandler = false;
-		for (Item item : tryCatchItems) {
-			if (item.matches(newItem)) {
-				foundMatch = true;
-				item.addCatchTypes(newItem.getCatchLocations(), newItem.getCatchTypes());
-			}
-			if (item.getCatchLocations().contains(newItem.getTryStartLocation())) {
-				isCatchBlockHandler = true;
-			}
-			if (foundMatch || isCatchBlockHandler) break;
+		if (matchPosition != null && (catchPosition == null || matchPosition <= catchPosition)) {
+			foundMatch = true;
+			Item item = mItems.get(matchPosition);
+			item.addCatchTypes(newItem.mCatchLocations, newItem.mCatchTypes);
+			indexCatchLocations(newItem, matchPosition);
+			isCatchBlockHandler = item.hasHandlerLabel(tryStart);
+		} else if (catchPosition != null) {
+			isCatchBlockHandler = true;
 		}
+
 		if (!foundMatch && !isCatchBlockHandler) {
-			tryCatchItems.add(newItem);
+			mItemPositions.put(makeBoundsKey(newItem), mItems.size());
+			indexCatchLocations(newItem, mItems.size());
+			mItems.add(newItem);
 		}
 
-		if (isCatchBlockHandler && !newItem.getCatchLocations().contains(newItem.getTryStartLocation())) {
-			catchBlockHandlers.add(newItem);
+		if (isCatchBlockHandler && !newItem.hasHandlerLabel(tryStart)) {
+			mCatchBlockHandlers.add(newItem);
 		}
 	}
 
-	private void setItems(List<Item> items) {
-		mItems = items;
+	private void indexCatchLocations(Item item, int position) {
+		IntArrayList catchLocations = item.mCatchLocations;
+		for (int i = 0; i < catchLocations.size(); i++) {
+			mFirstCatchPositions.merge(catchLocations.get(i), position, Math::min);
+		}
 	}
 
-	private void setCatchBlockHandlers(List<Item> catchBlockHandlers) {
-		mCatchBlockHandlers = catchBlockHandlers;
+	private static long makeBoundsKey(Item item) {
+		return ((long) item.getTryStartLocation() << 32) | (item.getTryEndLocation() & 0xffffffffL);
+	}
+
+	/**
+	 * Precomputes the per-label lookup structures, so the queries during the translation do not iterate the items
+	 */
+	private void buildLabelIndex() {
+		mItemPositions = null;
+		mFirstCatchPositions = null;
+
+		mTryStarts = new ArrayList<>();
+		mCatchBlockStarts = new BitSet();
+		mCatchHandlerStarts = new BitSet();
+		mCatchHandlerEnds = new BitSet();
+
+		for (Item item : mItems) {
+			int start = item.getTryStartLocation();
+			while (mTryStarts.size() <= start) {
+				mTryStarts.add(null);
+			}
+			if (mTryStarts.get(start) == null) {
+				mTryStarts.set(start, new ArrayList<>());
+			}
+			mTryStarts.get(start).add(item);
+			for (int i = 0; i < item.mCatchLocations.size(); i++) {
+				mCatchBlockStarts.set(item.mCatchLocations.get(i));
+			}
+		}
+		for (Item item : mCatchBlockHandlers) {
+			mCatchHandlerEnds.set(item.getTryEndLocation());
+			for (int i = 0; i < item.mCatchLocations.size(); i++) {
+				mCatchHandlerStarts.set(item.mCatchLocations.get(i));
+			}
+		}
 	}
 	//endregion
 
@@ -86,7 +169,7 @@ public class TryCatchManager {
 	 * @return true if the manager does not contain any try-catch blocks
 	 */
 	public boolean isEmpty() {
-		return mItems == null || mItems.isEmpty();
+		return mItems.isEmpty();
 	}
 
 	/**
@@ -94,7 +177,10 @@ public class TryCatchManager {
 	 * @return list of trycatch items at given label location
 	 */
 	public List<Item> getTryBlocksLocation(int labelId) {
-		return mItems.stream().filter(item -> item.getTryStartLocation() == labelId).collect(Collectors.toList());
+		if (labelId < 0 || labelId >= mTryStarts.size() || mTryStarts.get(labelId) == null) {
+			return Collections.emptyList();
+		}
+		return mTryStarts.get(labelId);
 	}
 
 	/**
@@ -102,12 +188,7 @@ public class TryCatchManager {
 	 * @return true if the manager has a catch block that starts at the provided label
 	 */
 	public boolean hasCatchBlockStart(int location) {
-		for (Item item : mItems) {
-			if (item.getCatchLocations().contains(location)) {
-				return true;
-			}
-		}
-		return false;
+		return location >= 0 && mCatchBlockStarts.get(location);
 	}
 
 	/**
@@ -115,10 +196,7 @@ public class TryCatchManager {
 	 * @return true if the manager has a catch block that ends at provided label id
 	 */
 	public boolean hasCatchHandlerEnd(int labelId) {
-		for(Item item : mCatchBlockHandlers) {
-			if (item.getTryEndLocation() == labelId) return true;
-		}
-		return false;
+		return labelId >= 0 && mCatchHandlerEnds.get(labelId);
 	}
 
 	/**
@@ -126,10 +204,7 @@ public class TryCatchManager {
 	 * @return true, if the manager has a catch block handler that starts at given label id
 	 */
 	public boolean hasCatchHandlerLocation(int labelId) {
-		for(Item item : mCatchBlockHandlers) {
-			if (item.getCatchLocations().contains(labelId)) return true;
-		}
-		return false;
+		return labelId >= 0 && mCatchHandlerStarts.get(labelId);
 	}
 
 	/**
@@ -150,12 +225,12 @@ public class TryCatchManager {
 		/**
 		 * Locations of the catch blocks
 		 */
-		private Set<Integer> mCatchLocations = new HashSet<>();
+		private IntArrayList mCatchLocations = new IntArrayList();
 
 		/**
 		 * Maps the location of catch block to the list of exceptions handled by the block (supports multicatch)
 		 */
-		private Map<Integer, ArrayList<String>> mCatchTypes = new HashMap<>();
+		private IntObjectMap<ArrayList<String>> mCatchTypes = new IntObjectMap<>();
 
 		/**
 		 * Try block
@@ -165,7 +240,7 @@ public class TryCatchManager {
 		/**
 		 * Maps the location of catch block expression stack that contains expressions in the block
 		 */
-		private Map<Integer, ExpressionStack> mCatchStacks = new HashMap<>();
+		private IntObjectMap<ExpressionStack> mCatchStacks = new IntObjectMap<>();
 
 		public Item(int tryStartLocation, int tryEndLocation, int catchLocation, String exception) {
 			mTryStartLocation = tryStartLocation;
@@ -194,12 +269,15 @@ public class TryCatchManager {
 			mTryStack = tryStack;
 		}
 
-		public Map<Integer, ArrayList<String>> getCatchTypes() {
+		public IntObjectMap<ArrayList<String>> getCatchTypes() {
 			return mCatchTypes;
 		}
 
-		public List<Integer> getCatchLocations() {
-			return new ArrayList<>(mCatchLocations);
+		/**
+		 * @return locations of the catch blocks in the order of the exception table
+		 */
+		public IntArrayList getCatchLocations() {
+			return new IntArrayList(mCatchLocations);
 		}
 
 		public int getHandlerCount() {
@@ -215,10 +293,14 @@ public class TryCatchManager {
 		 * @param handlerLocations locations of catch blocks
 		 * @param catchTypes types of caught exceptions
 		 */
-		public void addCatchTypes(List<Integer> handlerLocations, Map<Integer, ArrayList<String>> catchTypes) {
-			mCatchLocations.addAll(handlerLocations);
+		public void addCatchTypes(IntArrayList handlerLocations, IntObjectMap<ArrayList<String>> catchTypes) {
+			for (int i = 0; i < handlerLocations.size(); i++) {
+				if (!mCatchLocations.contains(handlerLocations.get(i))) {
+					mCatchLocations.add(handlerLocations.get(i));
+				}
+			}
 
-			for (Integer key : catchTypes.keySet()) {
+			for (int key : catchTypes.keys()) {
 				if (mCatchTypes.containsKey(key)) {
 					mCatchTypes.get(key).addAll(catchTypes.get(key));
 				} else {
@@ -240,10 +322,7 @@ public class TryCatchManager {
 		 * @return true if the try-catch item has a catch block at given location
 		 */
 		public boolean hasHandlerLabel(int label) {
-			for(int key : mCatchTypes.keySet()) {
-				if (key == label) return true;
-			}
-			return false;
+			return mCatchLocations.contains(label);
 		}
 
 		/**
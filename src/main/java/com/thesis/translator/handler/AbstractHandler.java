@@ -1,17 +1,15 @@
 package com.thesis.translator.handler;
 
-import com.thesis.common.Util;
 import com.thesis.exception.IncorrectNodeException;
 import com.thesis.expression.Expression;
 import com.thesis.expression.JumpExpression;
 import com.thesis.expression.TryCatchExpression;
+import com.thesis.translator.Continuation;
 import com.thesis.translator.ExpressionStack;
 import com.thesis.translator.MethodState;
 import com.thesis.translator.TryCatchManager;
-import org.apache.log4j.Logger;
 import org.objectweb.asm.tree.AbstractInsnNode;
 
-import java.lang.reflect.Field;
 import java.util.List;
 
 /**
@@ -21,29 +19,14 @@ import java.util.List;
  */
 public abstract class AbstractHandler implements NodeHandler, MethodState.OnLabelChangeListener {
 
-	private static final Logger LOG = Logger.getLogger(AbstractHandler.class);
 
 	protected MethodState mState;
-	private OnNodeMovedListener mOnMovedListener;
 
 	/**
-	 * A constructor for the handlers that do not need a {@link OnNodeMovedListener}
 	 * @param state method context
 	 */
 	public AbstractHandler(MethodState state) {
 		mState = state;
-		mState.setOnLabelChangeListener(this);
-	}
-
-	/**
-	 * A constructor for the handlers that need a {@link OnNodeMovedListener}
-	 * @param state method context
-	 * @param onMovedListener configured listener
-	 */
-	public AbstractHandler(MethodState state, OnNodeMovedListener onMovedListener) {
-		mState = state;
-		mState.setOnLabelChangeListener(this);
-		mOnMovedListener = onMovedListener;
 	}
 
 	@Override
@@ -56,15 +39,6 @@ public abstract class AbstractHandler implements NodeHandler, MethodState.OnLabe
 		createTryCatchBlocks(mState);
 	}
 
-	/**
-	 * Should be called by a handler that moved the node to notify that it was moved
-	 */
-	protected void nodeMoved() {
-		if (mOnMovedListener != null) {
-			mOnMovedListener.onNodeMoved();
-		}
-	}
-
 	/**
 	 * Should be called to check if the provided node is of the expected type
 	 * @param node node provided to the handler
@@ -74,33 +48,6 @@ public abstract class AbstractHandler implements NodeHandler, MethodState.OnLabe
 		if (!node.getClass().equals(clazz)) throw new IncorrectNodeException("Incorrect node type, expected: " + clazz.getSimpleName());
 	}
 
-	/**
-	 * Creates a textual representation of the nodes' fields
-	 * @param node node
-	 * @return String with information about the node
-	 */
-	protected String logNode(AbstractInsnNode node) {
-		String opCode = Util.getOpcodeString(node.getOpcode());
-		StringBuilder fields = new StringBuilder();
-		for (Field field : node.getClass().getFields()) {
-			if (!(field.getName().contains("INSN") || field.getName().contains("LABEL") || field.getName().contains("FRAME") || field.getName().contains("LINE"))) {
-				Object fieldVal = null;
-				try {
-					fieldVal = field.get(node);
-				} catch (IllegalAccessException e) {
-					System.out.println(field.getName() + " is inaccessible");
-				}
-				if (fieldVal == null) {
-					continue;
-				}
-				fields.append(field.getName()).append(" = ").append(fieldVal).append("; ");
-
-			}
-
-		}
-		return opCode + " " + fields;
-	}
-
 	/**
 	 * Drives the creation of the try-catch blocks
 	 * @param state instance of method state
@@ -109,87 +56,156 @@ public abstract class AbstractHandler implements NodeHandler, MethodState.OnLabe
 		if (state.getTryCatchManager().isEmpty()) return;
 		List<TryCatchManager.Item> tryCatchItems = state.getTryCatchManager().getTryBlocksLocation(state.getCurrentLabel());
 		if (tryCatchItems.isEmpty()) return;
-		TryCatchExpression tryCatchExpression = null;
-		for(TryCatchManager.Item item : tryCatchItems) {
-			prepareTryCatchItem(state, item, tryCatchExpression);
-			tryCatchExpression = new TryCatchExpression(item);
-		}
-		state.getActiveStack().push(tryCatchExpression);
+		state.schedule(new TryCatchContinuation(state, tryCatchItems));
+	}
+
+	private boolean hasReachedEndOfCatchBlock(Expression topExpression, int tryCatchBlockEnd) {
+		return topExpression instanceof JumpExpression && ((JumpExpression) topExpression).getJumpDestination() == tryCatchBlockEnd;
+	}
+
+	private boolean hasReachedAnotherHandler(MethodState state, TryCatchManager.Item item) {
+		return !item.hasHandlerLabel(state.getCurrentLabel()) && state.getTryCatchManager().hasCatchBlockStart(state.getCurrentLabel());
 	}
 
 	/**
 	 * Reads the nodes that are withing the range of the try-catch items and creates the try-catch expression
-	 * @param state method state
-	 * @param item TryCatch item that contains information about the location of the try-catch block
-	 * @param innerTryCatchBlock try catch block that is enclosed inside the one that is being created
+	 * <p>
+	 * The items starting at the same label are nested, each item encloses the try-catch expression created from
+	 * the previous one. The outermost expression is pushed onto the active stack at the end.
 	 */
-	private void prepareTryCatchItem(MethodState state, TryCatchManager.Item item, TryCatchExpression innerTryCatchBlock) {
-		if (item.getCatchBlockCount() == item.getCatchTypes().size()) return;
-
-		// fill try block
-		item.setTryStack(state.startNewStack());
-		if (innerTryCatchBlock != null) {
-			item.getTryStack().push(innerTryCatchBlock);
+	private class TryCatchContinuation implements Continuation {
+
+		private final MethodState mState;
+		private final List<TryCatchManager.Item> mItems;
+		private int mItemIndex = -1;
+		private TryCatchManager.Item mItem;
+
+		/**
+		 * Try-catch expression created from the previous item, enclosed in the current one
+		 */
+		private TryCatchExpression mTryCatchExpression;
+		private ExpressionStack mRepeatedFinallyCalls;
+		private int mTryCatchBlockEnd;
+		private boolean mIsRethrow;
+		private int mHandlerIndex;
+		private int mCurrentBlockLabel;
+		private boolean mReachedEndOfCatchBlock;
+		private Phase mPhase = Phase.NEXT_ITEM;
+
+		TryCatchContinuation(MethodState state, List<TryCatchManager.Item> items) {
+			mState = state;
+			mItems = items;
 		}
 
-		while (!mState.isLabelVisited(item.getTryEndLocation() )) {
-			if (state.moveNode() == null) break;
-			nodeMoved();
-		}
-		state.finishStack();
-		// ignore repeated finally blocks
-		ExpressionStack repeatedFinallyCalls = state.startNewStack();
-		while (!item.hasHandlerLabel(state.getCurrentLabel())) {
-			if (state.moveNode() == null) break;
-			nodeMoved();
+		@Override
+		public Step resume() {
+			while (true) {
+				switch (mPhase) {
+					case NEXT_ITEM:
+						if (mItem != null) {
+							mTryCatchExpression = new TryCatchExpression(mItem);
+						}
+						if (++mItemIndex == mItems.size()) {
+							mState.getActiveStack().push(mTryCatchExpression);
+							return Step.DONE;
+						}
+						mItem = mItems.get(mItemIndex);
+						if (mItem.getCatchBlockCount() == mItem.getCatchTypes().size()) break;
+
+						// fill try block
+						mItem.setTryStack(mState.startNewStack());
+						if (mTryCatchExpression != null) {
+							mItem.getTryStack().push(mTryCatchExpression);
+						}
+						mPhase = Phase.TRY_BLOCK;
+						break;
+					case TRY_BLOCK:
+						if (mState.isLabelVisited(mItem.getTryEndLocation()) || mState.moveNode() == null) {
+							mState.finishStack();
+							// ignore repeated finally blocks
+							mRepeatedFinallyCalls = mState.startNewStack();
+							mPhase = Phase.REPEATED_FINALLY;
+							break;
+						}
+						return Step.PROCESS_NODE;
+					case REPEATED_FINALLY:
+						if (mItem.hasHandlerLabel(mState.getCurrentLabel()) || mState.moveNode() == null) {
+							mTryCatchBlockEnd = JumpExpression.NO_DESTINATION;
+							if (mRepeatedFinallyCalls.peek() instanceof JumpExpression) {
+								mTryCatchBlockEnd = ((JumpExpression) mRepeatedFinallyCalls.peek()).getJumpDestination();
+							}
+							mState.finishStack();
+							mIsRethrow = false;
+							mHandlerIndex = 0;
+							mPhase = Phase.CATCH_BLOCK_START;
+							break;
+						}
+						return Step.PROCESS_NODE;
+					case CATCH_BLOCK_START:
+						// fill catch blocks
+						if (mHandlerIndex >= mItem.getHandlerCount()) {
+							mPhase = Phase.NEXT_ITEM;
+							break;
+						}
+						mItem.addCatchBlock(mState.getCurrentLabel(), mState.startNewStack());
+						mCurrentBlockLabel = mState.getCurrentLabel();
+						mReachedEndOfCatchBlock = false;
+						mPhase = Phase.CATCH_BLOCK;
+						break;
+					case CATCH_BLOCK:
+						if (!isInCatchBlock() || mState.moveNode() == null) {
+							finishCatchBlock();
+							break;
+						}
+						mPhase = Phase.CATCH_BLOCK_NODE_PROCESSED;
+						return Step.PROCESS_NODE;
+					case CATCH_BLOCK_NODE_PROCESSED:
+						if (mCurrentBlockLabel != mState.getCurrentLabel() && mState.getTryCatchManager().hasCatchHandlerLocation(mState.getCurrentLabel())) {
+							mReachedEndOfCatchBlock = true;
+							mIsRethrow = true;
+						}
+						if (hasReachedAnotherHandler(mState, mItem) || hasReachedEndOfCatchBlock(mState.getActiveStack().peek(), mTryCatchBlockEnd)) {
+							mReachedEndOfCatchBlock = true;
+							finishCatchBlock();
+							break;
+						}
+						mPhase = Phase.CATCH_BLOCK;
+						break;
+					case REPEATED_CATCH_FINALLY:
+						if (mItem.hasHandlerLabel(mState.getCurrentLabel()) || mState.getCurrentLabel() == mTryCatchBlockEnd
+								|| mState.moveNode() == null) {
+							mState.finishStack();
+							mHandlerIndex++;
+							mPhase = Phase.CATCH_BLOCK_START;
+							break;
+						}
+						return Step.PROCESS_NODE;
+				}
+			}
 		}
 
-		int tryCatchBlockEnd = JumpExpression.NO_DESTINATION;
-		if (repeatedFinallyCalls.peek() instanceof JumpExpression) {
-			tryCatchBlockEnd = ((JumpExpression) repeatedFinallyCalls.peek()).getJumpDestination();
+		private boolean isInCatchBlock() {
+			int currentLabel = mState.getCurrentLabel();
+			return currentLabel == mCurrentBlockLabel ||
+					!(mItem.hasHandlerLabel(currentLabel)
+						|| (!mIsRethrow && mState.getTryCatchManager().hasCatchHandlerEnd(currentLabel)) // when there is a throw in catch block the try-catch blocks overlap
+						|| currentLabel == mTryCatchBlockEnd);
 		}
-		state.finishStack();
-		// fill catch blocks
-		boolean isRethrow = false;
-
-		for (int i = 0; i < item.getHandlerCount(); i++) {
-			item.addCatchBlock(state.getCurrentLabel(), state.startNewStack());
-			int currentBlockLabel = state.getCurrentLabel();
-			boolean reachedEndOfCatchBlock = false;
-			while (state.getCurrentLabel() == currentBlockLabel ||
-					!(item.hasHandlerLabel(state.getCurrentLabel())
-						|| (!isRethrow && state.getTryCatchManager().hasCatchHandlerEnd(state.getCurrentLabel())) // when there is a throw in catch block the try-catch blocks overlap
-						|| state.getCurrentLabel() == tryCatchBlockEnd)) {
-				if (state.moveNode() == null) break;
-				nodeMoved();
-				if (currentBlockLabel != state.getCurrentLabel() && state.getTryCatchManager().hasCatchHandlerLocation(state.getCurrentLabel())) {
-					reachedEndOfCatchBlock = true;
-					isRethrow = true;
-				}
-				if (hasReachedAnotherHandler(state, item) || hasReachedEndOfCatchBlock(state.getActiveStack().peek(), tryCatchBlockEnd)) {
-					reachedEndOfCatchBlock = true;
-					break;
-				}
-			}
-			state.finishStack();
 
-			if (!reachedEndOfCatchBlock) {
-				state.startNewStack();
+		private void finishCatchBlock() {
+			mState.finishStack();
+			if (!mReachedEndOfCatchBlock) {
 				// ignore repeated finally blocks
-				while (!item.hasHandlerLabel(state.getCurrentLabel()) && state.getCurrentLabel() != tryCatchBlockEnd){
-					if (state.moveNode() == null) break;
-					nodeMoved();
-				}
-				state.finishStack();
+				mState.startNewStack();
+				mPhase = Phase.REPEATED_CATCH_FINALLY;
+			} else {
+				mHandlerIndex++;
+				mPhase = Phase.CATCH_BLOCK_START;
 			}
 		}
 	}
 
-	private boolean hasReachedEndOfCatchBlock(Expression topExpression, int tryCatchBlockEnd) {
-		return topExpression instanceof JumpExpression && ((JumpExpression) topExpression).getJumpDestination() == tryCatchBlockEnd;
-	}
-
-	private boolean hasReachedAnotherHandler(MethodState state, TryCatchManager.Item item) {
-		return !item.getCatchLocations().contains(state.getCurrentLabel()) && state.getTryCatchManager().hasCatchBlockStart(state.getCurrentLabel());
+	private enum Phase {
+		NEXT_ITEM, TRY_BLOCK, REPEATED_FINALLY, CATCH_BLOCK_START, CATCH_BLOCK, CATCH_BLOCK_NODE_PROCESSED, REPEATED_CATCH_FINALLY
 	}
 }
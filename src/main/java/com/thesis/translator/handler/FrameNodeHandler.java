@@ -2,7 +2,6 @@ package com.thesis.translator.handler;
 
 import com.thesis.exception.IncorrectNodeException;
 import com.thesis.translator.MethodState;
-import org.apache.log4j.Logger;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.FrameNode;
 
@@ -11,7 +10,6 @@ import org.objectweb.asm.tree.FrameNode;
  */
 public class FrameNodeHandler extends AbstractHandler {
 
-	private static final Logger LOG = Logger.getLogger(FrameNodeHandler.class);
 
 	public FrameNodeHandler(MethodState state) {
 		super(state);
@@ -20,7 +18,6 @@ public class FrameNodeHandler extends AbstractHandler {
 	@Override
 	public void handle(AbstractInsnNode node) throws IncorrectNodeException {
 		super.handle(node);
-		LOG.debug(logNode(node));
 		checkType(node, FrameNode.class);
 
 		mState.setFrameLabel(mState.getCurrentLabel());
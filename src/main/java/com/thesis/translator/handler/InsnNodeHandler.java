@@ -6,7 +6,6 @@ import com.thesis.exception.IncorrectNodeException;
 import com.thesis.expression.*;
 import com.thesis.translator.ExpressionStack;
 import com.thesis.translator.MethodState;
-import org.apache.log4j.Logger;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.InsnNode;
@@ -33,7 +32,6 @@ import org.objectweb.asm.tree.InsnNode;
  */
 public class InsnNodeHandler extends AbstractHandler {
 
-	private static final Logger LOG = Logger.getLogger(InsnNodeHandler.class);
 
 	public InsnNodeHandler(MethodState state) {
 		super(state);
@@ -42,7 +40,6 @@ public class InsnNodeHandler extends AbstractHandler {
 	@Override
 	public void handle(AbstractInsnNode node) throws IncorrectNodeException {
 		super.handle(node);
-		LOG.debug(logNode(node));
 		checkType(node, InsnNode.class);
 
 		ExpressionStack stack = mState.getActiveStack();
@@ -55,10 +52,10 @@ public class InsnNodeHandler extends AbstractHandler {
 			Expression value = stack.pop();
 			Expression index = stack.pop();
 			Expression stackTop = stack.peek();
-			if (stackTop instanceof ArrayCreationExpression) {
-				ArrayCreationExpression arrayExpression = (ArrayCreationExpression) stackTop;
+			ArrayCreationExpression arrayExpression = ExpressionCasts.asArrayCreation(stackTop);
+			if (arrayExpression != null) {
 				arrayExpression.addMember(value);
-			} else if (stackTop instanceof PrimaryExpression) {
+			} else if (ExpressionCasts.asPrimary(stackTop) != null) {
 				stack.push(new ArrayAssignmentExpression(opCode, index, value));
 			}
 
@@ -4,9 +4,9 @@ import com.thesis.common.DataType;
 import com.thesis.common.Util;
 import com.thesis.exception.IncorrectNodeException;
 import com.thesis.expression.*;
+import com.thesis.translator.Continuation;
 import com.thesis.translator.ExpressionStack;
 import com.thesis.translator.MethodState;
-import org.apache.log4j.Logger;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.JumpInsnNode;
@@ -21,10 +21,9 @@ import org.objectweb.asm.tree.LabelNode;
  * GOTO, JSR (deprecated since Java 6).
  */
 public class JumpInsnNodeHandler extends AbstractHandler {
-	private static final Logger LOG = Logger.getLogger(JumpInsnNodeHandler.class);
 
-	public JumpInsnNodeHandler(MethodState state, OnNodeMovedListener onMovedListener) {
-		super(state, onMovedListener);
+	public JumpInsnNodeHandler(MethodState state) {
+		super(state);
 	}
 
 	/**
@@ -35,7 +34,6 @@ public class JumpInsnNodeHandler extends AbstractHandler {
 	@Override
 	public void handle(AbstractInsnNode node) throws IncorrectNodeException {
 		super.handle(node);
-		LOG.debug(logNode(node));
 		checkType(node, JumpInsnNode.class);
 
 		ExpressionStack stack = mState.getActiveStack();
@@ -59,56 +57,7 @@ public class JumpInsnNodeHandler extends AbstractHandler {
 			exp.setStartFrameLocation(mState.getFrameLabel());
 			mState.setFrameLabel(JumpExpression.NO_DESTINATION);
 		}
-		while (!mState.isLabelVisited(exp.getJumpDestination())) {
-			mState.moveNode();
-			if (isConditionalJump(mState.getCurrentNode())) {
-				if (checkLogicGateExpressionIsOnTop(exp)) {
-					exp = new LogicGateExpression(exp, (JumpExpression) exp.getThenBranch().pop());
-					mState.replaceActiveStack(exp.getThenBranch());
-				}
-			}
-			nodeMoved();
-
-			if (isEndOfThenBlock(mState.getCurrentNode()) ) {
-				int gotoJumpDestination = mState.getActiveStack().getLabelId(((JumpInsnNode) mState.getCurrentNode()).label.getLabel());
-				exp.setElseBranchEnd(gotoJumpDestination);
-				exp.updateThenBranchType();
-				if (exp.getJumpDestination() == gotoJumpDestination) {
-					break;
-					/*break is needed to correctly recognize all cases in switches with Strings because consists of
-					* non-standard switch where default case is called after each standard case*/
-				}
-			}
-			if (mState.getTryCatchManager().hasCatchBlockStart(mState.getCurrentLabel())) {
-				break;
-			}
-		}
-		mState.finishStack();
-
-		Expression catchBlockEnd = null;
-		if (exp.hasEmptyElseBranch() && !exp.isLoop()) {
-			exp.setElseBranch(mState.startNewStack());
-			while(!mState.isLabelVisited(exp.getElseBranchEnd())) { //mCurrentLabel != exp.getElseBranchEnd()
-				mState.moveNode();
-				nodeMoved();
-				if (mState.getTryCatchManager().hasCatchBlockStart(mState.getCurrentLabel())) {
-					catchBlockEnd = exp.getElseBranch().pop();
-					break;
-				}
-			}
-			exp.updateElseBranchType();
-			mState.finishStack();
-		}
-
-		if (exp.isTernaryExpression()) {
-			mState.getActiveStack().push(new TernaryExpression(exp));
-		} else {
-			mState.getActiveStack().push(exp);
-		}
-		mState.updateCurrentLabel(mState.getCurrentLabel());
-		if (catchBlockEnd != null) {
-			mState.getActiveStack().push(catchBlockEnd);
-		}
+		mState.schedule(new BranchesContinuation(exp));
 	}
 
 	private boolean isEndOfThenBlock(AbstractInsnNode movedNode) {
@@ -119,28 +68,11 @@ public class JumpInsnNodeHandler extends AbstractHandler {
 		return movedNode instanceof JumpInsnNode && movedNode.getOpcode() != Opcodes.GOTO;
 	}
 
-	private boolean checkLogicGateExpressionIsOnTop(JumpExpression exp) throws IncorrectNodeException {
-		ExpressionStack thenBranchBackup = exp.getThenBranch().duplicate();
-		JumpExpression innerExp = makeConditionalExpression((JumpInsnNode) mState.getCurrentNode(), exp.getThenBranch());
-		exp.getThenBranch().push(innerExp);
-		if (exp.containsLogicGateExpression()) {
-			mState.moveNode();
-			return true;
-		} else {
-			exp.setThenBranch(thenBranchBackup);
-			mState.replaceActiveStack(exp.getThenBranch());
-
-			handle(mState.getCurrentNode());
-			return exp.containsLogicGateExpression();
-		}
-	}
-
 	private JumpExpression makeConditionalExpression(JumpInsnNode node, ExpressionStack stack) {
 		JumpExpression exp = null;
 
 		int jumpDestination = stack.getLabelId(node.label.getLabel());
 		int opCode = node.getOpcode();
-		LOG.debug("jump destination L" + jumpDestination);
 
 		if (Util.isBetween(opCode, Opcodes.IF_ICMPEQ, Opcodes.IF_ACMPNE)) {
 			exp = new MultiConditional(opCode, jumpDestination, stack.pop(), stack.pop());
@@ -163,4 +95,130 @@ public class JumpInsnNodeHandler extends AbstractHandler {
 		}
 		return exp;
 	}
+
+	/**
+	 * Reads the nodes of the then and else branches of the jump expression and pushes the finished expression
+	 * onto the active stack
+	 * <p>
+	 * Conditional jump directly following another one is checked whether the two form a logic gate expression,
+	 * if they do not, the inner jump is handled on its own before reading the rest of the branch.
+	 */
+	private class BranchesContinuation implements Continuation {
+
+		private JumpExpression mExp;
+		private Expression mCatchBlockEnd;
+		private Phase mPhase = Phase.THEN_BRANCH;
+
+		BranchesContinuation(JumpExpression exp) {
+			mExp = exp;
+		}
+
+		@Override
+		public Step resume() {
+			while (true) {
+				switch (mPhase) {
+					case THEN_BRANCH:
+						if (mState.isLabelVisited(mExp.getJumpDestination())) {
+							finishThenBranch();
+							break;
+						}
+						mState.moveNode();
+						mPhase = Phase.THEN_BRANCH_NODE_PROCESSED;
+						if (isConditionalJump(mState.getCurrentNode())) {
+							ExpressionStack thenBranchBackup = mExp.getThenBranch().duplicate();
+							JumpExpression innerExp = makeConditionalExpression((JumpInsnNode) mState.getCurrentNode(), mExp.getThenBranch());
+							mExp.getThenBranch().push(innerExp);
+							if (mExp.containsLogicGateExpression()) {
+								mState.moveNode();
+								makeLogicGateExpression();
+							} else {
+								mExp.setThenBranch(thenBranchBackup);
+								mState.replaceActiveStack(mExp.getThenBranch());
+								// the inner jump is handled first, the node it stops at is processed afterwards
+								mPhase = Phase.INNER_JUMP_HANDLED;
+							}
+						}
+						return Step.PROCESS_NODE;
+					case INNER_JUMP_HANDLED:
+						if (mExp.containsLogicGateExpression()) {
+							makeLogicGateExpression();
+						}
+						mPhase = Phase.THEN_BRANCH_NODE_PROCESSED;
+						return Step.PROCESS_NODE;
+					case THEN_BRANCH_NODE_PROCESSED:
+						mPhase = Phase.THEN_BRANCH;
+						if (isEndOfThenBlock(mState.getCurrentNode()) ) {
+							int gotoJumpDestination = mState.getActiveStack().getLabelId(((JumpInsnNode) mState.getCurrentNode()).label.getLabel());
+							mExp.setElseBranchEnd(gotoJumpDestination);
+							mExp.updateThenBranchType();
+							if (mExp.getJumpDestination() == gotoJumpDestination) {
+								finishThenBranch();
+								break;
+								/*finishing here is needed to correctly recognize all cases in switches with Strings because consists of
+								* non-standard switch where default case is called after each standard case*/
+							}
+						}
+						if (mState.getTryCatchManager().hasCatchBlockStart(mState.getCurrentLabel())) {
+							finishThenBranch();
+						}
+						break;
+					case ELSE_BRANCH:
+						if (mState.isLabelVisited(mExp.getElseBranchEnd())) { //mCurrentLabel != exp.getElseBranchEnd()
+							finishElseBranch();
+							break;
+						}
+						mState.moveNode();
+						mPhase = Phase.ELSE_BRANCH_NODE_PROCESSED;
+						return Step.PROCESS_NODE;
+					case ELSE_BRANCH_NODE_PROCESSED:
+						mPhase = Phase.ELSE_BRANCH;
+						if (mState.getTryCatchManager().hasCatchBlockStart(mState.getCurrentLabel())) {
+							mCatchBlockEnd = mExp.getElseBranch().pop();
+							finishElseBranch();
+						}
+						break;
+					case PUSH:
+						if (mExp.isTernaryExpression()) {
+							mState.getActiveStack().push(new TernaryExpression(mExp));
+						} else {
+							mState.getActiveStack().push(mExp);
+						}
+						// try-catch blocks starting at the current label are read before the end of the catch block
+						mPhase = Phase.CATCH_BLOCK_END;
+						mState.updateCurrentLabel(mState.getCurrentLabel());
+						return Step.YIELD;
+					case CATCH_BLOCK_END:
+						if (mCatchBlockEnd != null) {
+							mState.getActiveStack().push(mCatchBlockEnd);
+						}
+						return Step.DONE;
+				}
+			}
+		}
+
+		private void makeLogicGateExpression() {
+			mExp = new LogicGateExpression(mExp, (JumpExpression) mExp.getThenBranch().pop());
+			mState.replaceActiveStack(mExp.getThenBranch());
+		}
+
+		private void finishThenBranch() {
+			mState.finishStack();
+			if (mExp.hasEmptyElseBranch() && !mExp.isLoop()) {
+				mExp.setElseBranch(mState.startNewStack());
+				mPhase = Phase.ELSE_BRANCH;
+			} else {
+				mPhase = Phase.PUSH;
+			}
+		}
+
+		private void finishElseBranch() {
+			mExp.updateElseBranchType();
+			mState.finishStack();
+			mPhase = Phase.PUSH;
+		}
+	}
+
+	private enum Phase {
+		THEN_BRANCH, INNER_JUMP_HANDLED, THEN_BRANCH_NODE_PROCESSED, ELSE_BRANCH, ELSE_BRANCH_NODE_PROCESSED, PUSH, CATCH_BLOCK_END
+	}
 }
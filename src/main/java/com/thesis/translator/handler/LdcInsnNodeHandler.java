@@ -5,7 +5,6 @@ import com.thesis.exception.IncorrectNodeException;
 import com.thesis.expression.PrimaryExpression;
 import com.thesis.translator.ExpressionStack;
 import com.thesis.translator.MethodState;
-import org.apache.log4j.Logger;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.LdcInsnNode;
@@ -17,7 +16,6 @@ import org.objectweb.asm.tree.LdcInsnNode;
  * LDC
  */
 public class LdcInsnNodeHandler extends AbstractHandler {
-	private static final Logger LOG = Logger.getLogger(LdcInsnNodeHandler.class);
 
 	public LdcInsnNodeHandler(MethodState state) {
 		super(state);
@@ -26,7 +24,6 @@ public class LdcInsnNodeHandler extends AbstractHandler {
 	@Override
 	public void handle(AbstractInsnNode node) throws IncorrectNodeException {
 		super.handle(node);
-		LOG.debug(logNode(node));
 		checkType(node, LdcInsnNode.class);
 		ExpressionStack stack = mState.getActiveStack();
 		DataType type;
@@ -7,7 +7,6 @@ import com.thesis.expression.ConstructorInvocationExpression;
 import com.thesis.expression.MethodInvocationExpression;
 import com.thesis.translator.ExpressionStack;
 import com.thesis.translator.MethodState;
-import org.apache.log4j.Logger;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.MethodInsnNode;
@@ -19,13 +18,20 @@ import org.objectweb.asm.tree.MethodInsnNode;
  * INVOKEVIRTUAL, INVOKESPECIAL, INVOKESTATIC, INVOKEINTERFACE
  */
 public class MethodInsnNodeHandler extends AbstractHandler {
-	private static final Logger LOG = Logger.getLogger(MethodInsnNodeHandler.class);
 
 	private String mCallerMethodName;
 	private DataType mEnclosingClassType;
 
-	public MethodInsnNodeHandler(MethodState state, String callerMethodName, DataType enclosingClassType) {
+	public MethodInsnNodeHandler(MethodState state) {
 		super(state);
+	}
+
+	/**
+	 * Sets the method that is being decompiled, should be called before the handler is used for a method
+	 * @param callerMethodName name of the decompiled method
+	 * @param enclosingClassType type of the class of the decompiled method
+	 */
+	public void setCaller(String callerMethodName, DataType enclosingClassType) {
 		mCallerMethodName = callerMethodName;
 		mEnclosingClassType = enclosingClassType;
 	}
@@ -33,7 +39,6 @@ public class MethodInsnNodeHandler extends AbstractHandler {
 	@Override
 	public void handle(AbstractInsnNode node) throws IncorrectNodeException {
 		super.handle(node);
-		LOG.debug(logNode(node));
 		checkType(node, MethodInsnNode.class);
 
 		ExpressionStack stack = mState.getActiveStack();
@@ -7,6 +7,9 @@ import org.objectweb.asm.tree.AbstractInsnNode;
  * Node handler used by the {@link com.thesis.translator.InstructionTranslator}
  * <p>
  * A general interface that can process any {@link  AbstractInsnNode}
+ * <p>
+ * Handlers of nodes that enclose other nodes (jumps, switches, try-catch blocks) do not process them directly,
+ * they schedule a {@link com.thesis.translator.Continuation} in the {@link com.thesis.translator.MethodState}
  */
 public interface NodeHandler {
 
@@ -15,11 +18,4 @@ public interface NodeHandler {
 	 * @throws IncorrectNodeException in case this handler cannot process this node
 	 */
 	void handle(AbstractInsnNode node) throws IncorrectNodeException;
-
-	/**
-	 * Listener that is can be used to notify that the currently processed node has moved to the next one
-	 */
-	interface OnNodeMovedListener {
-		void onNodeMoved();
-	}
 }
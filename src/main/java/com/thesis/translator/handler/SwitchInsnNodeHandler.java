@@ -1,21 +1,20 @@
 package com.thesis.translator.handler;
 
+import com.thesis.common.collection.IntObjectMap;
 import com.thesis.exception.IncorrectNodeException;
 import com.thesis.expression.BreakExpression;
+import com.thesis.expression.ExpressionCasts;
 import com.thesis.expression.JumpExpression;
 import com.thesis.expression.SwitchExpression;
 import com.thesis.expression.UnconditionalJump;
+import com.thesis.translator.Continuation;
 import com.thesis.translator.ExpressionStack;
 import com.thesis.translator.MethodState;
-import org.apache.log4j.Logger;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.LookupSwitchInsnNode;
 import org.objectweb.asm.tree.TableSwitchInsnNode;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Handles the {@link LookupSwitchInsnNode} and {@link TableSwitchInsnNode}
  * <p>
@@ -23,22 +22,23 @@ import java.util.Map;
  * TABLESWITCH, LOOKUPSWITCH
  */
 public class SwitchInsnNodeHandler extends AbstractHandler {
-	private static final Logger LOG = Logger.getLogger(SwitchInsnNodeHandler.class);
 
-	public SwitchInsnNodeHandler(MethodState state, OnNodeMovedListener onMovedListener) {
-		super(state, onMovedListener);
+	public SwitchInsnNodeHandler(MethodState state) {
+		super(state);
 	}
 
 	@Override
 	public void handle(AbstractInsnNode node) throws IncorrectNodeException {
 		super.handle(node);
-		LOG.debug(logNode(node));
-		if (node instanceof TableSwitchInsnNode) {
-			visitTableSwitchInsnNode((TableSwitchInsnNode) node);
-		} else if (node instanceof LookupSwitchInsnNode) {
-			visitLookupSwitchInsnNode((LookupSwitchInsnNode) node);
-		} else {
-			throw new IncorrectNodeException("Incorrect node type, expected switch but was " + node.getClass().getSimpleName());
+		switch (node.getType()) {
+			case AbstractInsnNode.TABLESWITCH_INSN:
+				visitTableSwitchInsnNode((TableSwitchInsnNode) node);
+				break;
+			case AbstractInsnNode.LOOKUPSWITCH_INSN:
+				visitLookupSwitchInsnNode((LookupSwitchInsnNode) node);
+				break;
+			default:
+				throw new IncorrectNodeException("Incorrect node type, expected switch but was " + node.getClass().getSimpleName());
 		}
 	}
 
@@ -46,7 +46,7 @@ public class SwitchInsnNodeHandler extends AbstractHandler {
 		ExpressionStack stack = mState.getActiveStack();
 		int defaultLabel = stack.getLabelId(node.dflt.getLabel());
 
-		Map<Integer, String> labelCaseMap = new HashMap<>();
+		IntObjectMap<String> labelCaseMap = new IntObjectMap<>();
 
 		for (int i = 0; i <= node.max - node.min; i++) {
 			int labelId = stack.getLabelId(((LabelNode) node.labels.get(i)).getLabel());
@@ -57,14 +57,13 @@ public class SwitchInsnNodeHandler extends AbstractHandler {
 
 		SwitchExpression switchExp = new SwitchExpression(node.getOpcode());
 		mState.moveNode();
-		updateSwitchWithCases(switchExp, defaultLabel, labelCaseMap);
-		stack.push(switchExp);
+		mState.schedule(new CasesContinuation(stack, switchExp, defaultLabel, labelCaseMap));
 	}
 
 	private void visitLookupSwitchInsnNode(LookupSwitchInsnNode node) {
 		ExpressionStack stack = mState.getActiveStack();
 		int defaultLabel = stack.getLabelId(node.dflt.getLabel());
-		Map<Integer, String> labelCaseMap = new HashMap<>();
+		IntObjectMap<String> labelCaseMap = new IntObjectMap<>();
 		for (int i = 0; i < node.labels.size(); i++) {
 			int labelId = stack.getLabelId(((LabelNode) node.labels.get(i)).getLabel());
 			String caseKey = String.valueOf(node.keys.get(i));
@@ -74,39 +73,69 @@ public class SwitchInsnNodeHandler extends AbstractHandler {
 
 		SwitchExpression switchExp = new SwitchExpression(node.getOpcode());
 		mState.moveNode();
-		updateSwitchWithCases(switchExp, defaultLabel, labelCaseMap);
-		stack.push(switchExp);
+		mState.schedule(new CasesContinuation(stack, switchExp, defaultLabel, labelCaseMap));
 	}
 
-	private void updateSwitchWithCases(SwitchExpression switchExp, int defaultLabel, Map<Integer, String> labelCaseMap) {
-		int switchEndLabel = JumpExpression.NO_DESTINATION;
-		ExpressionStack caseStack = null;
-		SwitchExpression.CaseExpression caseExpression = null;
+	/**
+	 * Reads the nodes of the switch cases, fills the switch expression with them and pushes it onto the stack
+	 * that was active when the switch instruction was handled
+	 */
+	private class CasesContinuation implements Continuation {
+
+		private final ExpressionStack mStack;
+		private final SwitchExpression mSwitchExp;
+		private final int mDefaultLabel;
+		private final IntObjectMap<String> mLabelCaseMap;
+
+		private int mSwitchEndLabel = JumpExpression.NO_DESTINATION;
+		private ExpressionStack mCaseStack;
+		private SwitchExpression.CaseExpression mCaseExpression;
+		private boolean mNodeProcessed;
+
+		CasesContinuation(ExpressionStack stack, SwitchExpression switchExp, int defaultLabel, IntObjectMap<String> labelCaseMap) {
+			mStack = stack;
+			mSwitchExp = switchExp;
+			mDefaultLabel = defaultLabel;
+			mLabelCaseMap = labelCaseMap;
+		}
 
-		while (!mState.isLabelVisited(switchEndLabel) && mState.getCurrentNode() != null) {
-			if (caseStack == null) {
-				caseStack = mState.startNewStack();
+		@Override
+		public Step resume() {
+			if (mNodeProcessed) {
+				mNodeProcessed = false;
+				mState.moveNode();
+				updateCase();
 			}
+			if (mState.isLabelVisited(mSwitchEndLabel) || mState.getCurrentNode() == null) {
+				mStack.push(mSwitchExp);
+				return Step.DONE;
+			}
+			if (mCaseStack == null) {
+				mCaseStack = mState.startNewStack();
+			}
+			mNodeProcessed = true;
+			return Step.PROCESS_NODE;
+		}
 
-			nodeMoved();
-			mState.moveNode();
-
-			if (labelCaseMap.containsKey(mState.getCurrentLabel()) && caseExpression == null) {
-				caseExpression = new SwitchExpression.CaseExpression(labelCaseMap.get(mState.getCurrentLabel()), mState.getCurrentLabel(), defaultLabel, caseStack);
-				switchExp.addCase(caseExpression);
+		private void updateCase() {
+			int currentLabel = mState.getCurrentLabel();
+			if (mLabelCaseMap.containsKey(currentLabel) && mCaseExpression == null) {
+				mCaseExpression = new SwitchExpression.CaseExpression(mLabelCaseMap.get(currentLabel), currentLabel, mDefaultLabel, mCaseStack);
+				mSwitchExp.addCase(mCaseExpression);
 			}
 
-			if (caseExpression != null && caseExpression.getLabel() != mState.getCurrentLabel() && (labelCaseMap.containsKey(mState.getCurrentLabel()) || mState.isLabelVisited(switchEndLabel))) {
-				if (caseStack.peek() instanceof UnconditionalJump) {
-					UnconditionalJump jump = (UnconditionalJump) caseStack.pop();
-					if (switchEndLabel == JumpExpression.NO_DESTINATION) {
-						switchEndLabel = jump.getJumpDestination();
+			if (mCaseExpression != null && mCaseExpression.getLabel() != currentLabel && (mLabelCaseMap.containsKey(currentLabel) || mState.isLabelVisited(mSwitchEndLabel))) {
+				UnconditionalJump jump = ExpressionCasts.asUnconditionalJump(mCaseStack.peek());
+				if (jump != null) {
+					mCaseStack.pop();
+					if (mSwitchEndLabel == JumpExpression.NO_DESTINATION) {
+						mSwitchEndLabel = jump.getJumpDestination();
 					}
-					caseStack.push(new BreakExpression(jump));
+					mCaseStack.push(new BreakExpression(jump));
 				}
 				mState.finishStack();
-				caseStack = null;
-				caseExpression = null;
+				mCaseStack = null;
+				mCaseExpression = null;
 			}
 		}
 	}
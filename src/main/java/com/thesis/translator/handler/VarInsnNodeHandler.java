@@ -11,7 +11,6 @@ import com.thesis.expression.VariablePrimaryExpression;
 import com.thesis.translator.ExpressionStack;
 import com.thesis.expression.variable.LocalVariable;
 import com.thesis.translator.MethodState;
-import org.apache.log4j.Logger;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.VarInsnNode;
@@ -25,7 +24,6 @@ import org.objectweb.asm.tree.VarInsnNode;
  * RET is deprecated since Java 6.
  */
 public class VarInsnNodeHandler extends AbstractHandler {
-	private static final Logger LOG = Logger.getLogger(VarInsnNodeHandler.class);
 
 	public VarInsnNodeHandler(MethodState state) {
 		super(state);
@@ -34,7 +32,6 @@ public class VarInsnNodeHandler extends AbstractHandler {
 	@Override
 	public void handle(AbstractInsnNode node) throws IncorrectNodeException {
 		super.handle(node);
-		LOG.debug(logNode(node));
 		checkType(node, VarInsnNode.class);
 
 		ExpressionStack stack = mState.getActiveStack();
@@ -0,0 +1,40 @@
+package com.thesis.translator.peephole;
+
+import com.thesis.expression.ConstructorInvocationExpression;
+import com.thesis.expression.Expression;
+import com.thesis.expression.NewExpression;
+import com.thesis.translator.ExpressionStack;
+
+import java.util.Stack;
+
+/**
+ * Wraps the constructor invocation into the {@link NewExpression} it was called on ({@code NEW; ...; INVOKESPECIAL})
+ */
+public class NewInstanceRule implements PeepholeRule {
+
+	@Override
+	public String getName() {
+		return "new-instance";
+	}
+
+	@Override
+	public Slot getTriggerSlot() {
+		return Slot.TOP;
+	}
+
+	@Override
+	public Class<? extends Expression> getTriggerType() {
+		return ConstructorInvocationExpression.class;
+	}
+
+	@Override
+	public boolean apply(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+		ExpressionStack.Item top = stack.peek();
+		NewExpression newExpression = ((ConstructorInvocationExpression) top.getExpression()).getNewExpression();
+		if (newExpression == null) return false;
+		newExpression.setExpression(top.getExpression());
+		newExpression.setLine(top.getExpression().getLine());
+		top.setExpression(newExpression);
+		return true;
+	}
+}
@@ -0,0 +1,126 @@
+package com.thesis.translator.peephole;
+
+import com.thesis.expression.Expression;
+import com.thesis.translator.ExpressionStack;
+
+import java.util.*;
+
+/**
+ * Applies the registered {@link PeepholeRule}s to the top of the {@link ExpressionStack}
+ * <p>
+ * Rules are indexed by the type of expression in their trigger slot, so each push only looks at the rules that
+ * can match the top two expressions. The first rule that changes the stack wins. The engine counts the hits of
+ * each rule.
+ */
+public class PeepholeEngine {
+
+	private final List<PeepholeRule> mRules;
+	private final Map<PeepholeRule, Integer> mRulePositions;
+	private final Map<Class<?>, List<PeepholeRule>> mTopRules;
+	private final Map<Class<?>, List<PeepholeRule>> mBelowTopRules;
+
+	/**
+	 * Rules resolved for the concrete expression classes, including the rules registered for their superclasses
+	 */
+	private final Map<Class<?>, List<PeepholeRule>> mResolvedTopRules;
+	private final Map<Class<?>, List<PeepholeRule>> mResolvedBelowTopRules;
+
+	private int[] mHits;
+
+	/**
+	 * Creates an engine without any rules
+	 */
+	public PeepholeEngine() {
+		mRules = new ArrayList<>();
+		mRulePositions = new HashMap<>();
+		mTopRules = new HashMap<>();
+		mBelowTopRules = new HashMap<>();
+		mResolvedTopRules = new HashMap<>();
+		mResolvedBelowTopRules = new HashMap<>();
+		mHits = new int[0];
+	}
+
+	/**
+	 * @return engine with all the default rules registered
+	 */
+	public static PeepholeEngine createDefault() {
+		PeepholeEngine engine = new PeepholeEngine();
+		engine.register(new PostfixIncrementRule());
+		engine.register(new PrefixIncrementRule());
+		engine.register(new SynchronizedBlockRule());
+		engine.register(new NewInstanceRule());
+		return engine;
+	}
+
+	/**
+	 * Adds the rule to the registry, rules are tried in the order of registration
+	 * @param rule peephole rule
+	 */
+	public void register(PeepholeRule rule) {
+		mRulePositions.put(rule, mRules.size());
+		mRules.add(rule);
+		mHits = Arrays.copyOf(mHits, mRules.size());
+
+		Map<Class<?>, List<PeepholeRule>> rules = rule.getTriggerSlot() == PeepholeRule.Slot.TOP ? mTopRules : mBelowTopRules;
+		rules.computeIfAbsent(rule.getTriggerType(), key -> new ArrayList<>()).add(rule);
+		mResolvedTopRules.clear();
+		mResolvedBelowTopRules.clear();
+	}
+
+	/**
+	 * Improves the top of the stack, should be called after each push
+	 * @param expressionStack the expression stack that is being improved
+	 * @param stack the inner stack in the ExpressionStack
+	 */
+	public void improve(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+		int size = stack.size();
+		if (size == 0) return;
+
+		Expression top = stack.get(size - 1).getExpression();
+		if (applyFirst(resolve(mTopRules, mResolvedTopRules, top), expressionStack, stack)) return;
+
+		if (size > 1) {
+			Expression belowTop = stack.get(size - 2).getExpression();
+			applyFirst(resolve(mBelowTopRules, mResolvedBelowTopRules, belowTop), expressionStack, stack);
+		}
+	}
+
+	/**
+	 * @return number of successful applications of each rule, mapped by the rule name
+	 */
+	public Map<String, Integer> getHitCounts() {
+		Map<String, Integer> hits = new LinkedHashMap<>();
+		for (int i = 0; i < mRules.size(); i++) {
+			hits.put(mRules.get(i).getName(), mHits[i]);
+		}
+		return hits;
+	}
+
+	private boolean applyFirst(List<PeepholeRule> rules, ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+		for (PeepholeRule rule : rules) {
+			if (rule.apply(expressionStack, stack)) {
+				mHits[mRulePositions.get(rule)]++;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private List<PeepholeRule> resolve(Map<Class<?>, List<PeepholeRule>> registered, Map<Class<?>, List<PeepholeRule>> resolved,
+									   Expression expression) {
+		if (expression == null) return Collections.emptyList();
+		List<PeepholeRule> rules = resolved.get(expression.getClass());
+		if (rules == null) {
+			rules = new ArrayList<>();
+			for (Class<?> clazz = expression.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+				List<PeepholeRule> classRules = registered.get(clazz);
+				if (classRules != null) {
+					rules.addAll(classRules);
+				}
+			}
+			rules.sort(Comparator.comparingInt(mRulePositions::get));
+			resolved.put(expression.getClass(), rules);
+		}
+		return rules;
+	}
+}
@@ -0,0 +1,52 @@
+package com.thesis.translator.peephole;
+
+import com.thesis.expression.Expression;
+import com.thesis.translator.ExpressionStack;
+
+import java.util.Stack;
+
+/**
+ * A rewrite rule that is matched against the top of the {@link ExpressionStack} after an expression was pushed
+ * <p>
+ * The rule is registered in the {@link PeepholeEngine} under the type of the expression in its trigger slot,
+ * it is only asked to apply itself when the expression in that slot is of the trigger type (or its subtype).
+ */
+public interface PeepholeRule {
+
+	/**
+	 * Stack slot that is used to select the rule
+	 */
+	enum Slot {
+		/**
+		 * The expression that was just pushed
+		 */
+		TOP,
+		/**
+		 * The expression right below the one that was just pushed
+		 */
+		BELOW_TOP
+	}
+
+	/**
+	 * @return name of the rule used in the hit statistics
+	 */
+	String getName();
+
+	/**
+	 * @return slot where the trigger type is expected
+	 */
+	Slot getTriggerSlot();
+
+	/**
+	 * @return type of the expression in the trigger slot
+	 */
+	Class<? extends Expression> getTriggerType();
+
+	/**
+	 * Rewrites the top of the stack, only the few top items should be accessed
+	 * @param expressionStack the expression stack that is being improved
+	 * @param stack the inner stack in the ExpressionStack
+	 * @return true if the rule changed the stack
+	 */
+	boolean apply(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack);
+}
@@ -0,0 +1,48 @@
+package com.thesis.translator.peephole;
+
+import com.thesis.expression.Expression;
+import com.thesis.expression.UnaryExpression;
+import com.thesis.expression.VariablePrimaryExpression;
+import com.thesis.translator.ExpressionStack;
+
+import java.util.Objects;
+import java.util.Stack;
+
+/**
+ * Removes the load of the incremented variable that precedes the postfix increment ({@code ILOAD; IINC})
+ */
+public class PostfixIncrementRule implements PeepholeRule {
+
+	@Override
+	public String getName() {
+		return "postfix-increment";
+	}
+
+	@Override
+	public Slot getTriggerSlot() {
+		return Slot.TOP;
+	}
+
+	@Override
+	public Class<? extends Expression> getTriggerType() {
+		return UnaryExpression.class;
+	}
+
+	@Override
+	public boolean apply(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+		UnaryExpression unary = (UnaryExpression) stack.peek().getExpression();
+		if (!unary.isPostfix() || stack.size() < 2 || !isLoadOf(stack.get(stack.size() - 2).getExpression(), unary)) return false;
+		stack.remove(stack.size() - 2);
+		return true;
+	}
+
+	/**
+	 * @param expression tested expression
+	 * @param unary increment expression
+	 * @return true if the expression loads the variable incremented by the unary expression
+	 */
+	static boolean isLoadOf(Expression expression, UnaryExpression unary) {
+		return expression instanceof VariablePrimaryExpression
+				&& Objects.equals(((VariablePrimaryExpression) expression).getValue(), unary.getVariable());
+	}
+}
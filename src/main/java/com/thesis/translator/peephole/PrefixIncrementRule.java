@@ -0,0 +1,37 @@
+package com.thesis.translator.peephole;
+
+import com.thesis.expression.Expression;
+import com.thesis.expression.UnaryExpression;
+import com.thesis.translator.ExpressionStack;
+
+import java.util.Stack;
+
+/**
+ * Removes the load of the incremented variable that follows the prefix increment ({@code IINC; ILOAD})
+ */
+public class PrefixIncrementRule implements PeepholeRule {
+
+	@Override
+	public String getName() {
+		return "prefix-increment";
+	}
+
+	@Override
+	public Slot getTriggerSlot() {
+		return Slot.BELOW_TOP;
+	}
+
+	@Override
+	public Class<? extends Expression> getTriggerType() {
+		return UnaryExpression.class;
+	}
+
+	@Override
+	public boolean apply(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+		UnaryExpression unary = (UnaryExpression) stack.get(stack.size() - 2).getExpression();
+		Expression top = stack.peek().getExpression();
+		if (!unary.isPrefix() || !PostfixIncrementRule.isLoadOf(top, unary)) return false;
+		stack.pop();
+		return true;
+	}
+}
@@ -0,0 +1,38 @@
+package com.thesis.translator.peephole;
+
+import com.thesis.expression.Expression;
+import com.thesis.expression.MonitorExpression;
+import com.thesis.expression.TryCatchExpression;
+import com.thesis.translator.ExpressionStack;
+
+import java.util.Stack;
+
+/**
+ * Folds the try-catch block that follows the monitor enter into the synchronized block
+ */
+public class SynchronizedBlockRule implements PeepholeRule {
+
+	@Override
+	public String getName() {
+		return "synchronized-block";
+	}
+
+	@Override
+	public Slot getTriggerSlot() {
+		return Slot.TOP;
+	}
+
+	@Override
+	public Class<? extends Expression> getTriggerType() {
+		return TryCatchExpression.class;
+	}
+
+	@Override
+	public boolean apply(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+		if (stack.size() < 2) return false;
+		Expression belowTop = stack.get(stack.size() - 2).getExpression();
+		if (!(belowTop instanceof MonitorExpression)) return false;
+		((MonitorExpression) belowTop).setSynchronizedBlock((TryCatchExpression) stack.pop().getExpression());
+		return true;
+	}
+}
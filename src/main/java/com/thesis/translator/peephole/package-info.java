@@ -0,0 +1,4 @@
+/**
+ * Peephole rules that improve the top of the {@link com.thesis.translator.ExpressionStack} after each push
+ */
+package com.thesis.translator.peephole;
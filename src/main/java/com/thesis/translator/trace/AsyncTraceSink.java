@@ -0,0 +1,64 @@
+package com.thesis.translator.trace;
+
+import org.apache.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sink that writes the events to the log from a background thread
+ * <p>
+ * The events wait in a bounded queue. When the queue is full the new events are dropped instead of blocking
+ * the translation, the number of dropped events is available from {@link #getDroppedCount()}.
+ */
+public class AsyncTraceSink implements TraceSink {
+
+	private static final Logger LOG = Logger.getLogger(AsyncTraceSink.class);
+
+	private final BlockingQueue<TraceEvent> mQueue;
+	private final AtomicLong mDroppedCount = new AtomicLong();
+	private volatile Thread mWriter;
+
+	/**
+	 * @param capacity maximal number of events waiting to be written
+	 */
+	public AsyncTraceSink(int capacity) {
+		mQueue = new ArrayBlockingQueue<>(capacity);
+	}
+
+	@Override
+	public void accept(TraceEvent event) {
+		if (mWriter == null) {
+			startWriter();
+		}
+		if (!mQueue.offer(event)) {
+			mDroppedCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * @return number of events that were dropped because the queue was full
+	 */
+	public long getDroppedCount() {
+		return mDroppedCount.get();
+	}
+
+	private synchronized void startWriter() {
+		if (mWriter != null) return;
+		Thread writer = new Thread(this::writeEvents, "decompilation-trace");
+		writer.setDaemon(true);
+		writer.start();
+		mWriter = writer;
+	}
+
+	private void writeEvents() {
+		try {
+			while (true) {
+				LOG.info(mQueue.take());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
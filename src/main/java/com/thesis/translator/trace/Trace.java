@@ -0,0 +1,65 @@
+package com.thesis.translator.trace;
+
+import org.objectweb.asm.tree.AbstractInsnNode;
+
+/**
+ * Entry point of the translation tracing
+ * <p>
+ * Callers check {@link #ENABLED} before creating an event, so when the tracing is off the checks are constant
+ * and the tracing code is removed by the JIT compiler. The tracing is switched on by the {@code thesis.trace}
+ * system property, the capacity of the default {@link AsyncTraceSink} is set by {@code thesis.trace.capacity}.
+ */
+public final class Trace {
+
+	/**
+	 * True if the tracing was switched on when the class was loaded
+	 */
+	public static final boolean ENABLED = Boolean.getBoolean("thesis.trace");
+
+	private static final int DEFAULT_CAPACITY = 8192;
+
+	private static volatile TraceSink mSink;
+
+	private Trace() {
+	}
+
+	/**
+	 * Replaces the sink that receives the events
+	 * @param sink new sink
+	 */
+	public static void setSink(TraceSink sink) {
+		mSink = sink;
+	}
+
+	/**
+	 * Traces the start of the translation of a method, should be called only if {@link #ENABLED}
+	 * @param methodName name of the method
+	 */
+	public static void method(String methodName) {
+		getSink().accept(new TraceEvent(TraceEvent.Kind.METHOD, methodName, -1, -1, -1, 0));
+	}
+
+	/**
+	 * Traces the node that is going to be handled, should be called only if {@link #ENABLED}
+	 * @param methodName name of the translated method
+	 * @param node handled node
+	 * @param label current label id
+	 * @param stackDepth number of expressions on the active stack
+	 */
+	public static void node(String methodName, AbstractInsnNode node, int label, int stackDepth) {
+		getSink().accept(new TraceEvent(TraceEvent.Kind.NODE, methodName, node.getType(), node.getOpcode(), label, stackDepth));
+	}
+
+	private static TraceSink getSink() {
+		TraceSink sink = mSink;
+		if (sink == null) {
+			synchronized (Trace.class) {
+				if (mSink == null) {
+					mSink = new AsyncTraceSink(Integer.getInteger("thesis.trace.capacity", DEFAULT_CAPACITY));
+				}
+				sink = mSink;
+			}
+		}
+		return sink;
+	}
+}
@@ -0,0 +1,87 @@
+package com.thesis.translator.trace;
+
+import com.thesis.common.Util;
+
+/**
+ * Single event of the translation trace
+ * <p>
+ * Events are immutable, they are created in the translating thread and written by the sink later,
+ * so they hold only values and no references to the translated nodes.
+ */
+public class TraceEvent {
+
+	/**
+	 * Kind of the traced event
+	 */
+	public enum Kind {
+		/**
+		 * Translation of a method started
+		 */
+		METHOD,
+		/**
+		 * Node is going to be handled
+		 */
+		NODE
+	}
+
+	private final Kind mKind;
+	private final String mMethodName;
+	private final int mNodeType;
+	private final int mOpCode;
+	private final int mLabel;
+	private final int mStackDepth;
+
+	/**
+	 * @param kind kind of the event
+	 * @param methodName name of the translated method
+	 * @param nodeType type of the node, see {@link org.objectweb.asm.tree.AbstractInsnNode#getType()}, -1 if the event is not related to a node
+	 * @param opCode opcode of the node, -1 if the node has no opcode
+	 * @param label current label id
+	 * @param stackDepth number of expressions on the active stack
+	 */
+	public TraceEvent(Kind kind, String methodName, int nodeType, int opCode, int label, int stackDepth) {
+		mKind = kind;
+		mMethodName = methodName;
+		mNodeType = nodeType;
+		mOpCode = opCode;
+		mLabel = label;
+		mStackDepth = stackDepth;
+	}
+
+	public Kind getKind() {
+		return mKind;
+	}
+
+	public String getMethodName() {
+		return mMethodName;
+	}
+
+	public int getNodeType() {
+		return mNodeType;
+	}
+
+	public int getOpCode() {
+		return mOpCode;
+	}
+
+	public int getLabel() {
+		return mLabel;
+	}
+
+	public int getStackDepth() {
+		return mStackDepth;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(mKind).append(" method=").append(mMethodName);
+		if (mKind == Kind.NODE) {
+			builder.append(" type=").append(mNodeType)
+					.append(" opcode=").append(mOpCode == -1 ? "-" : Util.getOpcodeString(mOpCode))
+					.append(" label=L").append(mLabel)
+					.append(" stack=").append(mStackDepth);
+		}
+		return builder.toString();
+	}
+}
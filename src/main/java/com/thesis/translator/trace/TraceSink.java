@@ -0,0 +1,13 @@
+package com.thesis.translator.trace;
+
+/**
+ * Receiver of the trace events
+ */
+public interface TraceSink {
+
+	/**
+	 * Called from the translating threads, should not block
+	 * @param event traced event
+	 */
+	void accept(TraceEvent event);
+}
@@ -0,0 +1,4 @@
+/**
+ * Structured tracing of the translation, disabled unless the {@code thesis.trace} system property is set
+ */
+package com.thesis.translator.trace;
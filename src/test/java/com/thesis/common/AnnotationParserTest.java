@@ -0,0 +1,137 @@
+package com.thesis.common;
+
+import org.junit.Test;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AnnotationNode;
+
+import static org.junit.Assert.*;
+
+public class AnnotationParserTest {
+
+	private static final String ANNOTATION_DESC = "Lcom/example/Marker;";
+	private static final String NESTED_DESC = "Lcom/example/Nested;";
+	private static final String ENUM_DESC = "Ljava/lang/annotation/RetentionPolicy;";
+
+	@Test
+	public void testEqualAnnotationsShareEntry() {
+		AnnotationNode annotation = createAnnotation();
+		AnnotationNode equalAnnotation = createAnnotation();
+		assertNotSame(annotation, equalAnnotation);
+		assertKeysEqual(annotation, equalAnnotation);
+
+		assertKeysEqual(new AnnotationNode(ANNOTATION_DESC), new AnnotationNode(ANNOTATION_DESC));
+
+		String rendered = new AnnotationParser().getAnnotation(annotation);
+		assertSame(rendered, new AnnotationParser().getAnnotation(equalAnnotation));
+		assertEquals("@com.example.Marker(policy=java.lang.annotation.RetentionPolicy.RUNTIME, "
+				+ "nested=@com.example.Nested(value=1), values={\"a\", \"b\"}, type=java.lang.String.class)", rendered);
+	}
+
+	@Test
+	public void testDifferentEnumConstants() {
+		assertKeysDiffer(withEnum("RUNTIME"), withEnum("CLASS"));
+		assertKeysDiffer(withEnum("RUNTIME"), withValue("policy", "RUNTIME"));
+
+		AnnotationNode otherEnum = new AnnotationNode(ANNOTATION_DESC);
+		otherEnum.visitEnum("policy", "Ljava/lang/annotation/ElementType;", "RUNTIME");
+		assertKeysDiffer(withEnum("RUNTIME"), otherEnum);
+	}
+
+	@Test
+	public void testNestedAnnotationsWithDifferentValues() {
+		assertKeysDiffer(withNested(1), withNested(2));
+
+		AnnotationNode otherType = new AnnotationNode(ANNOTATION_DESC);
+		otherType.visitAnnotation("nested", "Lcom/example/Other;").visit("value", 1);
+		assertKeysDiffer(withNested(1), otherType);
+
+		AnnotationParser parser = new AnnotationParser();
+		assertEquals("@com.example.Marker(nested=@com.example.Nested(value=1))", parser.getAnnotation(withNested(1)));
+		assertEquals("@com.example.Marker(nested=@com.example.Nested(value=2))", parser.getAnnotation(withNested(2)));
+	}
+
+	@Test
+	public void testBoxedTypesOfEqualValue() {
+		assertKeysDiffer(withValue("value", 1), withValue("value", 1L));
+		assertKeysDiffer(withValue("value", 1), withValue("value", (short) 1));
+		assertKeysDiffer(withValue("value", 1), withValue("value", (byte) 1));
+		assertKeysDiffer(withValue("value", 1.0f), withValue("value", 1.0));
+		assertKeysDiffer(withValue("value", 97), withValue("value", 'a'));
+		assertKeysDiffer(withValue("value", "1"), withValue("value", 1));
+		assertKeysDiffer(withValue("value", "java.lang.String"), withValue("value", Type.getType(String.class)));
+	}
+
+	@Test
+	public void testListAndSingleValue() {
+		AnnotationNode list = new AnnotationNode(ANNOTATION_DESC);
+		list.visitArray("value").visit(null, "a");
+		assertKeysDiffer(list, withValue("value", "a"));
+
+		AnnotationNode longerList = new AnnotationNode(ANNOTATION_DESC);
+		AnnotationNode values = (AnnotationNode) longerList.visitArray("value");
+		values.visit(null, "a");
+		values.visit(null, "a");
+		assertKeysDiffer(list, longerList);
+
+		AnnotationNode emptyList = new AnnotationNode(ANNOTATION_DESC);
+		emptyList.visitArray("value");
+		assertKeysDiffer(list, emptyList);
+		assertKeysDiffer(emptyList, new AnnotationNode(ANNOTATION_DESC));
+
+		AnnotationParser parser = new AnnotationParser();
+		assertEquals("@com.example.Marker(value={\"a\"})", parser.getAnnotation(list));
+		assertEquals("@com.example.Marker(value=\"a\")", parser.getAnnotation(withValue("value", "a")));
+	}
+
+	@Test
+	public void testDifferentNamesAndTypes() {
+		assertKeysDiffer(withValue("value", 1), withValue("other", 1));
+
+		AnnotationNode otherType = new AnnotationNode(NESTED_DESC);
+		otherType.visit("value", 1);
+		assertKeysDiffer(withValue("value", 1), otherType);
+	}
+
+	private static AnnotationNode createAnnotation() {
+		AnnotationNode annotation = new AnnotationNode(ANNOTATION_DESC);
+		annotation.visitEnum("policy", ENUM_DESC, "RUNTIME");
+		annotation.visitAnnotation("nested", NESTED_DESC).visit("value", 1);
+		AnnotationNode values = (AnnotationNode) annotation.visitArray("values");
+		values.visit(null, "a");
+		values.visit(null, "b");
+		annotation.visit("type", Type.getType(String.class));
+		return annotation;
+	}
+
+	private static AnnotationNode withEnum(String constant) {
+		AnnotationNode annotation = new AnnotationNode(ANNOTATION_DESC);
+		annotation.visitEnum("policy", ENUM_DESC, constant);
+		return annotation;
+	}
+
+	private static AnnotationNode withNested(int value) {
+		AnnotationNode annotation = new AnnotationNode(ANNOTATION_DESC);
+		annotation.visitAnnotation("nested", NESTED_DESC).visit("value", value);
+		return annotation;
+	}
+
+	private static AnnotationNode withValue(String name, Object value) {
+		AnnotationNode annotation = new AnnotationNode(ANNOTATION_DESC);
+		annotation.visit(name, value);
+		return annotation;
+	}
+
+	private static void assertKeysEqual(AnnotationNode annotation, AnnotationNode other) {
+		AnnotationParser.AnnotationKey key = new AnnotationParser.AnnotationKey(annotation);
+		AnnotationParser.AnnotationKey otherKey = new AnnotationParser.AnnotationKey(other);
+		assertEquals(key, otherKey);
+		assertEquals(key.hashCode(), otherKey.hashCode());
+	}
+
+	private static void assertKeysDiffer(AnnotationNode annotation, AnnotationNode other) {
+		AnnotationParser.AnnotationKey key = new AnnotationParser.AnnotationKey(annotation);
+		AnnotationParser.AnnotationKey otherKey = new AnnotationParser.AnnotationKey(other);
+		assertNotEquals(key, otherKey);
+		assertNotEquals(otherKey, key);
+	}
+}
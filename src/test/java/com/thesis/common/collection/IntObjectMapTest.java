@@ -0,0 +1,113 @@
+package com.thesis.common.collection;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class IntObjectMapTest {
+
+	@Test
+	public void testPutAndGet() {
+		IntObjectMap<String> map = new IntObjectMap<>();
+		assertTrue(map.isEmpty());
+		assertNull(map.put(0, "zero"));
+		assertNull(map.put(-1, "minus one"));
+		assertNull(map.put(Integer.MIN_VALUE, "min"));
+		assertNull(map.put(Integer.MAX_VALUE, "max"));
+
+		assertEquals("zero", map.put(0, "ZERO"));
+		assertEquals(4, map.size());
+		assertEquals("ZERO", map.get(0));
+		assertEquals("minus one", map.get(-1));
+		assertEquals("min", map.get(Integer.MIN_VALUE));
+		assertEquals("max", map.get(Integer.MAX_VALUE));
+		assertNull(map.get(1));
+		assertFalse(map.containsKey(1));
+	}
+
+	@Test
+	public void testResize() {
+		IntObjectMap<Integer> map = new IntObjectMap<>(2);
+		Map<Integer, Integer> expected = new HashMap<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 5000; i++) {
+			int key = i % 3 == 0 ? random.nextInt() : i;
+			assertEquals(expected.put(key, i), map.put(key, i));
+			assertEquals(expected.size(), map.size());
+		}
+		for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+			assertEquals(entry.getValue(), map.get(entry.getKey()));
+		}
+		assertNull(map.get(-5));
+
+		int[] keys = map.keys();
+		Arrays.sort(keys);
+		int[] expectedKeys = expected.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+		assertArrayEquals(expectedKeys, keys);
+		List<Integer> values = map.values();
+		Collections.sort(values);
+		List<Integer> expectedValues = new ArrayList<>(expected.values());
+		Collections.sort(expectedValues);
+		assertEquals(expectedValues, values);
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		int[] keys = IntSetTest.collidingKeys(16, 10);
+		IntObjectMap<String> map = new IntObjectMap<>(keys.length);
+		for (int key : keys) {
+			map.put(key, "value " + key);
+		}
+		assertEquals(keys.length, map.size());
+		for (int key : keys) {
+			assertEquals("value " + key, map.get(key));
+		}
+		for (int key : IntSetTest.collidingKeys(16, 20)) {
+			assertEquals(map.containsKey(key), map.get(key) != null);
+		}
+
+		// the colliding keys stay reachable after they are rehashed into a larger table
+		for (int i = 0; i < 100; i++) {
+			map.put(1000 + i, "filler");
+		}
+		for (int key : keys) {
+			assertEquals("value " + key, map.get(key));
+		}
+	}
+
+	@Test
+	public void testClear() {
+		IntObjectMap<String> map = new IntObjectMap<>();
+		for (int i = 0; i < 100; i++) {
+			map.put(i, "value");
+		}
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(5));
+		assertEquals(0, map.keys().length);
+		map.put(5, "again");
+		assertEquals("again", map.get(5));
+		assertEquals(1, map.size());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testNullValue() {
+		new IntObjectMap<String>().put(1, null);
+	}
+
+	@Test
+	public void testEquals() {
+		IntObjectMap<String> first = new IntObjectMap<>(2);
+		IntObjectMap<String> second = new IntObjectMap<>(1000);
+		for (int i = 0; i < 50; i++) {
+			first.put(i * 31, "value " + i);
+			second.put((49 - i) * 31, "value " + (49 - i));
+		}
+		assertEquals(first, second);
+		assertEquals(first.hashCode(), second.hashCode());
+		second.put(0, "changed");
+		assertNotEquals(first, second);
+	}
+}
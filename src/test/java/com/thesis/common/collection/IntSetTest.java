@@ -0,0 +1,102 @@
+package com.thesis.common.collection;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class IntSetTest {
+
+	@Test
+	public void testAddAndContains() {
+		IntSet set = new IntSet();
+		assertTrue(set.isEmpty());
+		assertTrue(set.add(0));
+		assertTrue(set.add(Integer.MIN_VALUE));
+		assertTrue(set.add(Integer.MAX_VALUE));
+		assertFalse(set.add(0));
+
+		assertEquals(3, set.size());
+		assertTrue(set.contains(0));
+		assertTrue(set.contains(Integer.MIN_VALUE));
+		assertTrue(set.contains(Integer.MAX_VALUE));
+		assertFalse(set.contains(1));
+	}
+
+	@Test
+	public void testResize() {
+		IntSet set = new IntSet(1);
+		Set<Integer> expected = new HashSet<>();
+		Random random = new Random(7);
+		for (int i = 0; i < 5000; i++) {
+			int value = i % 2 == 0 ? random.nextInt(3000) - 1500 : random.nextInt();
+			assertEquals(expected.add(value), set.add(value));
+			assertEquals(expected.size(), set.size());
+		}
+		for (int value : expected) {
+			assertTrue(set.contains(value));
+		}
+		int[] values = set.toArray();
+		Arrays.sort(values);
+		assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), values);
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		int[] keys = collidingKeys(16, 10);
+		IntSet set = new IntSet(keys.length);
+		for (int key : keys) {
+			assertTrue(set.add(key));
+		}
+		for (int key : keys) {
+			assertFalse(set.add(key));
+			assertTrue(set.contains(key));
+		}
+		assertEquals(keys.length, set.size());
+		int[] others = collidingKeys(16, 20);
+		for (int i = keys.length; i < others.length; i++) {
+			assertFalse(set.contains(others[i]));
+		}
+
+		for (int i = 0; i < 100; i++) {
+			set.add(1000 + i);
+		}
+		for (int key : keys) {
+			assertTrue(set.contains(key));
+		}
+	}
+
+	@Test
+	public void testClear() {
+		IntSet set = new IntSet();
+		for (int i = 0; i < 100; i++) {
+			set.add(i);
+		}
+		set.clear();
+		assertTrue(set.isEmpty());
+		assertFalse(set.contains(5));
+		assertTrue(set.add(5));
+		assertEquals(1, set.size());
+	}
+
+	/**
+	 * @param tableSize size of the table in which the keys collide
+	 * @param count number of keys
+	 * @return keys that have the same home slot in a table of the given size, in ascending order
+	 */
+	static int[] collidingKeys(int tableSize, int count) {
+		int[] keys = new int[count];
+		int slot = IntSet.hash(0) & (tableSize - 1);
+		int found = 0;
+		for (int key = 0; found < count; key++) {
+			if ((IntSet.hash(key) & (tableSize - 1)) == slot) {
+				keys[found++] = key;
+			}
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,267 @@
+package com.thesis.export;
+
+import com.thesis.file.Disassembler;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+@RunWith(value = JUnitParamsRunner.class)
+public class SourceExporterTest {
+
+	private static String TEST_FOLDER = "testData" + File.separator;
+
+	@Rule
+	public TemporaryFolder mFolder = new TemporaryFolder();
+
+	@Test
+	@Parameters({"ClassWithInnerClasses", "ClassWithAnonymousClasses", "LookupSwitchInsnNode", "TableSwitchInsnNode",
+			"TryCatchBlockNode"})
+	public void testBinaryRoundTrip(String name) throws Exception {
+		Disassembler.DecompilationResult result = decompile(name);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		SourceExporter.writeBinary(result.getClassBlock(), output);
+
+		SourceNode root = SourceExporter.readBinary(new ByteArrayInputStream(output.toByteArray()));
+		assertEquals(SourceNode.Kind.CLASS, root.getKind());
+		assertEquals(result.getJavaCode(), root.getJavaCode(SourceFormat.DEFAULT));
+	}
+
+	@Test
+	@Parameters({"ClassWithInnerClasses", "ClassWithAnonymousClasses", "LookupSwitchInsnNode", "TryCatchBlockNode"})
+	public void testJson(String name) throws Exception {
+		Disassembler.DecompilationResult result = decompile(name);
+		StringWriter output = new StringWriter();
+		SourceExporter.writeJson(result.getClassBlock(), output);
+
+		assertEquals(result.getJavaCode(), JsonContent.parse(output.toString()));
+	}
+
+	@Test
+	public void testReadBinary_truncated() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		SourceExporter.writeBinary(decompile("TryCatchBlockNode").getClassBlock(), output);
+		byte[] bytes = output.toByteArray();
+
+		for (int length = 0; length < bytes.length; length++) {
+			assertRejected(Arrays.copyOf(bytes, length));
+		}
+	}
+
+	@Test
+	public void testReadBinary_garbage() throws Exception {
+		Random random = new Random(42);
+		for (int i = 0; i < 100; i++) {
+			byte[] garbage = new byte[1 + random.nextInt(1000)];
+			random.nextBytes(garbage);
+			assertRejected(garbage);
+
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			DataOutputStream data = new DataOutputStream(output);
+			data.writeInt(BinarySourceWriter.MAGIC);
+			data.writeByte(BinarySourceWriter.VERSION);
+			data.write(garbage);
+			assertRejected(output.toByteArray());
+		}
+	}
+
+	@Test
+	public void testReadBinary_damagedStringLength() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(output);
+		data.writeInt(BinarySourceWriter.MAGIC);
+		data.writeByte(BinarySourceWriter.VERSION);
+		data.writeByte(BinarySourceWriter.TAG_START);
+		data.writeByte(SourceNode.Kind.CLASS.ordinal());
+		data.writeByte(BinarySourceWriter.NEW_STRING);
+		// 0x7FFFFFFF as a variable length integer, followed by a few bytes only
+		data.write(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a', 'b'});
+		assertRejected(output.toByteArray());
+
+		output.reset();
+		data.writeInt(BinarySourceWriter.MAGIC);
+		data.writeByte(BinarySourceWriter.VERSION);
+		data.writeByte(BinarySourceWriter.TAG_START);
+		data.writeByte(SourceNode.Kind.CLASS.ordinal());
+		data.writeByte(BinarySourceWriter.NEW_STRING);
+		// -1 as a variable length integer
+		data.write(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F});
+		assertRejected(output.toByteArray());
+	}
+
+	private Disassembler.DecompilationResult decompile(String name) throws Exception {
+		String classFolder = mFolder.newFolder("classes").getPath();
+		assertEquals("Compilation failed", 0, ToolProvider.getSystemJavaCompiler().run(null, null, null, "-g", "-d", classFolder,
+				TEST_FOLDER + name + ".java"));
+		return Disassembler.createInstance(classFolder).decompileClassFile(name + ".class");
+	}
+
+	private static void assertRejected(byte[] bytes) {
+		try {
+			SourceExporter.readBinary(new ByteArrayInputStream(bytes));
+			fail("Damaged stream of " + bytes.length + " bytes was read");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Minimal JSON parser of the exported elements, collects the texts of the content arrays in their order
+	 */
+	private static class JsonContent {
+		private final String mJson;
+		private final StringBuilder mText = new StringBuilder();
+		private int mPosition;
+
+		private JsonContent(String json) {
+			mJson = json;
+		}
+
+		/**
+		 * @return Java code of the exported element
+		 */
+		static String parse(String json) {
+			JsonContent parser = new JsonContent(json);
+			parser.readElement();
+			parser.skipWhitespace();
+			assertEquals("Unexpected characters after the element", json.length(), parser.mPosition);
+			return parser.mText.toString();
+		}
+
+		private void readElement() {
+			expect('{');
+			Set<String> keys = new HashSet<>();
+			do {
+				String key = readString();
+				assertTrue("Duplicate key " + key, keys.add(key));
+				expect(':');
+				switch (key) {
+					case "kind":
+						SourceNode.Kind.valueOf(readString());
+						break;
+					case "name":
+						readString();
+						break;
+					case "line":
+						readNumber();
+						break;
+					case "content":
+						readContent();
+						break;
+					default:
+						fail("Unexpected key " + key);
+				}
+			} while (accept(','));
+			expect('}');
+			assertTrue("Missing kind or content", keys.contains("kind") && keys.contains("content"));
+		}
+
+		private void readContent() {
+			expect('[');
+			if (accept(']')) return;
+			do {
+				skipWhitespace();
+				if (mPosition < mJson.length() && mJson.charAt(mPosition) == '"') {
+					mText.append(readString());
+				} else {
+					readElement();
+				}
+			} while (accept(','));
+			expect(']');
+		}
+
+		private String readString() {
+			expect('"');
+			StringBuilder str = new StringBuilder();
+			char c;
+			while ((c = next()) != '"') {
+				assertTrue("Unescaped control character", c >= 0x20);
+				if (c != '\\') {
+					str.append(c);
+					continue;
+				}
+				char escaped = next();
+				switch (escaped) {
+					case '"':
+					case '\\':
+					case '/':
+						str.append(escaped);
+						break;
+					case 'n':
+						str.append('\n');
+						break;
+					case 't':
+						str.append('\t');
+						break;
+					case 'r':
+						str.append('\r');
+						break;
+					case 'b':
+						str.append('\b');
+						break;
+					case 'f':
+						str.append('\f');
+						break;
+					case 'u':
+						assertTrue("Truncated escape", mPosition + 4 <= mJson.length());
+						str.append((char) Integer.parseInt(mJson.substring(mPosition, mPosition + 4), 16));
+						mPosition += 4;
+						break;
+					default:
+						fail("Invalid escape " + escaped);
+				}
+			}
+			return str.toString();
+		}
+
+		private void readNumber() {
+			skipWhitespace();
+			int start = mPosition;
+			while (mPosition < mJson.length() && (Character.isDigit(mJson.charAt(mPosition)) || mJson.charAt(mPosition) == '-')) {
+				mPosition++;
+			}
+			Integer.parseInt(mJson.substring(start, mPosition));
+		}
+
+		private void expect(char expected) {
+			skipWhitespace();
+			assertEquals("Unexpected character at " + mPosition, expected, next());
+		}
+
+		private boolean accept(char expected) {
+			skipWhitespace();
+			if (mPosition < mJson.length() && mJson.charAt(mPosition) == expected) {
+				mPosition++;
+				return true;
+			}
+			return false;
+		}
+
+		private char next() {
+			assertTrue("Unexpected end of JSON", mPosition < mJson.length());
+			return mJson.charAt(mPosition++);
+		}
+
+		private void skipWhitespace() {
+			while (mPosition < mJson.length() && Character.isWhitespace(mJson.charAt(mPosition))) {
+				mPosition++;
+			}
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.thesis.expression;
+
+import com.thesis.translator.ExpressionStack;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ExpressionVisitorTest {
+
+	/**
+	 * Visitor that handles only the jumps, all other expressions fall through to {@link #visitExpression}
+	 */
+	private static final ExpressionVisitor<String> JUMP_VISITOR = new ExpressionVisitor<String>() {
+		@Override
+		public String visitExpression(Expression expression) {
+			return "expression";
+		}
+
+		@Override
+		public String visitJump(JumpExpression expression) {
+			return "jump";
+		}
+	};
+
+	@Test
+	public void testJumpsFallThroughToVisitJump() {
+		for (JumpExpression jump : createJumps()) {
+			assertEquals(jump.getClass().getSimpleName(), "jump", jump.accept(JUMP_VISITOR));
+			assertSame(jump, ExpressionCasts.asJump(jump));
+		}
+	}
+
+	@Test
+	public void testOtherExpressionsFallThroughToVisitExpression() {
+		List<Expression> expressions = Arrays.asList(
+				new ConstantPrimaryExpression(Opcodes.ICONST_1),
+				new ArithmeticExpression(Opcodes.IADD),
+				new ReturnExpression(Opcodes.RETURN),
+				new ArrayCreationExpression(Opcodes.NEWARRAY, Opcodes.T_INT),
+				new MonitorExpression(Opcodes.MONITORENTER));
+		for (Expression expression : expressions) {
+			assertEquals(expression.getClass().getSimpleName(), "expression", expression.accept(JUMP_VISITOR));
+			assertNull(ExpressionCasts.asJump(expression));
+			assertNull(ExpressionCasts.asUnconditionalJump(expression));
+		}
+	}
+
+	@Test
+	public void testCasts() {
+		UnconditionalJump jump = new UnconditionalJump(Opcodes.GOTO, 1);
+		BreakExpression breakExpression = new BreakExpression(jump);
+		assertSame(jump, ExpressionCasts.asUnconditionalJump(jump));
+		assertSame(breakExpression, ExpressionCasts.asUnconditionalJump(breakExpression));
+		assertNull(ExpressionCasts.asUnconditionalJump(createCondition()));
+
+		ConstantPrimaryExpression constant = new ConstantPrimaryExpression(Opcodes.ICONST_1);
+		assertSame(constant, ExpressionCasts.asPrimary(constant));
+		assertNull(ExpressionCasts.asArrayCreation(constant));
+
+		ArrayCreationExpression arrayCreation = new ArrayCreationExpression(Opcodes.NEWARRAY, Opcodes.T_INT);
+		assertSame(arrayCreation, ExpressionCasts.asArrayCreation(arrayCreation));
+		assertNull(ExpressionCasts.asPrimary(arrayCreation));
+
+		assertNull(ExpressionCasts.asJump(null));
+	}
+
+	private static List<JumpExpression> createJumps() {
+		UnconditionalJump jump = new UnconditionalJump(Opcodes.GOTO, 1);
+		SingleConditional condition = createCondition();
+		condition.setThenBranch(new ExpressionStack());
+		condition.getThenBranch().push(new ConstantPrimaryExpression(Opcodes.ICONST_1), false);
+		condition.setElseBranch(new ExpressionStack());
+		condition.getElseBranch().push(new ConstantPrimaryExpression(Opcodes.ICONST_0), false);
+		return Arrays.asList(
+				jump,
+				new BreakExpression(jump),
+				new ContinueExpression(jump),
+				createCondition(),
+				new MultiConditional(Opcodes.IF_ICMPEQ, 1, new ConstantPrimaryExpression(Opcodes.ICONST_1),
+						new ConstantPrimaryExpression(Opcodes.ICONST_0)),
+				new LogicGateExpression(createCondition(), createCondition()),
+				new TernaryExpression(condition));
+	}
+
+	private static SingleConditional createCondition() {
+		return new SingleConditional(Opcodes.IFEQ, 1, new ConstantPrimaryExpression(Opcodes.ICONST_1));
+	}
+}
@@ -0,0 +1,86 @@
+package com.thesis.expression;
+
+import com.thesis.common.DataType;
+import com.thesis.translator.ExpressionStack;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.*;
+
+public class LeafInternerTest {
+
+	private static final DataType STRING = DataType.getTypeFromObject("java/lang/String");
+
+	@Test
+	public void testEqualLeavesAreShared() {
+		MethodInvocationExpression first = invocation("takeString", "Ljava/lang/String;", leaf("text"));
+		MethodInvocationExpression second = invocation("takeString", "Ljava/lang/String;", leaf("text"));
+		MethodInvocationExpression other = invocation("takeString", "Ljava/lang/String;", leaf("other"));
+
+		new LeafInterner().internMethod(stack(first, second, other));
+
+		assertSame(first.mArguments.get(0), second.mArguments.get(0));
+		assertNotSame(first.mArguments.get(0), other.mArguments.get(0));
+		assertTrue(((PrimaryExpression) first.mArguments.get(0)).isShared());
+	}
+
+	@Test
+	public void testCastCopiesSharedLeaf() throws IOException {
+		PrimaryExpression castLeaf = leaf("text");
+		MethodInvocationExpression first = invocation("takeString", "Ljava/lang/String;", leaf("text"));
+		MethodInvocationExpression cast = invocation("takeNumber", "Ljava/lang/Number;", castLeaf);
+		MethodInvocationExpression last = invocation("takeString", "Ljava/lang/String;", leaf("text"));
+
+		new LeafInterner().internMethod(stack(first, cast, last));
+
+		assertNull("The original leaf was changed", castLeaf.mCastType);
+		assertNotSame(castLeaf, cast.mArguments.get(0));
+		assertSame(first.mArguments.get(0), last.mArguments.get(0));
+		assertNull("The shared leaf was cast", first.mArguments.get(0).mCastType);
+		assertEquals("Test.takeString(\"text\")", write(first));
+		assertEquals("Test.takeNumber((java.lang.Number) \"text\")", write(cast));
+		assertEquals("Test.takeString(\"text\")", write(last));
+	}
+
+	@Test
+	public void testWithoutSharingResolvesCasts() throws IOException {
+		MethodInvocationExpression first = invocation("takeString", "Ljava/lang/String;", leaf("text"));
+		MethodInvocationExpression cast = invocation("takeNumber", "Ljava/lang/Number;", leaf("text"));
+
+		LeafInterner interner = LeafInterner.withoutSharing();
+		interner.internMethod(stack(first, cast));
+
+		assertEquals(0, interner.size());
+		assertNotSame(first.mArguments.get(0), cast.mArguments.get(0));
+		assertEquals("Test.takeString(\"text\")", write(first));
+		assertEquals("Test.takeNumber((java.lang.Number) \"text\")", write(cast));
+	}
+
+	private static PrimaryExpression leaf(String value) {
+		return new PrimaryExpression(Opcodes.LDC, value, STRING);
+	}
+
+	private static MethodInvocationExpression invocation(String name, String argumentDesc, Expression argument) {
+		MethodInvocationExpression invocation = new MethodInvocationExpression(Opcodes.INVOKESTATIC, name,
+				"(" + argumentDesc + ")V", "Test", "test");
+		invocation.mArguments.add(argument);
+		return invocation;
+	}
+
+	private static ExpressionStack stack(Expression... expressions) {
+		ExpressionStack stack = new ExpressionStack();
+		for (Expression expression : expressions) {
+			stack.push(expression, false);
+		}
+		return stack;
+	}
+
+	private static String write(Expression expression) throws IOException {
+		StringWriter writer = new StringWriter();
+		expression.write(writer);
+		return writer.toString();
+	}
+}
@@ -0,0 +1,106 @@
+package com.thesis.file;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class DecompilationSchedulerTest {
+
+	private static String TEST_FOLDER = "testData" + File.separator;
+
+	@Rule
+	public TemporaryFolder mFolder = new TemporaryFolder();
+
+	private Disassembler mDisassembler;
+
+	@Before
+	public void setUp() throws Exception {
+		String classFolder = mFolder.getRoot().getPath();
+		assertEquals("Compilation failed", 0, ToolProvider.getSystemJavaCompiler().run(null, null, null, "-g", "-d", classFolder,
+				TEST_FOLDER + "GeneratedLoops.java", TEST_FOLDER + "ClassWithNumericExpressions.java"));
+		mDisassembler = Disassembler.createInstance(classFolder);
+		mDisassembler.setParallelThreshold(Integer.MAX_VALUE);
+	}
+
+	@Test
+	public void testInteractiveOvertakesBackground() throws Exception {
+		List<String> completed = Collections.synchronizedList(new ArrayList<>());
+		List<CompletableFuture<Disassembler.DecompilationResult>> futures = new ArrayList<>();
+		try (DecompilationScheduler scheduler = new DecompilationScheduler(mDisassembler, 1)) {
+			for (int i = 0; i < 3; i++) {
+				String name = "background " + i;
+				futures.add(scheduler.submit("GeneratedLoops.class", DecompilationScheduler.Priority.BACKGROUND)
+						.whenComplete((result, e) -> completed.add(name)));
+			}
+			futures.add(scheduler.submit("ClassWithNumericExpressions.class", DecompilationScheduler.Priority.INTERACTIVE)
+					.whenComplete((result, e) -> completed.add("interactive")));
+
+			for (CompletableFuture<Disassembler.DecompilationResult> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		}
+
+		assertEquals(4, completed.size());
+		assertTrue("Interactive request waited for the background work: " + completed,
+				completed.indexOf("interactive") < completed.indexOf("background 2"));
+		assertEquals(mDisassembler.decompileClassFile("ClassWithNumericExpressions.class").getJavaCode(),
+				futures.get(3).get().getJavaCode());
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		DecompilationScheduler scheduler = new DecompilationScheduler(mDisassembler, 2);
+		CompletableFuture<Disassembler.DecompilationResult> future =
+				scheduler.submit("ClassWithNumericExpressions.class", DecompilationScheduler.Priority.NORMAL);
+		scheduler.close();
+		assertTrue(future.isDone());
+		assertEquals(0, scheduler.getPendingTasks());
+	}
+
+	@Test
+	public void testSubmitWhileClosing() throws Exception {
+		for (int i = 0; i < 20; i++) {
+			DecompilationScheduler scheduler = new DecompilationScheduler(mDisassembler, 1);
+			List<CompletableFuture<Disassembler.DecompilationResult>> futures = new ArrayList<>();
+			Thread submitter = new Thread(() -> {
+				try {
+					while (true) {
+						futures.add(scheduler.submit("ClassWithNumericExpressions.class", DecompilationScheduler.Priority.NORMAL));
+						// keeps submitting while the scheduler closes, without queuing much work
+						while (scheduler.getPendingTasks() > 2) {
+							Thread.yield();
+						}
+					}
+				} catch (RejectedExecutionException e) {
+					// the scheduler was closed
+				}
+			});
+			submitter.start();
+			Thread.sleep(5);
+			scheduler.close();
+			submitter.join();
+
+			for (CompletableFuture<Disassembler.DecompilationResult> future : futures) {
+				assertTrue("Accepted request was not done when the scheduler closed", future.isDone());
+			}
+			assertEquals(0, scheduler.getPendingTasks());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNoThreads() {
+		new DecompilationScheduler(mDisassembler, 0);
+	}
+}
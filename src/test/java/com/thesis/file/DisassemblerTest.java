@@ -1,9 +1,14 @@
 package com.thesis.file;
 
+import com.thesis.block.ClassBlock;
 import com.thesis.exception.DecompilerException;
+import com.thesis.expression.LeafInterner;
+import com.thesis.translator.EnhancerPassManager;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 
 import javax.tools.JavaCompiler;
@@ -16,10 +21,21 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static junitparams.JUnitParamsRunner.$;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -38,10 +54,14 @@ public class DisassemblerTest {
 
 	private final JavaCompiler mJavaCompiler = ToolProvider.getSystemJavaCompiler();
 
+	@Rule
+	public TemporaryFolder mFolder = new TemporaryFolder();
+
 	@Test
 	@Parameters({"AnotherEmptyInterface", "ClassWithNumericExpressions", "EmptyDeprecatedClass",
 			"EmptyDeprecatedInterface", "EmptyEnum", "EmptyInterface", "ComplexVariableNames",
-			"MultiANewArrayInsnNode", "TryCatchBlockNode", "ClassWithInnerClasses", "ClassWithAnonymousClasses"})
+			"MultiANewArrayInsnNode", "TryCatchBlockNode", "ClassWithInnerClasses", "ClassWithAnonymousClasses",
+			"GeneratedLoops"})
 	public void testUngroupedClasses(String name) throws Throwable {
 		assertEquals("Classes do not equal", getJavaClassContent(name), compileAndParseClass(name, Disassembler.createInstance(TEST_FOLDER)));
 	}
@@ -146,6 +166,162 @@ public class DisassemblerTest {
 	public Object param9(){return $($("ComplexAnnotation", makeDependencyString("EmptyInterfaceAnnotation", "EmptyEnum")));}
 
 
+	@Test
+	@Parameters({"ClassWithNumericExpressions", "ClassWithInnerClasses", "ClassWithAnonymousClasses",
+			"TryCatchBlockNode", "JumpInsnNode_loops", "LookupSwitchInsnNode"})
+	public void testParallelDecompilation(String name) throws Throwable {
+		Disassembler sequential = Disassembler.createInstance(TEST_FOLDER);
+		sequential.setParallelThreshold(Integer.MAX_VALUE);
+		sequential.setPrefetchInnerClasses(false);
+		String expected = compileAndParseClass(name, sequential);
+
+		Disassembler parallel = Disassembler.createInstance(TEST_FOLDER);
+		parallel.setParallelThreshold(1);
+		parallel.setPrefetchInnerClasses(true);
+		assertEquals("Classes do not equal", getJavaClassContent(name), expected);
+		assertEquals("Parallel decompilation differs", expected, parallel.decompileClassFile(name + ".class").getJavaCode());
+	}
+
+	@Test
+	@Parameters({"ClassWithInnerClasses", "ClassWithAnonymousClasses", "JumpInsnNode_loops"})
+	public void testConcurrentRendering(String name) throws Throwable {
+		Disassembler disassembler = Disassembler.createInstance(TEST_FOLDER);
+		disassembler.setParallelThreshold(1);
+		String expected = compileAndParseClass(name, disassembler);
+		ClassBlock classBlock = disassembler.decompileClassFile(name + ".class").getClassBlock();
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> renderings = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				renderings.add(executor.submit(() -> new Disassembler.DecompilationResult(classBlock).getJavaCode()));
+			}
+			for (Future<String> rendering : renderings) {
+				assertEquals("Rendering differs", expected, rendering.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testDecompileAsync() throws Throwable {
+		Disassembler disassembler = Disassembler.createInstance(TEST_FOLDER);
+		String expected = compileAndParseClass("ClassWithAnonymousClasses", disassembler);
+		assertEquals("Classes do not equal", expected, disassembler.decompileAsync("ClassWithAnonymousClasses.class").get().getJavaCode());
+
+		try {
+			disassembler.decompileAsync("NonExistentClass.class").get();
+			fail("Missing class was decompiled");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof DecompilerException);
+		}
+	}
+
+	@Test
+	public void testDecompileAsync_cancel() throws Throwable {
+		Disassembler disassembler = Disassembler.createInstance(TEST_FOLDER);
+		disassembler.setParallelThreshold(Integer.MAX_VALUE);
+		if (!compileClass(TEST_FOLDER + "GeneratedLoops.java")) {
+			fail("COMPILATION FAILED");
+		}
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		AtomicInteger checkpoints = new AtomicInteger();
+		AtomicReference<CompletableFuture<Disassembler.DecompilationResult>> future = new AtomicReference<>();
+		CountDownLatch submitted = new CountDownLatch(1);
+		future.set(disassembler.decompileAsync("GeneratedLoops.class", executor, () -> {
+			try {
+				submitted.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			// the first checkpoint is before the class, the second before its first method
+			if (checkpoints.incrementAndGet() == 2) {
+				future.get().cancel(false);
+			}
+		}));
+		submitted.countDown();
+
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertTrue(future.get().isCancelled());
+		assertEquals("Decompilation continued after it was cancelled", 2, checkpoints.get());
+	}
+
+	@Test
+	public void testDecompileClassSource_resultCache() throws Throwable {
+		String name = "ClassWithAnonymousClasses";
+		if (!compileClass(TEST_FOLDER + name + ".java")) {
+			fail("COMPILATION FAILED");
+		}
+		Disassembler disassembler = Disassembler.createInstance(TEST_FOLDER);
+		disassembler.setResultCache(new ResultCache(1 << 20, true));
+
+		assertEquals("Classes do not equal", getJavaClassContent(name), disassembler.decompileClassSource(name + ".class").getJavaCode());
+		assertEquals("Classes do not equal", getJavaClassContent(name), disassembler.decompileClassSource(name + ".class").getJavaCode());
+		assertEquals(1, disassembler.getResultCache().getStatistics().getHits());
+
+		// the sharing of the leaves does not change the rendered code
+		disassembler.setLeafInterning(LeafInterner.Scope.CLASS);
+		assertEquals("Classes do not equal", getJavaClassContent(name), disassembler.decompileClassSource(name + ".class").getJavaCode());
+		assertEquals(2, disassembler.getResultCache().getStatistics().getHits());
+
+		disassembler.setPassManager(new EnhancerPassManager());
+		disassembler.decompileClassSource(name + ".class");
+		assertEquals(2, disassembler.getResultCache().getStatistics().getHits());
+		assertEquals(2, disassembler.getResultCache().getStatistics().getMisses());
+	}
+
+	@Test
+	public void testInnerClassesOfOwningInstance() throws Throwable {
+		String name = "ClassWithInnerClasses";
+		String classFolder = mFolder.newFolder("classes").getPath();
+		assertEquals("Compilation failed", 0, mJavaCompiler.run(null, null, null, "-g", "-d", classFolder, TEST_FOLDER + name + ".java"));
+		File outerClassFolder = mFolder.newFolder("outer");
+		Files.copy(Paths.get(classFolder, name + ".class"), outerClassFolder.toPath().resolve(name + ".class"));
+
+		Disassembler withInnerClasses = Disassembler.createInstance(classFolder);
+		Disassembler withoutInnerClasses = Disassembler.createInstance(outerClassFolder.getPath());
+		withoutInnerClasses.setParallelThreshold(1);
+
+		assertEquals("Classes do not equal", getJavaClassContent(name), withInnerClasses.decompileClassFile(name + ".class").getJavaCode());
+		assertTrue(withoutInnerClasses.decompileClassFile(name + ".class").getJavaCode().contains("Classfile of inner class"));
+	}
+
+	@Test
+	public void testDeeplyNestedMethod() throws Throwable {
+		int depth = 1500;
+		StringBuilder source = new StringBuilder("public class DeepNesting {\n\tpublic int nested(int a) {\n\t\tint r = 0;\n");
+		for (int i = 0; i < depth; i++) {
+			source.append("if (a > ").append(i + 1).append(") {\nr += ").append(i).append(";\n");
+		}
+		source.append("while (r < a) {\nr++;\n}\n");
+		for (int i = 0; i < depth; i++) {
+			source.append("}\n");
+		}
+		source.append("return r;\n}\n}\n");
+		File sourceFile = mFolder.newFile("DeepNesting.java");
+		Files.write(sourceFile.toPath(), source.toString().getBytes("UTF-8"));
+		String classFolder = mFolder.newFolder("classes").getPath();
+
+		// javac itself recurses once per nesting level
+		runOnThread(64 << 20, () -> {
+			assertEquals("Compilation failed", 0, mJavaCompiler.run(null, null, null, "-g", "-d", classFolder, sourceFile.getPath()));
+			return null;
+		});
+		AtomicReference<String> javaCode = new AtomicReference<>();
+		runOnThread(256 * 1024, () -> {
+			javaCode.set(Disassembler.createInstance(classFolder).decompileClassFile("DeepNesting.class").getJavaCode());
+			return null;
+		});
+
+		String[] lines = javaCode.get().split("\n");
+		assertEquals(depth, Arrays.stream(lines).filter(line -> line.trim().startsWith("if (a > ")).count());
+		String innermostIndent = new String(new char[depth + 2]).replace('\0', '\t');
+		assertTrue(Arrays.asList(lines).contains(innermostIndent + "while (r < a) {"));
+	}
+
 	// the evaluation tests do not have any expected results, so they are commented out
 	/*
 	@Test
@@ -172,6 +348,25 @@ public class DisassemblerTest {
 	public Object sable(){return $($("Sable", makeDependencyString("Drawable", "Circle", "Rectangle")));}
 	*/
 
+	/**
+	 * Runs the task on a new thread with the given stack size and rethrows its failure
+	 */
+	private static void runOnThread(long stackSize, Callable<Void> task) throws Throwable {
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread thread = new Thread(null, () -> {
+			try {
+				task.call();
+			} catch (Throwable e) {
+				failure.set(e);
+			}
+		}, "t", stackSize);
+		thread.start();
+		thread.join();
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+	}
+
 	private String[] makeDependencyString(String... deps) {
 		for (int i=0; i < deps.length; i++) {
 			deps[i] = TEST_FOLDER + deps[i] + ".java";
@@ -0,0 +1,111 @@
+package com.thesis.file;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class PackWriterTest {
+
+	private static String TEST_FOLDER = "testData" + File.separator;
+
+	/**
+	 * Smaller than any of the sources, so every source is written around or past a chunk boundary
+	 */
+	private static final int CHUNK_SIZE = 16;
+
+	@Rule
+	public TemporaryFolder mFolder = new TemporaryFolder();
+
+	@Test
+	public void testRoundTrip_smallChunks() throws IOException {
+		Map<String, String> sources = new LinkedHashMap<>();
+		sources.put("com.example.Zeta", "public class Zeta {\n\tint mValue;\n}\n");
+		sources.put("com.example.Alpha", "public class Alpha {\n\tString mText = \"žlutý kúň ☃\";\n}\n");
+		sources.put("com.example.Alpha$Inner", "class Inner {\n}\n");
+		sources.put("com.example.Empty", "");
+		sources.put("Default", new String(new char[1000]).replace('\0', 'x'));
+
+		Path file = mFolder.getRoot().toPath().resolve("classes.pack");
+		try (PackWriter writer = new PackWriter(file, CHUNK_SIZE)) {
+			writer.add("com.example.Zeta", "replaced");
+			for (Map.Entry<String, String> source : sources.entrySet()) {
+				writer.add(source.getKey(), source.getValue());
+			}
+			assertEquals(sources.size(), writer.size());
+		}
+
+		try (PackReader reader = new PackReader(file)) {
+			assertEquals(sources.size(), reader.size());
+			String[] names = sources.keySet().toArray(new String[sources.size()]);
+			Arrays.sort(names);
+			assertEquals(Arrays.asList(names), reader.getClassNames());
+			for (Map.Entry<String, String> source : sources.entrySet()) {
+				assertTrue(reader.contains(source.getKey()));
+				assertEquals(source.getValue(), reader.getJavaCode(source.getKey()));
+			}
+			assertFalse(reader.contains("com.example.Missing"));
+			assertNull(reader.getJavaCode("com.example.Missing"));
+		}
+	}
+
+	@Test
+	public void testRoundTrip_decompiledClass() throws Exception {
+		String classFolder = mFolder.newFolder("classes").getPath();
+		assertEquals("Compilation failed", 0, ToolProvider.getSystemJavaCompiler().run(null, null, null, "-g", "-d", classFolder,
+				TEST_FOLDER + "ClassWithInnerClasses.java"));
+		Disassembler.DecompilationResult result = Disassembler.createInstance(classFolder).decompileClassFile("ClassWithInnerClasses.class");
+
+		Path file = mFolder.getRoot().toPath().resolve("classes.pack");
+		try (PackWriter writer = new PackWriter(file, CHUNK_SIZE)) {
+			writer.add(result);
+		}
+		try (PackReader reader = new PackReader(file)) {
+			assertEquals(Arrays.asList("ClassWithInnerClasses"), reader.getClassNames());
+			assertEquals(result.getJavaCode(), reader.getJavaCode("ClassWithInnerClasses"));
+		}
+	}
+
+	@Test
+	public void testFailedWrite() throws IOException {
+		// every write to the device fails because it is full
+		Path file = Paths.get("/dev/full");
+		Assume.assumeTrue(Files.isWritable(file));
+
+		PackWriter writer = new PackWriter(file, CHUNK_SIZE);
+		try {
+			writer.add("com.example.Large", new String(new char[1000]).replace('\0', 'x'));
+			fail("Source was written to a full device");
+		} catch (IOException e) {
+			// expected
+		}
+		assertEquals(0, writer.size());
+		try {
+			writer.add("com.example.Small", "");
+			fail("Source was added after a failed write");
+		} catch (IOException e) {
+			// expected
+		}
+		assertEquals(0, writer.size());
+		writer.close();
+	}
+
+	@Test(expected = IOException.class)
+	public void testNotAPackFile() throws IOException {
+		Path file = mFolder.getRoot().toPath().resolve("classes.pack");
+		Files.write(file, new byte[64]);
+		new PackReader(file).close();
+	}
+}
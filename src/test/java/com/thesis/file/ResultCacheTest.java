@@ -0,0 +1,109 @@
+package com.thesis.file;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class ResultCacheTest {
+
+	/**
+	 * Code of 500 characters, an entry with it takes 1160 bytes uncompressed
+	 */
+	private static final String CODE = new String(new char[500]).replace('\0', 'x');
+
+	@Test
+	public void testHitAndMiss() {
+		ResultCache cache = new ResultCache(100000, false);
+		cache.put(key("A"), "class A", "bytecode A");
+
+		ResultCache.RenderedClass rendered = cache.get(key("A"));
+		assertNotNull(rendered);
+		assertEquals("class A", rendered.getJavaCode());
+		assertEquals("bytecode A", rendered.getBytecode());
+		assertNull(cache.get(key("B")));
+
+		ResultCache.Statistics statistics = cache.getStatistics();
+		assertEquals(1, statistics.getHits());
+		assertEquals(1, statistics.getMisses());
+		assertEquals(1, statistics.getEntries());
+	}
+
+	@Test
+	public void testKey_settingsAndInnerClasses() {
+		ResultCache cache = new ResultCache(100000, false);
+		byte[] classBytes = bytes("A");
+		cache.put(new ResultCache.Key(classBytes, "LoopEnhancer", Collections.singletonList(bytes("A$1"))),
+				"class A", "bytecode A");
+
+		assertNotNull(cache.get(new ResultCache.Key(classBytes, "LoopEnhancer", Collections.singletonList(bytes("A$1")))));
+		assertNull(cache.get(new ResultCache.Key(classBytes, "", Collections.singletonList(bytes("A$1")))));
+		assertNull(cache.get(new ResultCache.Key(classBytes, "LoopEnhancer,Other", Collections.singletonList(bytes("A$1")))));
+		assertNull(cache.get(new ResultCache.Key(classBytes, "LoopEnhancer", Collections.singletonList(bytes("A$2")))));
+		assertNull(cache.get(new ResultCache.Key(classBytes, "LoopEnhancer", Collections.singletonList(null))));
+		assertNull(cache.get(new ResultCache.Key(classBytes, "LoopEnhancer", Collections.emptyList())));
+		assertNull(cache.get(new ResultCache.Key(classBytes, "LoopEnhancer", Arrays.asList(bytes("A$"), bytes("1")))));
+	}
+
+	@Test
+	public void testHotToColdCompression() {
+		ResultCache cache = new ResultCache(10000, true);
+		cache.put(key("A"), CODE, "bytecode A");
+		cache.put(key("B"), CODE, "bytecode B");
+
+		ResultCache.Statistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.getEntries());
+		assertEquals(1, statistics.getCompressedEntries());
+		assertTrue(statistics.getSizeBytes() < 2 * 1160);
+
+		ResultCache.RenderedClass rendered = cache.get(key("A"));
+		assertNotNull(rendered);
+		assertEquals(CODE, rendered.getJavaCode());
+		assertEquals("bytecode A", rendered.getBytecode());
+		assertEquals(1, cache.getStatistics().getHits());
+	}
+
+	@Test
+	public void testAdmission_rareEntryRejected() {
+		ResultCache cache = new ResultCache(3000, false);
+		for (int i = 0; i < 5; i++) {
+			assertNull(cache.get(key("A")));
+		}
+		cache.put(key("A"), CODE, "");
+		cache.put(key("B"), CODE, "");
+		// B moves to the full cold part, it was requested less often than A
+		cache.put(key("C"), CODE, "");
+
+		assertEquals(1, cache.getStatistics().getEvictions());
+		assertNull(cache.get(key("B")));
+		assertNotNull(cache.get(key("A")));
+	}
+
+	@Test
+	public void testAdmission_frequentEntryAdmitted() {
+		ResultCache cache = new ResultCache(3000, false);
+		cache.put(key("A"), CODE, "");
+		cache.put(key("B"), CODE, "");
+		for (int i = 0; i < 5; i++) {
+			assertNull(cache.get(key("C")));
+		}
+		cache.put(key("C"), CODE, "");
+		// C moves to the full cold part, it was requested more often than A
+		cache.put(key("D"), CODE, "");
+
+		assertEquals(2, cache.getStatistics().getEvictions());
+		assertNull(cache.get(key("A")));
+		assertNotNull(cache.get(key("C")));
+	}
+
+	private static ResultCache.Key key(String name) {
+		return new ResultCache.Key(bytes(name));
+	}
+
+	private static byte[] bytes(String name) {
+		return name.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,172 @@
+package com.thesis.translator;
+
+import com.thesis.exception.DecompilerRuntimeException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.Stack;
+
+import static org.junit.Assert.*;
+
+public class EnhancerPassManagerTest {
+
+	private final List<String> mRuns = new ArrayList<>();
+
+	@Test
+	public void testDependencyOrdering() {
+		EnhancerPassManager passManager = new EnhancerPassManager();
+		passManager.register(new RecordingPass("Second", "First"));
+		passManager.register(new RecordingPass("Third"));
+		passManager.register(new RecordingPass("First"));
+
+		run(passManager);
+		assertEquals(Arrays.asList("First", "Second", "Third"), mRuns);
+		assertEquals("First,Second,Third", passManager.getFingerprint());
+
+		List<String> names = new ArrayList<>();
+		for (EnhancerPassManager.PassStatistics statistics : passManager.getStatistics()) {
+			names.add(statistics.getName());
+			assertEquals(1, statistics.getRuns());
+			assertEquals(1, statistics.getRewrites());
+		}
+		assertEquals(Arrays.asList("First", "Second", "Third"), names);
+	}
+
+	@Test(expected = DecompilerRuntimeException.class)
+	public void testCyclicDependency() {
+		EnhancerPassManager passManager = new EnhancerPassManager();
+		passManager.register(new RecordingPass("First", "Second"));
+		passManager.register(new RecordingPass("Second", "First"));
+		run(passManager);
+	}
+
+	@Test(expected = DecompilerRuntimeException.class)
+	public void testUnknownDependency() {
+		EnhancerPassManager passManager = new EnhancerPassManager();
+		passManager.register(new RecordingPass("First", "Missing"));
+		passManager.getFingerprint();
+	}
+
+	@Test(expected = DecompilerRuntimeException.class)
+	public void testDuplicateRegistration() {
+		EnhancerPassManager passManager = new EnhancerPassManager();
+		passManager.register(new RecordingPass("First"));
+		passManager.register(new RecordingPass("First"));
+	}
+
+	@Test
+	public void testSetEnabled() {
+		EnhancerPassManager passManager = new EnhancerPassManager();
+		passManager.register(new RecordingPass("First"));
+		passManager.register(new RecordingPass("Second", "First"));
+		passManager.register(new RecordingPass("Third"));
+
+		passManager.setEnabled("First", false);
+		assertFalse(passManager.isEnabled("First"));
+		assertTrue(passManager.isEnabled("Second"));
+		run(passManager);
+		// the pass that depends on a disabled pass is skipped too
+		assertEquals(Arrays.asList("Third"), mRuns);
+		assertEquals("Third", passManager.getFingerprint());
+
+		passManager.setEnabled("First", true);
+		mRuns.clear();
+		run(passManager);
+		assertEquals(Arrays.asList("First", "Second", "Third"), mRuns);
+		assertEquals("First,Second,Third", passManager.getFingerprint());
+	}
+
+	@Test(expected = DecompilerRuntimeException.class)
+	public void testSetEnabled_unknownPass() {
+		new EnhancerPassManager().setEnabled("Missing", false);
+	}
+
+	@Test
+	public void testFingerprint() {
+		assertEquals("", new EnhancerPassManager().getFingerprint());
+		assertEquals("LoopEnhancer", EnhancerPassManager.createDefault().getFingerprint());
+	}
+
+	@Test
+	public void testFromConfiguration() {
+		assertEquals("LoopEnhancer", EnhancerPassManager.fromConfiguration(new Properties()).getFingerprint());
+
+		Properties configuration = new Properties();
+		configuration.setProperty(EnhancerPassManager.PASSES_KEY,
+				" " + ConfiguredPass.class.getName() + " ,, " + LoopEnhancer.class.getName());
+		assertEquals("ConfiguredPass,LoopEnhancer", EnhancerPassManager.fromConfiguration(configuration).getFingerprint());
+
+		configuration.setProperty(EnhancerPassManager.DISABLED_KEY, "LoopEnhancer");
+		EnhancerPassManager passManager = EnhancerPassManager.fromConfiguration(configuration);
+		assertFalse(passManager.isEnabled("LoopEnhancer"));
+		assertEquals("ConfiguredPass", passManager.getFingerprint());
+	}
+
+	@Test(expected = DecompilerRuntimeException.class)
+	public void testFromConfiguration_unknownClass() {
+		Properties configuration = new Properties();
+		configuration.setProperty(EnhancerPassManager.PASSES_KEY, "com.thesis.translator.MissingEnhancer");
+		EnhancerPassManager.fromConfiguration(configuration);
+	}
+
+	@Test(expected = DecompilerRuntimeException.class)
+	public void testFromConfiguration_notAnEnhancer() {
+		Properties configuration = new Properties();
+		configuration.setProperty(EnhancerPassManager.PASSES_KEY, String.class.getName());
+		EnhancerPassManager.fromConfiguration(configuration);
+	}
+
+	@Test(expected = DecompilerRuntimeException.class)
+	public void testFromConfiguration_unknownDisabledPass() {
+		Properties configuration = new Properties();
+		configuration.setProperty(EnhancerPassManager.DISABLED_KEY, "MissingEnhancer");
+		EnhancerPassManager.fromConfiguration(configuration);
+	}
+
+	private static void run(EnhancerPassManager passManager) {
+		passManager.run(new ExpressionStack(), new Stack<>());
+	}
+
+	/**
+	 * Pass that records its runs, with the given name and dependencies
+	 */
+	private class RecordingPass implements StackEnhancer {
+		private final String mName;
+		private final List<String> mDependencies;
+
+		RecordingPass(String name, String... dependencies) {
+			mName = name;
+			mDependencies = Arrays.asList(dependencies);
+		}
+
+		@Override
+		public int enhance(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+			mRuns.add(mName);
+			return 1;
+		}
+
+		@Override
+		public String getName() {
+			return mName;
+		}
+
+		@Override
+		public Collection<String> getDependencies() {
+			return mDependencies;
+		}
+	}
+
+	/**
+	 * Pass created from the configuration by its class name
+	 */
+	public static class ConfiguredPass implements StackEnhancer {
+		@Override
+		public int enhance(ExpressionStack expressionStack, Stack<ExpressionStack.Item> stack) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.thesis.translator;
+
+import com.thesis.file.Disassembler;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class MethodCacheTest {
+
+	@Rule
+	public TemporaryFolder mFolder = new TemporaryFolder();
+
+	private Disassembler mDisassembler;
+
+	@Before
+	public void setUp() throws Exception {
+		compileBean("FirstBean");
+		compileBean("SecondBean");
+		mDisassembler = Disassembler.createInstance(mFolder.getRoot().getPath());
+	}
+
+	@Test
+	public void testIdenticalAccessorsShareStatements() throws Exception {
+		String first = mDisassembler.decompileClassFile("FirstBean.class").getJavaCode();
+		String second = mDisassembler.decompileClassFile("SecondBean.class").getJavaCode();
+
+		MethodCache methodCache = new MethodCache();
+		mDisassembler.setMethodCache(methodCache);
+		assertEquals(first, mDisassembler.decompileClassFile("FirstBean.class").getJavaCode());
+		long misses = methodCache.getMisses();
+		assertEquals(second, mDisassembler.decompileClassFile("SecondBean.class").getJavaCode());
+
+		assertEquals(misses, methodCache.getMisses());
+		assertEquals(misses, methodCache.getHits());
+	}
+
+	@Test
+	public void testChangedPassesAreNotShared() throws Exception {
+		MethodCache methodCache = new MethodCache();
+		mDisassembler.setMethodCache(methodCache);
+		mDisassembler.decompileClassFile("FirstBean.class");
+		long misses = methodCache.getMisses();
+
+		mDisassembler.setPassManager(new EnhancerPassManager());
+		mDisassembler.decompileClassFile("FirstBean.class");
+		assertEquals(0, methodCache.getHits());
+		assertEquals(2 * misses, methodCache.getMisses());
+	}
+
+	/**
+	 * Compiles a class whose methods differ from the methods of the other beans only in the name of the class
+	 */
+	private void compileBean(String name) throws Exception {
+		File source = new File(mFolder.getRoot(), name + ".java");
+		String code = "public class " + name + " {\n"
+				+ "\tprivate int mValue;\n"
+				+ "\tpublic int getValue() {\n\t\treturn mValue;\n\t}\n"
+				+ "\tpublic void setValue(int value) {\n\t\tmValue = value;\n\t}\n"
+				+ "\tpublic int sum(int count) {\n\t\tint sum = 0;\n\t\tfor (int i = 0; i < count; i++) {\n\t\t\tsum += i;\n\t\t}\n\t\treturn sum;\n\t}\n"
+				+ "}\n";
+		Files.write(source.toPath(), code.getBytes(StandardCharsets.UTF_8));
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assertEquals("Compilation failed", 0, compiler.run(null, null, null, "-g", "-d", mFolder.getRoot().getPath(), source.getPath()));
+	}
+}
@@ -0,0 +1,7286 @@
+/**
+ * Generated: 1000 sequential loops and 20 nests of 50 loops
+ */
+public class GeneratedLoops {
+
+	int sequentialLoops(int n) {
+		int sum = 0;
+		int j = 0;
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 1) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 3) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 5) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 7) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 9) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 11) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 13) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 15) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 17) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 19) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 21) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 23) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 25) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 27) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 29) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 31) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 33) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 35) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 37) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 39) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 41) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 43) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 45) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 47) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 49) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 51) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 53) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 55) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 57) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 59) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 61) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 63) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 65) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 67) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 69) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 71) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 73) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 75) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 77) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 79) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 81) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 83) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 85) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 87) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 89) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 91) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 93) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 95) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 97) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 99) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 101) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 103) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 105) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 107) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 109) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 111) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 113) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 115) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 117) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 119) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 121) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 123) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 125) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 127) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 129) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 131) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 133) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 135) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 137) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 139) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 141) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 143) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 145) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 147) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 149) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 151) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 153) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 155) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 157) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 159) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 161) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 163) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 165) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 167) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 169) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 171) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 173) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 175) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 177) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 179) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 181) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 183) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 185) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 187) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 189) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 191) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 193) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 195) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 197) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 199) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 201) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 203) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 205) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 207) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 209) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 211) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 213) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 215) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 217) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 219) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 221) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 223) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 225) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 227) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 229) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 231) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 233) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 235) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 237) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 239) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 241) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 243) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 245) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 247) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 249) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 251) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 253) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 255) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 257) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 259) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 261) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 263) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 265) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 267) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 269) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 271) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 273) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 275) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 277) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 279) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 281) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 283) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 285) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 287) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 289) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 291) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 293) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 295) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 297) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 299) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 301) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 303) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 305) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 307) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 309) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 311) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 313) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 315) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 317) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 319) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 321) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 323) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 325) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 327) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 329) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 331) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 333) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 335) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 337) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 339) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 341) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 343) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 345) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 347) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 349) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 351) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 353) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 355) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 357) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 359) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 361) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 363) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 365) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 367) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 369) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 371) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 373) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 375) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 377) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 379) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 381) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 383) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 385) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 387) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 389) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 391) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 393) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 395) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 397) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 399) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 401) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 403) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 405) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 407) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 409) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 411) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 413) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 415) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 417) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 419) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 421) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 423) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 425) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 427) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 429) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 431) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 433) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 435) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 437) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 439) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 441) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 443) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 445) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 447) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 449) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 451) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 453) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 455) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 457) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 459) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 461) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 463) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 465) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 467) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 469) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 471) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 473) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 475) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 477) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 479) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 481) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 483) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 485) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 487) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 489) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 491) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 493) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 495) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 497) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 499) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 501) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 503) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 505) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 507) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 509) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 511) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 513) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 515) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 517) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 519) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 521) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 523) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 525) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 527) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 529) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 531) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 533) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 535) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 537) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 539) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 541) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 543) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 545) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 547) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 549) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 551) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 553) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 555) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 557) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 559) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 561) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 563) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 565) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 567) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 569) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 571) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 573) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 575) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 577) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 579) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 581) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 583) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 585) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 587) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 589) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 591) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 593) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 595) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 597) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 599) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 601) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 603) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 605) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 607) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 609) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 611) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 613) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 615) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 617) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 619) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 621) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 623) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 625) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 627) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 629) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 631) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 633) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 635) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 637) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 639) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 641) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 643) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 645) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 647) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 649) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 651) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 653) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 655) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 657) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 659) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 661) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 663) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 665) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 667) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 669) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 671) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 673) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 675) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 677) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 679) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 681) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 683) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 685) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 687) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 689) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 691) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 693) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 695) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 697) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 699) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 701) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 703) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 705) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 707) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 709) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 711) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 713) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 715) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 717) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 719) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 721) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 723) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 725) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 727) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 729) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 731) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 733) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 735) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 737) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 739) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 741) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 743) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 745) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 747) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 749) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 751) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 753) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 755) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 757) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 759) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 761) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 763) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 765) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 767) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 769) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 771) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 773) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 775) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 777) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 779) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 781) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 783) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 785) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 787) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 789) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 791) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 793) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 795) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 797) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 799) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 801) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 803) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 805) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 807) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 809) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 811) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 813) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 815) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 817) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 819) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 821) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 823) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 825) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 827) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 829) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 831) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 833) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 835) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 837) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 839) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 841) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 843) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 845) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 847) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 849) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 851) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 853) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 855) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 857) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 859) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 861) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 863) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 865) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 867) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 869) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 871) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 873) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 875) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 877) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 879) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 881) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 883) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 885) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 887) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 889) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 891) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 893) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 895) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 897) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 899) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 901) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 903) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 905) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 907) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 909) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 911) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 913) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 915) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 917) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 919) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 921) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 923) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 925) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 927) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 929) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 931) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 933) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 935) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 937) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 939) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 941) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 943) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 945) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 947) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 949) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 951) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 953) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 955) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 957) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 959) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 961) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 963) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 965) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 967) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 969) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 971) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 973) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 975) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 977) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 979) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 981) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 983) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 985) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 987) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 989) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 991) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 993) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 995) {
+				break;
+			}
+			sum += 2;
+		}
+		for (int i = 0; i < n; i++) {
+			sum += i;
+		}
+		j = 0;
+		while (j < n) {
+			j++;
+			if (j == 997) {
+				continue;
+			}
+			sum += j;
+		}
+		do {
+			sum--;
+			j--;
+		} while (j > n);
+		for (int i = 0; i < n; i++) {
+			if (sum > 999) {
+				break;
+			}
+			sum += 2;
+		}
+		return sum;
+	}
+
+	int nestedLoops(int n) {
+		int sum = 0;
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 0;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 1;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 2;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 3;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 4;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 5;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 6;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 7;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 8;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 9;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 10;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 11;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 12;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 13;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 14;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 15;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 16;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 17;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 18;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int i0 = 0; i0 < n; i0++) {
+			for (int i1 = 0; i1 < n; i1++) {
+				for (int i2 = 0; i2 < n; i2++) {
+					for (int i3 = 0; i3 < n; i3++) {
+						for (int i4 = 0; i4 < n; i4++) {
+							for (int i5 = 0; i5 < n; i5++) {
+								for (int i6 = 0; i6 < n; i6++) {
+									for (int i7 = 0; i7 < n; i7++) {
+										for (int i8 = 0; i8 < n; i8++) {
+											for (int i9 = 0; i9 < n; i9++) {
+												for (int i10 = 0; i10 < n; i10++) {
+													for (int i11 = 0; i11 < n; i11++) {
+														for (int i12 = 0; i12 < n; i12++) {
+															for (int i13 = 0; i13 < n; i13++) {
+																for (int i14 = 0; i14 < n; i14++) {
+																	for (int i15 = 0; i15 < n; i15++) {
+																		for (int i16 = 0; i16 < n; i16++) {
+																			for (int i17 = 0; i17 < n; i17++) {
+																				for (int i18 = 0; i18 < n; i18++) {
+																					for (int i19 = 0; i19 < n; i19++) {
+																						for (int i20 = 0; i20 < n; i20++) {
+																							for (int i21 = 0; i21 < n; i21++) {
+																								for (int i22 = 0; i22 < n; i22++) {
+																									for (int i23 = 0; i23 < n; i23++) {
+																										for (int i24 = 0; i24 < n; i24++) {
+																											for (int i25 = 0; i25 < n; i25++) {
+																												for (int i26 = 0; i26 < n; i26++) {
+																													for (int i27 = 0; i27 < n; i27++) {
+																														for (int i28 = 0; i28 < n; i28++) {
+																															for (int i29 = 0; i29 < n; i29++) {
+																																for (int i30 = 0; i30 < n; i30++) {
+																																	for (int i31 = 0; i31 < n; i31++) {
+																																		for (int i32 = 0; i32 < n; i32++) {
+																																			for (int i33 = 0; i33 < n; i33++) {
+																																				for (int i34 = 0; i34 < n; i34++) {
+																																					for (int i35 = 0; i35 < n; i35++) {
+																																						for (int i36 = 0; i36 < n; i36++) {
+																																							for (int i37 = 0; i37 < n; i37++) {
+																																								for (int i38 = 0; i38 < n; i38++) {
+																																									for (int i39 = 0; i39 < n; i39++) {
+																																										for (int i40 = 0; i40 < n; i40++) {
+																																											for (int i41 = 0; i41 < n; i41++) {
+																																												for (int i42 = 0; i42 < n; i42++) {
+																																													for (int i43 = 0; i43 < n; i43++) {
+																																														for (int i44 = 0; i44 < n; i44++) {
+																																															for (int i45 = 0; i45 < n; i45++) {
+																																																for (int i46 = 0; i46 < n; i46++) {
+																																																	for (int i47 = 0; i47 < n; i47++) {
+																																																		for (int i48 = 0; i48 < n; i48++) {
+																																																			for (int i49 = 0; i49 < n; i49++) {
+																																																				sum += 19;
+																																																			}
+																																																		}
+																																																	}
+																																																}
+																																															}
+																																														}
+																																													}
+																																												}
+																																											}
+																																										}
+																																									}
+																																								}
+																																							}
+																																						}
+																																					}
+																																				}
+																																			}
+																																		}
+																																	}
+																																}
+																															}
+																														}
+																													}
+																												}
+																											}
+																										}
+																									}
+																								}
+																							}
+																						}
+																					}
+																				}
+																			}
+																		}
+																	}
+																}
+															}
+														}
+													}
+												}
+											}
+										}
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,10588 @@
+public class GeneratedLoops {
+
+	public GeneratedLoops() {
+		super();
+	}
+
+	int sequentialLoops(int n) {
+		int i;
+		int sum = 0;
+		int j = 0;
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 1) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 3) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 5) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 7) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 9) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 11) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 13) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 15) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 17) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 19) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 21) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 23) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 25) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 27) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 29) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 31) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 33) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 35) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 37) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 39) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 41) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 43) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 45) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 47) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 49) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 51) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 53) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 55) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 57) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 59) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 61) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 63) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 65) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 67) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 69) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 71) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 73) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 75) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 77) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 79) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 81) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 83) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 85) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 87) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 89) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 91) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 93) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 95) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 97) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 99) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 101) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 103) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 105) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 107) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 109) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 111) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 113) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 115) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 117) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 119) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 121) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 123) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 125) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 127) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 129) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 131) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 133) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 135) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 137) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 139) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 141) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 143) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 145) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 147) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 149) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 151) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 153) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 155) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 157) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 159) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 161) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 163) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 165) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 167) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 169) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 171) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 173) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 175) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 177) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 179) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 181) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 183) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 185) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 187) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 189) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 191) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 193) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 195) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 197) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 199) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 201) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 203) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 205) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 207) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 209) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 211) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 213) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 215) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 217) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 219) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 221) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 223) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 225) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 227) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 229) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 231) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 233) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 235) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 237) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 239) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 241) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 243) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 245) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 247) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 249) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 251) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 253) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 255) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 257) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 259) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 261) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 263) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 265) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 267) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 269) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 271) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 273) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 275) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 277) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 279) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 281) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 283) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 285) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 287) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 289) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 291) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 293) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 295) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 297) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 299) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 301) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 303) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 305) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 307) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 309) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 311) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 313) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 315) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 317) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 319) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 321) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 323) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 325) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 327) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 329) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 331) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 333) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 335) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 337) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 339) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 341) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 343) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 345) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 347) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 349) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 351) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 353) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 355) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 357) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 359) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 361) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 363) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 365) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 367) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 369) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 371) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 373) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 375) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 377) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 379) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 381) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 383) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 385) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 387) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 389) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 391) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 393) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 395) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 397) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 399) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 401) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 403) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 405) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 407) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 409) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 411) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 413) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 415) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 417) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 419) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 421) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 423) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 425) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 427) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 429) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 431) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 433) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 435) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 437) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 439) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 441) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 443) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 445) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 447) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 449) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 451) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 453) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 455) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 457) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 459) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 461) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 463) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 465) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 467) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 469) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 471) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 473) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 475) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 477) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 479) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 481) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 483) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 485) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 487) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 489) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 491) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 493) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 495) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 497) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 499) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 501) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 503) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 505) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 507) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 509) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 511) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 513) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 515) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 517) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 519) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 521) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 523) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 525) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 527) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 529) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 531) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 533) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 535) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 537) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 539) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 541) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 543) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 545) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 547) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 549) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 551) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 553) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 555) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 557) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 559) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 561) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 563) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 565) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 567) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 569) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 571) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 573) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 575) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 577) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 579) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 581) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 583) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 585) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 587) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 589) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 591) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 593) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 595) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 597) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 599) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 601) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 603) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 605) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 607) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 609) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 611) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 613) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 615) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 617) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 619) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 621) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 623) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 625) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 627) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 629) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 631) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 633) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 635) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 637) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 639) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 641) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 643) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 645) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 647) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 649) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 651) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 653) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 655) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 657) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 659) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 661) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 663) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 665) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 667) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 669) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 671) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 673) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 675) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 677) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 679) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 681) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 683) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 685) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 687) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 689) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 691) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 693) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 695) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 697) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 699) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 701) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 703) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 705) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 707) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 709) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 711) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 713) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 715) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 717) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 719) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 721) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 723) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 725) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 727) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 729) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 731) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 733) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 735) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 737) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 739) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 741) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 743) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 745) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 747) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 749) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 751) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 753) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 755) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 757) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 759) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 761) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 763) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 765) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 767) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 769) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 771) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 773) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 775) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 777) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 779) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 781) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 783) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 785) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 787) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 789) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 791) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 793) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 795) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 797) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 799) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 801) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 803) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 805) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 807) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 809) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 811) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 813) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 815) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 817) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 819) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 821) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 823) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 825) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 827) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 829) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 831) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 833) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 835) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 837) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 839) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 841) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 843) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 845) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 847) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 849) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 851) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 853) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 855) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 857) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 859) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 861) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 863) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 865) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 867) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 869) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 871) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 873) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 875) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 877) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 879) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 881) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 883) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 885) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 887) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 889) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 891) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 893) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 895) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 897) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 899) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 901) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 903) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 905) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 907) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 909) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 911) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 913) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 915) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 917) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 919) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 921) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 923) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 925) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 927) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 929) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 931) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 933) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 935) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 937) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 939) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 941) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 943) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 945) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 947) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 949) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 951) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 953) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 955) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 957) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 959) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 961) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 963) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 965) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 967) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 969) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 971) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 973) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 975) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 977) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 979) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 981) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 983) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 985) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 987) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 989) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 991) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 993) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 995) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		i = 0;
+		while (i < n) {
+			sum = sum + i;
+			i += 1;
+		}
+		j = 0;
+		while (j < n) {
+			j += 1;
+			if (j == 997) {
+				continue;
+			}
+			sum = sum + j;
+		}
+		do {
+			sum += -1;
+			j += -1;
+		} while (j > n)
+		i = 0;
+		while (i < n) {
+			if (sum > 999) {
+				break;
+			} else {
+				sum += 2;
+				i += 1;
+			}
+		}
+		return sum;
+	}
+
+	int nestedLoops(int n) {
+		int i0;
+		int i1;
+		int i2;
+		int i3;
+		int i4;
+		int i5;
+		int i6;
+		int i7;
+		int i8;
+		int i9;
+		int i10;
+		int i11;
+		int i12;
+		int i13;
+		int i14;
+		int i15;
+		int i16;
+		int i17;
+		int i18;
+		int i19;
+		int i20;
+		int i21;
+		int i22;
+		int i23;
+		int i24;
+		int i25;
+		int i26;
+		int i27;
+		int i28;
+		int i29;
+		int i30;
+		int i31;
+		int i32;
+		int i33;
+		int i34;
+		int i35;
+		int i36;
+		int i37;
+		int i38;
+		int i39;
+		int i40;
+		int i41;
+		int i42;
+		int i43;
+		int i44;
+		int i45;
+		int i46;
+		int i47;
+		int i48;
+		int i49;
+		int sum = 0;
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 0;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 1;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 2;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 3;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 4;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 5;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 6;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 7;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 8;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 9;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 10;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 11;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 12;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 13;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 14;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 15;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 16;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 17;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 18;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		i0 = 0;
+		while (i0 < n) {
+			i1 = 0;
+			while (i1 < n) {
+				i2 = 0;
+				while (i2 < n) {
+					i3 = 0;
+					while (i3 < n) {
+						i4 = 0;
+						while (i4 < n) {
+							i5 = 0;
+							while (i5 < n) {
+								i6 = 0;
+								while (i6 < n) {
+									i7 = 0;
+									while (i7 < n) {
+										i8 = 0;
+										while (i8 < n) {
+											i9 = 0;
+											while (i9 < n) {
+												i10 = 0;
+												while (i10 < n) {
+													i11 = 0;
+													while (i11 < n) {
+														i12 = 0;
+														while (i12 < n) {
+															i13 = 0;
+															while (i13 < n) {
+																i14 = 0;
+																while (i14 < n) {
+																	i15 = 0;
+																	while (i15 < n) {
+																		i16 = 0;
+																		while (i16 < n) {
+																			i17 = 0;
+																			while (i17 < n) {
+																				i18 = 0;
+																				while (i18 < n) {
+																					i19 = 0;
+																					while (i19 < n) {
+																						i20 = 0;
+																						while (i20 < n) {
+																							i21 = 0;
+																							while (i21 < n) {
+																								i22 = 0;
+																								while (i22 < n) {
+																									i23 = 0;
+																									while (i23 < n) {
+																										i24 = 0;
+																										while (i24 < n) {
+																											i25 = 0;
+																											while (i25 < n) {
+																												i26 = 0;
+																												while (i26 < n) {
+																													i27 = 0;
+																													while (i27 < n) {
+																														i28 = 0;
+																														while (i28 < n) {
+																															i29 = 0;
+																															while (i29 < n) {
+																																i30 = 0;
+																																while (i30 < n) {
+																																	i31 = 0;
+																																	while (i31 < n) {
+																																		i32 = 0;
+																																		while (i32 < n) {
+																																			i33 = 0;
+																																			while (i33 < n) {
+																																				i34 = 0;
+																																				while (i34 < n) {
+																																					i35 = 0;
+																																					while (i35 < n) {
+																																						i36 = 0;
+																																						while (i36 < n) {
+																																							i37 = 0;
+																																							while (i37 < n) {
+																																								i38 = 0;
+																																								while (i38 < n) {
+																																									i39 = 0;
+																																									while (i39 < n) {
+																																										i40 = 0;
+																																										while (i40 < n) {
+																																											i41 = 0;
+																																											while (i41 < n) {
+																																												i42 = 0;
+																																												while (i42 < n) {
+																																													i43 = 0;
+																																													while (i43 < n) {
+																																														i44 = 0;
+																																														while (i44 < n) {
+																																															i45 = 0;
+																																															while (i45 < n) {
+																																																i46 = 0;
+																																																while (i46 < n) {
+																																																	i47 = 0;
+																																																	while (i47 < n) {
+																																																		i48 = 0;
+																																																		while (i48 < n) {
+																																																			i49 = 0;
+																																																			while (i49 < n) {
+																																																				sum += 19;
+																																																				i49 += 1;
+																																																			}
+																																																			i48 += 1;
+																																																		}
+																																																		i47 += 1;
+																																																	}
+																																																	i46 += 1;
+																																																}
+																																																i45 += 1;
+																																															}
+																																															i44 += 1;
+																																														}
+																																														i43 += 1;
+																																													}
+																																													i42 += 1;
+																																												}
+																																												i41 += 1;
+																																											}
+																																											i40 += 1;
+																																										}
+																																										i39 += 1;
+																																									}
+																																									i38 += 1;
+																																								}
+																																								i37 += 1;
+																																							}
+																																							i36 += 1;
+																																						}
+																																						i35 += 1;
+																																					}
+																																					i34 += 1;
+																																				}
+																																				i33 += 1;
+																																			}
+																																			i32 += 1;
+																																		}
+																																		i31 += 1;
+																																	}
+																																	i30 += 1;
+																																}
+																																i29 += 1;
+																															}
+																															i28 += 1;
+																														}
+																														i27 += 1;
+																													}
+																													i26 += 1;
+																												}
+																												i25 += 1;
+																											}
+																											i24 += 1;
+																										}
+																										i23 += 1;
+																									}
+																									i22 += 1;
+																								}
+																								i21 += 1;
+																							}
+																							i20 += 1;
+																						}
+																						i19 += 1;
+																					}
+																					i18 += 1;
+																				}
+																				i17 += 1;
+																			}
+																			i16 += 1;
+																		}
+																		i15 += 1;
+																	}
+																	i14 += 1;
+																}
+																i13 += 1;
+															}
+															i12 += 1;
+														}
+														i11 += 1;
+													}
+													i10 += 1;
+												}
+												i9 += 1;
+											}
+											i8 += 1;
+										}
+										i7 += 1;
+									}
+									i6 += 1;
+								}
+								i5 += 1;
+							}
+							i4 += 1;
+						}
+						i3 += 1;
+					}
+					i2 += 1;
+				}
+				i1 += 1;
+			}
+			i0 += 1;
+		}
+		return sum;
+	}
+}